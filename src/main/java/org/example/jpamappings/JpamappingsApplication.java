@@ -2,8 +2,10 @@ package org.example.jpamappings;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC ConnectionFactory 자동 설정 제외 - 빈이 생기면 JDBC DataSource 자동 설정이 꺼짐 (reactive.ReactiveReadConfig 참고)
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class JpamappingsApplication {
 
     public static void main(String[] args) {
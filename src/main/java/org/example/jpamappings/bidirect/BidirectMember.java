@@ -0,0 +1,62 @@
+package org.example.jpamappings.bidirect;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.example.jpamappings.cdc.CaptureChanges;
+
+@Getter
+@NoArgsConstructor
+@Entity
+@CaptureChanges
+@Table(name = "MEMBER")
+/**
+ * 양방향 다대일(N:1) 연관관계에서 "Many" 쪽이자 연관관계의 주인인 Member 엔티티
+ * - TEAM_ID 외래키는 이 엔티티의 bidirectTeam 필드로만 관리됨
+ * - 팀 변경은 BidirectTeam.addMember/removeMember로 (양쪽 참조와 멤버 수를 함께 맞춤)
+ */
+public class BidirectMember {
+
+    /**
+     * 멤버의 기본키 (Primary Key)
+     * - IDENTITY 전략으로 데이터베이스가 자동으로 ID 생성
+     * - 데이터베이스의 MEMBER_ID 컬럼과 매핑
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "MEMBER_ID")
+    private Long memberId;
+
+    /**
+     * 멤버의 사용자명
+     * - 데이터베이스의 USERNAME 컬럼과 매핑
+     */
+    @Setter
+    @Column(name = "USERNAME")
+    private String username;
+
+    /**
+     * 멤버가 소속된 팀 (연관관계의 주인)
+     * - FetchType.LAZY: 지연 로딩
+     * - @JoinColumn: 외래키 컬럼명을 TEAM_ID로 지정
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "TEAM_ID")
+    private BidirectTeam bidirectTeam;
+
+    /**
+     * 양방향 멤버 생성자
+     * @param username 멤버의 사용자명
+     */
+    public BidirectMember(String username) {
+        this.username = username;
+    }
+
+    /**
+     * 외래키 쪽 참조만 변경 (BidirectTeam의 편의 메서드에서만 호출)
+     */
+    void assignTeam(BidirectTeam bidirectTeam) {
+        this.bidirectTeam = bidirectTeam;
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.jpamappings.bidirect;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.example.jpamappings.cdc.CaptureChanges;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.LazyCollection;
+import org.hibernate.annotations.LazyCollectionOption;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@Entity
+@CaptureChanges
+@Table(name = "TEAM")
+@NamedQueries({
+        @NamedQuery(name = BidirectTeam.RECOUNT_MEMBERS,
+                query = "UPDATE BidirectTeam t SET t.memberCount = "
+                        + "(SELECT COUNT(m) FROM BidirectMember m WHERE m.bidirectTeam = t)")
+})
+/**
+ * 양방향 일대다(1:N) 연관관계에서 "One" 쪽을 담당하는 Team 엔티티
+ * - members는 연관관계의 주인이 아님 (mappedBy, 외래키는 Member의 TEAM_ID)
+ * - EXTRA 지연 컬렉션: size(), contains()가 컬렉션을 초기화하지 않고 COUNT / 존재 확인 SQL 한 번으로 처리
+ * - memberCount: 비정규화한 멤버 수 (MEMBER_COUNT 컬럼) → 팀만 읽으면 SQL 추가 없이 O(1)
+ * - MEMBER_COUNT는 MemberCountListener가 멤버 flush 때 원자적 UPDATE(±1)로 갱신 (TEAM 행을 버전 관리하지 않음)
+ *   → 같은 팀에 동시에 멤버를 추가해도 낙관적 락 충돌 없음
+ * - 양쪽 참조는 addMember/removeMember로만 바꿔야 일관성이 유지됨
+ */
+public class BidirectTeam {
+
+    /**
+     * 이름 있는 쿼리
+     * - RECOUNT_MEMBERS: MEMBER_COUNT를 실제 값으로 맞추는 벌크 UPDATE
+     *   BidirectMember가 아닌 경로(UnidirectMember, IdMappingMember, BulkRemover, JDBC/CSV 적재)로 멤버를 바꾼 뒤 필수
+     */
+    public static final String RECOUNT_MEMBERS = "BidirectTeam.recountMembers";
+
+    /**
+     * 팀의 기본키 (Primary Key)
+     * - IDENTITY 전략으로 데이터베이스가 자동으로 ID 생성
+     * - 데이터베이스의 TEAM_ID 컬럼과 매핑
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "TEAM_ID")
+    private Long teamId;
+
+    /**
+     * 팀의 이름
+     * - 데이터베이스의 NAME 컬럼과 매핑
+     */
+    @Setter
+    @Column(name = "NAME")
+    private String name;
+
+    /**
+     * 비정규화한 멤버 수
+     * - INSERT 때는 DB 기본값 0, 이후 DB 값은 MemberCountListener만 바꿈 (insertable/updatable = false)
+     * - 필드는 같은 영속성 컨텍스트에서 바로 보이도록 addMember/removeMember가 함께 증감
+     */
+    @Column(name = "MEMBER_COUNT", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private long memberCount;
+
+    /**
+     * 팀 소속 멤버 (읽기 전용 쪽, 외래키 관리는 BidirectMember.bidirectTeam)
+     * - EXTRA: size()/contains()/isEmpty()는 SQL로 처리, 순회할 때만 전체 초기화
+     * - 추가는 초기화 없이 큐에 쌓였다가 필요할 때 반영됨 (inverse bag)
+     */
+    @Getter(AccessLevel.NONE)
+    @OneToMany(mappedBy = "bidirectTeam")
+    @LazyCollection(LazyCollectionOption.EXTRA)
+    private List<BidirectMember> members = new ArrayList<>();
+
+    /**
+     * 양방향 팀 생성자
+     * @param name 팀의 이름
+     */
+    public BidirectTeam(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 멤버 추가 - 양쪽 참조와 memberCount를 함께 갱신
+     * - 다른 팀 소속이면 기존 팀에서 먼저 제거
+     * @param member 추가할 멤버
+     */
+    public void addMember(BidirectMember member) {
+        if (isSameTeam(member.getBidirectTeam())) {
+            return;
+        }
+        if (member.getBidirectTeam() != null) {
+            member.getBidirectTeam().removeMember(member);
+        }
+        member.assignTeam(this);
+        members.add(member);
+        memberCount++;
+    }
+
+    /**
+     * 멤버 제거 - 양쪽 참조와 memberCount를 함께 갱신
+     * - 컬렉션이 아직 초기화되지 않았으면 초기화하지 않음 (다음 조회 시 DB 기준으로 읽힘)
+     * @param member 제거할 멤버
+     */
+    public void removeMember(BidirectMember member) {
+        if (!isSameTeam(member.getBidirectTeam())) {
+            return;
+        }
+        member.assignTeam(null);
+        if (Hibernate.isInitialized(members)) {
+            members.remove(member);
+        }
+        memberCount--;
+    }
+
+    /**
+     * 멤버가 참조하는 팀이 이 팀인지 (식별자로 비교)
+     * - 멤버를 따로 로딩하면 팀 참조는 프록시이고, 프록시를 통해 호출된 메서드 안의 this는 실제 객체이므로 ==로는 같지 않음
+     * - 프록시의 getTeamId()는 프록시를 초기화하지 않음
+     */
+    private boolean isSameTeam(BidirectTeam other) {
+        if (other == null) {
+            return false;
+        }
+        return other == this || (teamId != null && teamId.equals(other.getTeamId()));
+    }
+
+    /**
+     * 멤버 수 (EXTRA 지연 컬렉션이면 COUNT SQL 한 번, 비정규화 값은 getMemberCount())
+     */
+    public int countMembers() {
+        return members.size();
+    }
+
+    /**
+     * 소속 여부 (EXTRA 지연 컬렉션이면 존재 확인 SQL 한 번)
+     */
+    public boolean hasMember(BidirectMember member) {
+        return members.contains(member);
+    }
+
+    /**
+     * 멤버 목록 (순회하면 전체 멤버를 한 번에 로딩, 수정은 addMember/removeMember로)
+     */
+    public List<BidirectMember> getMembers() {
+        return Collections.unmodifiableList(members);
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.jpamappings.bidirect;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+/**
+ * 양방향 팀 멤버 수 설정
+ * - SessionFactory의 이벤트 리스너 레지스트리에 MemberCountListener를 추가
+ */
+public class MemberCountConfig {
+
+    public MemberCountConfig(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        MemberCountListener listener = new MemberCountListener();
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+    }
+}
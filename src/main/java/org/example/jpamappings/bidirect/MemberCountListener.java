@@ -0,0 +1,95 @@
+package org.example.jpamappings.bidirect;
+
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * BidirectMember의 INSERT/UPDATE/DELETE가 DB에 반영될 때 TEAM.MEMBER_COUNT를 원자적으로 증감하는 리스너
+ * - UPDATE team SET member_count = member_count ± 1 → 같은 팀에 동시에 멤버를 추가해도 덮어쓰거나 충돌하지 않음
+ * - 멤버 SQL과 같은 JDBC 커넥션으로 실행하므로 같은 트랜잭션에서 함께 커밋/롤백됨
+ * - 기준은 DB에 반영되는 팀 변경(이전 상태 → 새 상태)이므로 편의 메서드를 거치지 않은 em.remove()도 반영됨
+ * - 팀 이동은 팀 ID 오름차순으로 갱신해 반대 방향 이동끼리의 교착을 줄임
+ * - 다른 매핑(UnidirectMember, IdMappingMember), JPQL 벌크 연산, JDBC로 바꾼 멤버는 반영되지 않음
+ *   → 그 뒤에는 BidirectTeam.RECOUNT_MEMBERS 실행 필요
+ */
+public class MemberCountListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    static final String ADJUST_SQL = "UPDATE team SET member_count = member_count + ? WHERE team_id = ?";
+
+    private static final String TEAM_PROPERTY = "bidirectTeam";
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (isMember(event.getPersister())) {
+            move(event.getSession(), null, teamId(event.getPersister(), event.getState()));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        // 이전 상태가 없으면(분리된 엔티티를 직접 UPDATE) 변경 전 팀을 알 수 없음 → RECOUNT_MEMBERS로 맞춤
+        if (isMember(event.getPersister()) && event.getOldState() != null) {
+            move(event.getSession(), teamId(event.getPersister(), event.getOldState()),
+                    teamId(event.getPersister(), event.getState()));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (isMember(event.getPersister())) {
+            move(event.getSession(), teamId(event.getPersister(), event.getDeletedState()), null);
+        }
+    }
+
+    /**
+     * 커밋 이후가 아닌 flush 시점에 갱신해야 같은 트랜잭션에 포함됨
+     */
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static boolean isMember(EntityPersister persister) {
+        return persister.getMappedClass() == BidirectMember.class;
+    }
+
+    /**
+     * 상태 배열의 팀 참조에서 팀 ID (프록시여도 getTeamId()는 초기화하지 않음)
+     */
+    private static Long teamId(EntityPersister persister, Object[] state) {
+        Object team = state[persister.getEntityMetamodel().getPropertyIndex(TEAM_PROPERTY)];
+        return team == null ? null : ((BidirectTeam) team).getTeamId();
+    }
+
+    private static void move(EventSource session, Long from, Long to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        session.doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(ADJUST_SQL)) {
+                if (from != null && (to == null || from < to)) {
+                    add(ps, from, -1);
+                    add(ps, to, 1);
+                } else {
+                    add(ps, to, 1);
+                    add(ps, from, -1);
+                }
+                ps.executeBatch();
+            }
+        });
+    }
+
+    private static void add(PreparedStatement ps, Long teamId, long delta) throws SQLException {
+        if (teamId == null) {
+            return;
+        }
+        ps.setLong(1, delta);
+        ps.setLong(2, teamId);
+        ps.addBatch();
+    }
+}
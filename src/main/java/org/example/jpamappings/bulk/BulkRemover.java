@@ -0,0 +1,211 @@
+package org.example.jpamappings.bulk;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.example.jpamappings.bidirect.BidirectMember;
+import org.example.jpamappings.bidirect.BidirectTeam;
+import org.example.jpamappings.cdc.CaptureChanges;
+import org.example.jpamappings.cdc.ChangeOperation;
+import org.example.jpamappings.hr.Department;
+import org.example.jpamappings.hr.Employees;
+import org.example.jpamappings.hr.JobHistory;
+import org.example.jpamappings.idmapping.IdMappingMember;
+import org.example.jpamappings.idmapping.IdMappingTeam;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+@Slf4j
+@Component
+/**
+ * 팀/부서와 그에 딸린 행을 집합 단위 SQL로 일괄 삭제
+ * - 영속성 전이(cascade)가 없는 매핑에서 엔티티를 하나씩 로딩/삭제하는 대신 외래키 순서대로 벌크 DELETE/UPDATE 실행
+ *   (팀: MEMBER → TEAM, 부서: EMPLOYEES 재배치 → JOB_HISTORY → DEPARTMENTS)
+ * - 벌크 연산은 영속성 컨텍스트를 거치지 않으므로, 실행 전에 flush하고 실행 후 영향받은 관리 엔티티를 detach
+ *   (같은 테이블을 쓰는 Unidirect/IdMapping/Bidirect 엔티티 모두 대상)
+ * - 2차 캐시를 켜면 해당 엔티티/컬렉션 영역도 비움 (현재 설정에서는 2차 캐시가 없어 아무 일도 하지 않음)
+ * - 벌크 연산은 CDC 리스너를 거치지 않으므로, 삭제/변경 전에 INSERT … SELECT로 outbox 행을 직접 기록
+ *   (MEMBER/TEAM 변경은 UnidirectMember/UnidirectTeam 이름으로 기록)
+ * - 호출자의 트랜잭션이 있으면 합류, 없으면 새 트랜잭션에서 실행
+ */
+public class BulkRemover {
+
+    private static final String OUTBOX_INSERT_SELECT =
+            "INSERT INTO outbox_event (entity_name, entity_id, operation, changed_columns, created_at) "
+                    + "SELECT :entityName, CAST(%s AS VARCHAR(100)), :operation, :columns, CURRENT_TIMESTAMP FROM %s";
+
+    private final EntityManager em;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate tx;
+
+    public BulkRemover(EntityManager em, EntityManagerFactory entityManagerFactory,
+                       PlatformTransactionManager transactionManager) {
+        this.em = em;
+        this.entityManagerFactory = entityManagerFactory;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 팀과 소속 멤버 전부를 삭제
+     * @param teamId 삭제할 팀 ID
+     * @return 삭제 결과
+     */
+    public TeamRemoval removeTeam(Long teamId) {
+        Objects.requireNonNull(teamId, "teamId");
+        TeamRemoval removal = tx.execute(status -> {
+            em.flush();
+            capture(UnidirectMember.class, ChangeOperation.DELETE, "",
+                    "member_id", "member WHERE team_id = :id", teamId);
+            capture(UnidirectTeam.class, ChangeOperation.DELETE, "",
+                    "team_id", "team WHERE team_id = :id", teamId);
+
+            int members = em.createQuery("DELETE FROM UnidirectMember m WHERE m.unidirectTeam.teamId = :teamId")
+                    .setParameter("teamId", teamId)
+                    .executeUpdate();
+            int teams = em.createQuery("DELETE FROM UnidirectTeam t WHERE t.teamId = :teamId")
+                    .setParameter("teamId", teamId)
+                    .executeUpdate();
+
+            detachIf(UnidirectMember.class, m -> m.getUnidirectTeam() != null
+                    && teamId.equals(m.getUnidirectTeam().getTeamId()));
+            detachIf(IdMappingMember.class, m -> teamId.equals(m.getTeamId()));
+            detachIf(BidirectMember.class, m -> m.getBidirectTeam() != null
+                    && teamId.equals(m.getBidirectTeam().getTeamId()));
+            detach(UnidirectTeam.class, teamId);
+            detach(IdMappingTeam.class, teamId);
+            detach(BidirectTeam.class, teamId);
+            return new TeamRemoval(teamId, teams > 0, members);
+        });
+
+        CacheImplementor cache = cache();
+        for (Class<?> team : List.of(UnidirectTeam.class, IdMappingTeam.class, BidirectTeam.class)) {
+            cache.evictEntityData(team, teamId);
+        }
+        for (Class<?> member : List.of(UnidirectMember.class, IdMappingMember.class, BidirectMember.class)) {
+            cache.evictEntityData(member);
+        }
+        cache.evictCollectionData(BidirectTeam.class.getName() + ".members", teamId);
+        log.debug("removed team {} with {} members", teamId, removal.membersDeleted());
+        return removal;
+    }
+
+    /**
+     * 부서를 삭제 - 소속 직원은 다른 부서로 옮기고, 부서의 JOB_HISTORY 행은 삭제
+     * @param departmentId 삭제할 부서 ID
+     * @param reassignTo 직원을 옮길 부서 ID (null이면 부서 미지정으로)
+     * @return 삭제 결과
+     * @throws IllegalArgumentException 옮길 부서가 삭제할 부서와 같거나 존재하지 않을 때
+     */
+    public DepartmentRemoval removeDepartment(Integer departmentId, Integer reassignTo) {
+        Objects.requireNonNull(departmentId, "departmentId");
+        if (departmentId.equals(reassignTo)) {
+            throw new IllegalArgumentException("cannot reassign employees to the department being removed: "
+                    + departmentId);
+        }
+        DepartmentRemoval removal = tx.execute(status -> {
+            em.flush();
+            if (reassignTo != null && em.find(Department.class, reassignTo) == null) {
+                throw new IllegalArgumentException("no department to reassign employees to: " + reassignTo);
+            }
+            capture(Employees.class, ChangeOperation.UPDATE, "department_id",
+                    "employee_id", "employees WHERE department_id = :id", departmentId);
+            capture(Department.class, ChangeOperation.DELETE, "",
+                    "department_id", "departments WHERE department_id = :id", departmentId);
+
+            int employees = em.createQuery(
+                            "UPDATE Employees e SET e.departmentId = :reassignTo WHERE e.departmentId = :departmentId")
+                    .setParameter("reassignTo", reassignTo)
+                    .setParameter("departmentId", departmentId)
+                    .executeUpdate();
+            int jobHistory = em.createQuery("DELETE FROM JobHistory j WHERE j.departmentId = :departmentId")
+                    .setParameter("departmentId", departmentId)
+                    .executeUpdate();
+            int departments = em.createQuery("DELETE FROM Department d WHERE d.departmentId = :departmentId")
+                    .setParameter("departmentId", departmentId)
+                    .executeUpdate();
+
+            detachIf(Employees.class, e -> departmentId.equals(e.getDepartmentId()));
+            detachIf(JobHistory.class, j -> departmentId.equals(j.getDepartmentId()));
+            detach(Department.class, departmentId);
+            return new DepartmentRemoval(departmentId, reassignTo, departments > 0, employees, jobHistory);
+        });
+
+        CacheImplementor cache = cache();
+        cache.evictEntityData(Department.class, departmentId);
+        cache.evictEntityData(Employees.class);
+        cache.evictEntityData(JobHistory.class);
+        log.debug("removed department {} (employees reassigned to {}: {}, job history deleted: {})",
+                departmentId, reassignTo, removal.employeesReassigned(), removal.jobHistoryDeleted());
+        return removal;
+    }
+
+    /**
+     * 벌크 연산 대상 행을 outbox에 기록 (CDC 대상 엔티티만)
+     * @param idColumn 엔티티 ID 컬럼
+     * @param fromWhere 대상 행을 고르는 FROM … WHERE 절 (파라미터 :id)
+     */
+    private void capture(Class<?> entityClass, ChangeOperation operation, String columns,
+                         String idColumn, String fromWhere, Object id) {
+        if (!entityClass.isAnnotationPresent(CaptureChanges.class)) {
+            return;
+        }
+        em.createNativeQuery(OUTBOX_INSERT_SELECT.formatted(idColumn, fromWhere))
+                .setParameter("entityName", entityClass.getSimpleName())
+                .setParameter("operation", operation.name())
+                .setParameter("columns", columns)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    /**
+     * 영속성 컨텍스트에서 조건에 맞는 관리 엔티티를 detach (컨텍스트 크기만큼만 순회, DB 조회 없음)
+     */
+    private <T> void detachIf(Class<T> type, Predicate<T> affected) {
+        List<T> matches = new ArrayList<>();
+        for (Map.Entry<Object, EntityEntry> entry : persistenceContext().reentrantSafeEntityEntries()) {
+            if (type.isInstance(entry.getKey()) && affected.test(type.cast(entry.getKey()))) {
+                matches.add(type.cast(entry.getKey()));
+            }
+        }
+        matches.forEach(em::detach);
+    }
+
+    /**
+     * ID로 관리 엔티티 또는 초기화되지 않은 프록시를 detach
+     */
+    private void detach(Class<?> type, Object id) {
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        EntityKey key = session.generateEntityKey(id, session.getEntityPersister(type.getName(), null));
+        PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+        Object entity = persistenceContext.getEntity(key);
+        if (entity == null) {
+            entity = persistenceContext.getProxy(key);
+        }
+        if (entity != null) {
+            em.detach(entity);
+        }
+    }
+
+    private PersistenceContext persistenceContext() {
+        return em.unwrap(SessionImplementor.class).getPersistenceContextInternal();
+    }
+
+    private CacheImplementor cache() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.jpamappings.bulk;
+
+/**
+ * 부서 일괄 삭제 결과
+ * @param departmentId 삭제 대상 부서 ID
+ * @param reassignedTo 소속 직원을 옮긴 부서 ID (null이면 부서 미지정)
+ * @param departmentDeleted 부서 행이 실제로 삭제됐는지 여부 (없는 부서면 false)
+ * @param employeesReassigned 다른 부서로 옮긴 직원 수
+ * @param jobHistoryDeleted 삭제된 JOB_HISTORY 행 수
+ */
+public record DepartmentRemoval(Integer departmentId,
+                                Integer reassignedTo,
+                                boolean departmentDeleted,
+                                int employeesReassigned,
+                                int jobHistoryDeleted) {
+}
@@ -0,0 +1,10 @@
+package org.example.jpamappings.bulk;
+
+/**
+ * 팀 일괄 삭제 결과
+ * @param teamId 삭제 대상 팀 ID
+ * @param teamDeleted 팀 행이 실제로 삭제됐는지 여부 (없는 팀이면 false)
+ * @param membersDeleted 함께 삭제된 MEMBER 행 수
+ */
+public record TeamRemoval(Long teamId, boolean teamDeleted, int membersDeleted) {
+}
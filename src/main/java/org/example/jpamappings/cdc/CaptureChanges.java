@@ -0,0 +1,16 @@
+package org.example.jpamappings.cdc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 변경 데이터 캡처(CDC) 대상 엔티티 표시 어노테이션
+ * - 이 어노테이션이 붙은 엔티티의 INSERT/UPDATE/DELETE만 outbox에 기록됨
+ * - 엔티티 ID는 String.valueOf()로 저장되므로 단일 값 ID를 가진 엔티티에 사용
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CaptureChanges {
+}
@@ -0,0 +1,29 @@
+package org.example.jpamappings.cdc;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+/**
+ * CDC 설정
+ * - SessionFactory의 이벤트 리스너 레지스트리에 ChangeCaptureListener를 추가
+ * - OutboxRelay의 주기적 폴링을 위해 스케줄링 활성화
+ */
+public class ChangeCaptureConfig {
+
+    public ChangeCaptureConfig(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        ChangeCaptureListener listener = new ChangeCaptureListener();
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+    }
+}
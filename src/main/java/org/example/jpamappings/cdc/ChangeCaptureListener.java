@@ -0,0 +1,110 @@
+package org.example.jpamappings.cdc;
+
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate 사후 이벤트(post-insert/update/delete)를 outbox 테이블에 기록하는 리스너
+ * - @CaptureChanges가 붙은 엔티티만 대상
+ * - 엔티티 SQL과 같은 JDBC 커넥션으로 INSERT 하므로 같은 트랜잭션에서 함께 커밋/롤백됨
+ * - 엔티티 전체 상태 대신 (엔티티, ID, 변경 컬럼)만 남겨 outbox 행을 작게 유지
+ * - JPQL 벌크 연산이나 네이티브 SQL은 이벤트가 발생하지 않으므로 캡처되지 않음
+ */
+public class ChangeCaptureListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    static final String INSERT_SQL =
+            "INSERT INTO outbox_event (entity_name, entity_id, operation, changed_columns, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    /**
+     * 엔티티 이름별 캡처 대상 여부 캐시 (이벤트마다 어노테이션 조회하지 않도록)
+     */
+    private final Map<String, Boolean> captured = new ConcurrentHashMap<>();
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        EntityPersister persister = event.getPersister();
+        if (!isCaptured(persister)) {
+            return;
+        }
+        Object[] state = event.getState();
+        List<String> columns = new ArrayList<>();
+        for (int i = 0; i < state.length; i++) {
+            if (state[i] != null) {
+                columns.addAll(columnNames(persister, i));
+            }
+        }
+        append(event.getSession(), persister, event.getId(), ChangeOperation.INSERT, columns);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        EntityPersister persister = event.getPersister();
+        if (!isCaptured(persister)) {
+            return;
+        }
+        int[] dirty = event.getDirtyProperties();
+        List<String> columns = new ArrayList<>();
+        if (dirty != null) {
+            for (int index : dirty) {
+                columns.addAll(columnNames(persister, index));
+            }
+        }
+        append(event.getSession(), persister, event.getId(), ChangeOperation.UPDATE, columns);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        EntityPersister persister = event.getPersister();
+        if (!isCaptured(persister)) {
+            return;
+        }
+        append(event.getSession(), persister, event.getId(), ChangeOperation.DELETE, List.of());
+    }
+
+    /**
+     * 커밋 이후가 아닌 flush 시점에 기록해야 같은 트랜잭션에 포함됨
+     */
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private boolean isCaptured(EntityPersister persister) {
+        return captured.computeIfAbsent(persister.getEntityName(),
+                name -> persister.getMappedClass().isAnnotationPresent(CaptureChanges.class));
+    }
+
+    private List<String> columnNames(EntityPersister persister, int propertyIndex) {
+        if (persister instanceof AbstractEntityPersister aep) {
+            return Arrays.asList(aep.getPropertyColumnNames(propertyIndex));
+        }
+        return List.of(persister.getPropertyNames()[propertyIndex]);
+    }
+
+    private void append(EventSource session, EntityPersister persister, Object id,
+                        ChangeOperation operation, List<String> columns) {
+        String entityName = persister.getMappedClass().getSimpleName();
+        session.doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+                ps.setString(1, entityName);
+                ps.setString(2, String.valueOf(id));
+                ps.setString(3, operation.name());
+                ps.setString(4, String.join(",", columns));
+                ps.setTimestamp(5, Timestamp.from(Instant.now()));
+                ps.executeUpdate();
+            }
+        });
+    }
+}
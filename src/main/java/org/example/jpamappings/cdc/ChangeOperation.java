@@ -0,0 +1,10 @@
+package org.example.jpamappings.cdc;
+
+/**
+ * outbox에 기록되는 변경 종류
+ */
+public enum ChangeOperation {
+    INSERT,
+    UPDATE,
+    DELETE
+}
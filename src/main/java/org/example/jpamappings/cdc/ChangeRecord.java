@@ -0,0 +1,30 @@
+package org.example.jpamappings.cdc;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * outbox 한 행을 나타내는 변경 레코드
+ * @param sequence outbox 일련번호 (커밋 순서와 대체로 일치, 구독자의 중복 제거 키로 사용 가능)
+ * @param entityName 엔티티 이름 (예: UnidirectMember)
+ * @param entityId 엔티티 ID의 문자열 표현
+ * @param operation 변경 종류
+ * @param changedColumns 변경된 컬럼명 목록 (DELETE는 빈 목록)
+ * @param createdAt outbox 기록 시각
+ */
+public record ChangeRecord(long sequence,
+                           String entityName,
+                           String entityId,
+                           ChangeOperation operation,
+                           List<String> changedColumns,
+                           Instant createdAt) {
+
+    /**
+     * 주어진 엔티티 타입의 변경인지 확인
+     * @param entityClass 엔티티 클래스
+     * @return 엔티티 이름이 일치하면 true
+     */
+    public boolean isFor(Class<?> entityClass) {
+        return entityClass.getSimpleName().equals(entityName);
+    }
+}
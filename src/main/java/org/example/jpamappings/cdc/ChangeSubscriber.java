@@ -0,0 +1,16 @@
+package org.example.jpamappings.cdc;
+
+/**
+ * outbox 릴레이가 전달하는 변경 레코드 구독자
+ * - 스프링 빈으로 등록하면 OutboxRelay가 자동으로 수집함
+ * - 최소 1회(at-least-once) 전달이므로 같은 레코드를 다시 받을 수 있음 (sequence로 멱등 처리 권장)
+ * - 예외를 던지면 해당 레코드부터 다음 폴링에서 재전달됨
+ */
+public interface ChangeSubscriber {
+
+    /**
+     * 변경 레코드 수신
+     * @param record 변경 레코드
+     */
+    void onChange(ChangeRecord record);
+}
@@ -0,0 +1,244 @@
+package org.example.jpamappings.cdc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+/**
+ * outbox 테이블을 배치 단위로 읽어 구독자에게 전달하는 릴레이
+ * - 전달에 성공한 레코드만 outbox에서 삭제 (최소 1회 전달 보장)
+ * - 구독자가 예외를 던지면 그 레코드부터 다음 폴링에서 다시 전달하여 순서를 유지
+ * - 실패 횟수(attempts)와 마지막 오류(last_error)를 outbox 행에 기록하고, max-attempts번 실패한 레코드는
+ *   outbox_dead_letter로 옮긴 뒤 다음 레코드로 진행 (계속 실패하는 레코드 하나가 CDC 전체를 막지 않도록)
+ *   → 옮겨진 레코드는 구독자에게 전달되지 않으므로 원인 해결 후 수동 재처리 또는 읽기 모델 재구축 필요
+ * - 레코드마다 별도 트랜잭션(PROPAGATION_REQUIRES_NEW)에서 구독자를 호출
+ *   → 트랜잭션을 쓰는 구독자가 실패해도 그 레코드의 변경만 롤백되고 배치 트랜잭션(앞선 레코드의 삭제)은 커밋
+ *   (JPA 트랜잭션 매니저는 세이브포인트를 지원하지 않아 NESTED는 쓸 수 없음)
+ * - 전달 트랜잭션 커밋 후 삭제 전에 중단되면 다시 전달되므로 구독자는 멱등이어야 함
+ * - 한 애플리케이션 인스턴스에서 하나의 릴레이만 동작한다고 가정 (행 잠금으로 분산 처리하지 않음)
+ * - 지표: cdc.outbox.published, cdc.outbox.failures, cdc.outbox.dead-lettered, cdc.outbox.pending, cdc.outbox.lag,
+ *   cdc.relay.batch
+ */
+public class OutboxRelay {
+
+    private static final String SELECT_BATCH_SQL =
+            "SELECT id, entity_name, entity_id, operation, changed_columns, created_at, attempts "
+                    + "FROM outbox_event ORDER BY id LIMIT ?";
+
+    private static final String DELETE_SQL = "DELETE FROM outbox_event WHERE id = ?";
+
+    private static final String FAILED_SQL =
+            "UPDATE outbox_event SET attempts = attempts + 1, last_error = ? WHERE id = ?";
+
+    private static final String DEAD_LETTER_SQL =
+            "INSERT INTO outbox_dead_letter (id, entity_name, entity_id, operation, changed_columns, created_at, "
+                    + "attempts, last_error, failed_at) "
+                    + "SELECT id, entity_name, entity_id, operation, changed_columns, created_at, attempts + 1, ?, ? "
+                    + "FROM outbox_event WHERE id = ?";
+
+    /**
+     * last_error 컬럼 길이
+     */
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private static final String BACKLOG_SQL = "SELECT COUNT(*), MIN(created_at) FROM outbox_event";
+
+    private static final RowMapper<PendingRecord> ROW_MAPPER = (rs, rowNum) -> {
+        String columns = rs.getString("changed_columns");
+        return new PendingRecord(new ChangeRecord(
+                rs.getLong("id"),
+                rs.getString("entity_name"),
+                rs.getString("entity_id"),
+                ChangeOperation.valueOf(rs.getString("operation")),
+                columns == null || columns.isEmpty() ? List.of() : Arrays.asList(columns.split(",")),
+                rs.getTimestamp("created_at").toInstant()),
+                rs.getInt("attempts"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate deliveryTemplate;
+    private final List<ChangeSubscriber> subscribers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final boolean enabled;
+
+    private final Counter published;
+    private final Counter failures;
+    private final Counter deadLettered;
+    private final Timer batchTimer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       List<ChangeSubscriber> subscribers,
+                       MeterRegistry meterRegistry,
+                       @Value("${cdc.relay.batch-size:100}") int batchSize,
+                       @Value("${cdc.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${cdc.relay.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deliveryTemplate = new TransactionTemplate(transactionManager);
+        this.deliveryTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.subscribers = subscribers;
+        this.batchSize = batchSize;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.enabled = enabled;
+
+        this.published = Counter.builder("cdc.outbox.published")
+                .description("구독자에게 전달 완료된 변경 레코드 수")
+                .register(meterRegistry);
+        this.failures = Counter.builder("cdc.outbox.failures")
+                .description("구독자 예외로 재전달 대기 중인 전달 실패 수")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("cdc.outbox.dead-lettered")
+                .description("max-attempts번 실패해 outbox_dead_letter로 옮긴 레코드 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("cdc.relay.batch")
+                .description("배치 하나를 읽고 전달하는 데 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("cdc.outbox.pending", pending, AtomicLong::get)
+                .description("아직 전달되지 않은 outbox 레코드 수")
+                .register(meterRegistry);
+        Gauge.builder("cdc.outbox.lag", lagMillis, v -> v.get() / 1000.0)
+                .description("가장 오래된 미전달 레코드의 경과 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기적 폴링 - 배치가 가득 차 있으면 비워질 때까지 연속으로 처리
+     */
+    @Scheduled(fixedDelayString = "${cdc.relay.poll-interval:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            while (relayBatch() == batchSize) {
+                // 밀린 레코드가 남아 있으면 다음 주기를 기다리지 않고 계속 처리
+            }
+        } catch (RuntimeException e) {
+            log.warn("outbox relay failed", e);
+        }
+    }
+
+    /**
+     * outbox에서 배치 하나를 읽어 전달하고 전달된 레코드를 삭제
+     * - 실패한 레코드는 실패 횟수를 올리고 멈추며, max-attempts번째 실패면 dead letter로 옮기고 계속 진행
+     * @return 전달에 성공한 레코드 수
+     */
+    public int relayBatch() {
+        int delivered = batchTimer.record(() -> transactionTemplate.execute(status -> {
+            List<PendingRecord> batch = jdbcTemplate.query(SELECT_BATCH_SQL, ROW_MAPPER, batchSize);
+            List<Object[]> done = new ArrayList<>(batch.size());
+            for (PendingRecord pending : batch) {
+                ChangeRecord record = pending.record();
+                RuntimeException failure = deliver(record);
+                if (failure == null) {
+                    done.add(new Object[]{record.sequence()});
+                } else if (pending.attempts() + 1 >= maxAttempts) {
+                    deadLetter(record, pending.attempts() + 1, failure);
+                } else {
+                    jdbcTemplate.update(FAILED_SQL, errorMessage(failure), record.sequence());
+                    break; // 순서 유지를 위해 실패한 레코드 이후는 다음 폴링에서 처리
+                }
+            }
+            if (!done.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_SQL, done);
+            }
+            return done.size();
+        }));
+        published.increment(delivered);
+        refreshBacklog();
+        return delivered;
+    }
+
+    /**
+     * 현재 미전달 레코드 수
+     */
+    public long getPending() {
+        return pending.get();
+    }
+
+    /**
+     * 가장 오래된 미전달 레코드의 경과 시간
+     */
+    public Duration getLag() {
+        return Duration.ofMillis(lagMillis.get());
+    }
+
+    /**
+     * 레코드 하나를 모든 구독자에게 전달
+     * @return 성공하면 null, 실패하면 구독자가 던진 예외
+     */
+    private RuntimeException deliver(ChangeRecord record) {
+        ChangeSubscriber[] current = new ChangeSubscriber[1];
+        try {
+            deliveryTemplate.executeWithoutResult(status -> {
+                for (ChangeSubscriber subscriber : subscribers) {
+                    current[0] = subscriber;
+                    subscriber.onChange(record);
+                }
+            });
+            return null;
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("subscriber {} failed for outbox #{} ({} {})",
+                    current[0] == null ? "-" : current[0].getClass().getSimpleName(), record.sequence(),
+                    record.entityName(), record.entityId(), e);
+            return e;
+        }
+    }
+
+    /**
+     * 레코드를 outbox_dead_letter로 옮김 (배치 트랜잭션 안에서 INSERT 후 DELETE)
+     */
+    private void deadLetter(ChangeRecord record, int attempts, RuntimeException failure) {
+        jdbcTemplate.update(DEAD_LETTER_SQL, errorMessage(failure), Timestamp.from(Instant.now()), record.sequence());
+        jdbcTemplate.update(DELETE_SQL, record.sequence());
+        deadLettered.increment();
+        log.error("outbox #{} ({} {} {}) failed {} times, moved to outbox_dead_letter",
+                record.sequence(), record.operation(), record.entityName(), record.entityId(), attempts);
+    }
+
+    private static String errorMessage(RuntimeException failure) {
+        String message = failure.toString();
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private void refreshBacklog() {
+        jdbcTemplate.query(BACKLOG_SQL, rs -> {
+            pending.set(rs.getLong(1));
+            Timestamp oldest = rs.getTimestamp(2);
+            lagMillis.set(oldest == null ? 0 : Math.max(0, Instant.now().toEpochMilli() - oldest.getTime()));
+        });
+    }
+
+    /**
+     * outbox에서 읽은 레코드와 지금까지의 실패 횟수
+     */
+    private record PendingRecord(ChangeRecord record, int attempts) {
+    }
+}
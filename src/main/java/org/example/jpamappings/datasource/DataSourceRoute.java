@@ -0,0 +1,11 @@
+package org.example.jpamappings.datasource;
+
+/**
+ * 라우팅 DataSource의 대상 키
+ * - PRIMARY: 쓰기 및 일반 트랜잭션
+ * - REPLICA: @Transactional(readOnly = true) 트랜잭션
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
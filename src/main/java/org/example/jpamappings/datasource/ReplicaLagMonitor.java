@@ -0,0 +1,75 @@
+package org.example.jpamappings.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+@Slf4j
+/**
+ * replica 복제 지연 모니터
+ * - 주기적으로 lagQuery를 replica에서 실행하여 지연(초)을 측정
+ * - 지연이 허용치를 넘거나 조회에 실패하면 replica를 사용 불가로 표시 → 읽기도 primary로 감
+ * - 지연 값은 datasource.replica.lag 게이지로 노출
+ */
+public class ReplicaLagMonitor implements BooleanSupplier {
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean available = true;
+    private volatile double lagSeconds;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        Gauge.builder("datasource.replica.lag", this, m -> m.lagSeconds)
+                .description("마지막으로 측정한 replica 복제 지연")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 복제 지연을 측정하고 replica 사용 가능 여부를 갱신 (datasource.routing.lag-check-interval, 기본 5초)
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:5000}")
+    public void check() {
+        if (!StringUtils.hasText(lagQuery)) {
+            return;
+        }
+        boolean wasAvailable = available;
+        try {
+            Double lag = replica.queryForObject(lagQuery, Double.class);
+            lagSeconds = lag == null ? 0 : lag;
+            available = lagSeconds * 1000 <= maxLag.toMillis();
+        } catch (RuntimeException e) {
+            lagSeconds = Double.NaN;
+            available = false;
+            if (wasAvailable) {
+                log.warn("replica lag check failed, routing reads to primary", e);
+            }
+            return;
+        }
+        if (wasAvailable != available) {
+            log.warn("replica lag {}s (max {}s), replica {}", lagSeconds, maxLag.toSeconds(),
+                    available ? "back in rotation" : "taken out of rotation");
+        }
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return available;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
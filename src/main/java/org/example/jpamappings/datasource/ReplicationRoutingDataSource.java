@@ -0,0 +1,68 @@
+package org.example.jpamappings.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 트랜잭션의 readOnly 여부로 primary/replica를 고르는 라우팅 DataSource
+ * - readOnly 트랜잭션이고 replica가 정상(복제 지연 허용 범위)일 때만 replica로 라우팅
+ * - 트랜잭션 시작 시점에 커넥션을 얻으면 readOnly 플래그가 아직 없으므로
+ *   반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 함
+ * - 라우팅 결과는 datasource.route{route=primary|replica} 카운터로 기록
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final BooleanSupplier replicaAvailable;
+    private final Map<DataSourceRoute, Counter> routeCounters = new EnumMap<>(DataSourceRoute.class);
+
+    /**
+     * @param primary 쓰기용 DataSource
+     * @param replica 읽기용 DataSource
+     * @param replicaAvailable replica 사용 가능 여부 (복제 지연 모니터)
+     * @param meterRegistry 라우팅 지표 등록용 레지스트리
+     */
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica,
+                                        BooleanSupplier replicaAvailable, MeterRegistry meterRegistry) {
+        this.replicaAvailable = replicaAvailable;
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        for (DataSourceRoute route : DataSourceRoute.values()) {
+            routeCounters.put(route, Counter.builder("datasource.route")
+                    .description("라우팅 DataSource가 커넥션을 요청한 횟수")
+                    .tag("route", route.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceRoute route = currentRoute();
+        routeCounters.get(route).increment();
+        return route;
+    }
+
+    /**
+     * 현재 스레드의 트랜잭션 상태에 따른 라우팅 대상
+     */
+    public DataSourceRoute currentRoute() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaAvailable.getAsBoolean()) {
+            return DataSourceRoute.REPLICA;
+        }
+        return DataSourceRoute.PRIMARY;
+    }
+
+    /**
+     * 경로별 누적 커넥션 요청 수
+     */
+    public long routedCount(DataSourceRoute route) {
+        return (long) routeCounters.get(route).count();
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.jpamappings.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+/**
+ * 읽기/쓰기 분리 DataSource 설정
+ * - primary/replica 각각 Hikari 풀을 만들고 풀 이름(primary, replica)으로 Micrometer 지표를 분리
+ * - 기본 DataSource는 LazyConnectionDataSourceProxy(ReplicationRoutingDataSource) 형태로 등록
+ *   → 스프링 부트의 기본 DataSource 자동 설정은 이 빈이 있으면 동작하지 않음
+ */
+public class RoutingDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(RoutingDataSourceProperties properties, MeterRegistry meterRegistry) {
+        return pool("primary", properties.getPrimary(), false, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(RoutingDataSourceProperties properties, MeterRegistry meterRegistry) {
+        return pool("replica", properties.getReplica(), true, meterRegistry);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               RoutingDataSourceProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replica, properties.getLagQuery(), properties.getMaxReplicaLag(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primary, replica, replicaLagMonitor, meterRegistry));
+    }
+
+    static HikariDataSource pool(String name, RoutingDataSourceProperties.Pool pool, boolean readOnly,
+                                 MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(pool.getUrl());
+        config.setUsername(pool.getUsername());
+        config.setPassword(pool.getPassword());
+        config.setMaximumPoolSize(pool.getMaximumPoolSize());
+        config.setReadOnly(readOnly);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
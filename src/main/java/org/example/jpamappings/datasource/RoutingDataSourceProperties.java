@@ -0,0 +1,58 @@
+package org.example.jpamappings.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+/**
+ * 읽기/쓰기 분리 DataSource 설정 (datasource.routing.*)
+ * - enabled=true 일 때만 RoutingDataSourceConfig가 기본 DataSource를 대체
+ * - primary/replica 각각 별도의 Hikari 풀로 생성됨
+ */
+public class RoutingDataSourceProperties {
+
+    /**
+     * 라우팅 DataSource 사용 여부
+     */
+    private boolean enabled;
+
+    /**
+     * 쓰기용 primary 풀 설정
+     */
+    private Pool primary = new Pool();
+
+    /**
+     * 읽기용 replica 풀 설정
+     */
+    private Pool replica = new Pool();
+
+    /**
+     * 허용 가능한 최대 복제 지연 - 초과하면 읽기 트랜잭션도 primary로 보냄
+     */
+    private Duration maxReplicaLag = Duration.ofSeconds(5);
+
+    /**
+     * replica에서 복제 지연(초)을 조회하는 SQL - 비어 있으면 지연 검사 없이 항상 replica 사용
+     * - 기본값은 PostgreSQL 스트리밍 복제용
+     * - 받은 WAL을 모두 재생했으면 0 (primary에 쓰기가 없으면 마지막 재생 트랜잭션 시각이 멈춰 있어
+     *   now()와의 차이만 보면 따라잡은 replica의 지연이 계속 커짐)
+     */
+    private String lagQuery =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0) END";
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
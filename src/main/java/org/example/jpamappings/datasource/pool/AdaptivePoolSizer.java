@@ -0,0 +1,94 @@
+package org.example.jpamappings.datasource.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Slf4j
+/**
+ * Hikari 풀 크기 자동 조절기
+ * - 구간마다 획득 대기 p99와 점유 시간 중앙값(DB 지연 대용)을 보고 maximumPoolSize를 [minSize, maxSize] 안에서 조정
+ *   대기 p99 > targetWait, 점유 시간 정상 → 50% 키움 (커넥션이 모자람)
+ *   대기 p99 > targetWait, 점유 시간이 기준의 latencyTolerance배 이상 → 1 줄임 (DB가 포화, 동시 실행을 늘리면 악화)
+ *   대기 p99 < targetWait / 4 이고 최대 동시 점유가 풀의 절반 미만 → 1 줄임
+ * - 기준 점유 시간은 지금까지의 최솟값 (구간마다 1%씩 완화하여 작업 부하 변화에 따라감)
+ * - Hikari는 늘어난 크기만큼 대기자가 생길 때 커넥션을 추가하고, 줄어든 크기를 넘는 유휴 커넥션은
+ *   minimumIdle을 넘는 범위에서 idleTimeout 후에 정리함
+ */
+public class AdaptivePoolSizer {
+
+    private static final double BASELINE_RELAXATION = 1.01;
+
+    private final Supplier<List<ObservedDataSource>> dataSources;
+    private final PoolObservabilityProperties.Adaptive properties;
+    private final Map<String, Double> baselineHoldNanos = new ConcurrentHashMap<>();
+
+    public AdaptivePoolSizer(Supplier<List<ObservedDataSource>> dataSources,
+                             PoolObservabilityProperties.Adaptive properties) {
+        if (properties.getMinSize() < 1 || properties.getMinSize() > properties.getMaxSize()) {
+            throw new IllegalArgumentException("datasource.pool.adaptive requires 1 <= min-size <= max-size");
+        }
+        this.dataSources = dataSources;
+        this.properties = properties;
+    }
+
+    /**
+     * 관측 중인 모든 Hikari 풀의 크기를 조정 (datasource.pool.adaptive.interval, 기본 10초)
+     */
+    @Scheduled(fixedDelayString = "${datasource.pool.adaptive.interval:10000}")
+    public void adjustAll() {
+        for (ObservedDataSource dataSource : dataSources.get()) {
+            adjust(dataSource);
+        }
+    }
+
+    /**
+     * 풀 하나의 크기를 조정
+     * @return 조정 후 maximumPoolSize (Hikari 풀이 아니면 -1)
+     */
+    public int adjust(ObservedDataSource dataSource) {
+        HikariDataSource hikari;
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return -1;
+            }
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        PoolUsage usage = dataSource.intervalUsage();
+        int current = hikari.getMaximumPoolSize();
+        int next = decide(dataSource.getPoolName(), usage, current);
+        if (next != current) {
+            hikari.setMaximumPoolSize(next);
+            log.info("pool {} resized {} -> {} (acquire p99 {} ms, hold p50 {} ms, peak leased {})",
+                    dataSource.getPoolName(), current, next, usage.acquireP99().toMillis(),
+                    usage.holdMedian().toMillis(), usage.peakLeased());
+        }
+        return next;
+    }
+
+    int decide(String poolName, PoolUsage usage, int current) {
+        long targetWait = properties.getTargetWait().toNanos();
+        long wait = usage.acquireP99().toNanos();
+        double hold = usage.holdMedian().toNanos();
+        double baseline = hold > 0
+                ? baselineHoldNanos.merge(poolName, hold, (old, now) -> Math.min(old * BASELINE_RELAXATION, now))
+                : baselineHoldNanos.getOrDefault(poolName, 0.0);
+        boolean dbSaturated = hold > 0 && baseline > 0 && hold / baseline >= properties.getLatencyTolerance();
+
+        int next = current;
+        if (usage.acquisitions() > 0 && wait > targetWait) {
+            next = dbSaturated ? current - 1 : current + Math.max(1, current / 2);
+        } else if (wait * 4 < targetWait && usage.peakLeased() * 2 < current) {
+            next = current - 1;
+        }
+        return Math.max(properties.getMinSize(), Math.min(properties.getMaxSize(), next));
+    }
+}
@@ -0,0 +1,221 @@
+package org.example.jpamappings.datasource.pool;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.example.jpamappings.JpamappingsApplication;
+import org.example.jpamappings.datasource.ReplicationRoutingDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+/**
+ * 커넥션 획득/점유를 측정하는 DataSource 래퍼
+ * - getConnection() 소요 시간 → datasource.pool.acquire (풀 대기 시간)
+ * - 커넥션을 얻은 뒤 close()까지 → datasource.pool.hold (호출 경로 태그별)
+ * - 반환되지 않은 커넥션을 추적하여 leakThreshold가 지나면 호출 경로와 함께 한 번 보고 (datasource.pool.leaks)
+ * - 자동 크기 조절용으로 마지막 조회 이후의 획득 대기/점유 시간 분포와 최대 동시 점유 수를 따로 모음
+ * - 반환하는 커넥션은 close()만 가로채는 JDK 프록시 (나머지 호출은 그대로 위임)
+ */
+public class ObservedDataSource extends DelegatingDataSource implements Closeable {
+
+    private static final String BASE_PACKAGE = JpamappingsApplication.class.getPackageName() + ".";
+    private static final Set<String> INFRASTRUCTURE = Set.of(
+            ObservedDataSource.class.getName(), ReplicationRoutingDataSource.class.getName());
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final String poolName;
+    private final PoolObservabilityProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer acquireTimer;
+    private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+    private final Set<Lease> leases = ConcurrentHashMap.newKeySet();
+    private final Recorder acquireRecorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 2);
+    private final Recorder holdRecorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 2);
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger peakLeased = new AtomicInteger();
+
+    public ObservedDataSource(DataSource target, String poolName, PoolObservabilityProperties properties,
+                              MeterRegistry meterRegistry) {
+        super(target);
+        this.poolName = poolName;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.acquireTimer = Timer.builder("datasource.pool.acquire")
+                .description("풀에서 커넥션을 얻기까지 걸린 시간")
+                .tag("pool", poolName)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long started = System.nanoTime();
+        Connection connection = super.getConnection();
+        return lease(connection, started);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long started = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        return lease(connection, started);
+    }
+
+    private Connection lease(Connection connection, long started) {
+        long acquired = System.nanoTime();
+        acquireTimer.record(acquired - started, TimeUnit.NANOSECONDS);
+        acquireRecorder.recordValue(Math.min(acquired - started, HIGHEST_TRACKABLE_NANOS));
+        peakLeased.accumulateAndGet(leased.incrementAndGet(), Math::max);
+
+        Lease lease = new Lease(properties.isTrackCallers() ? caller() : "unknown",
+                Thread.currentThread().getName(), acquired);
+        leases.add(lease);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        release(lease);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private void release(Lease lease) {
+        if (!leases.remove(lease)) {
+            return; // 이미 닫힌 커넥션을 다시 close()
+        }
+        leased.decrementAndGet();
+        long held = System.nanoTime() - lease.acquiredAt;
+        holdRecorder.recordValue(Math.min(held, HIGHEST_TRACKABLE_NANOS));
+        holdTimers.computeIfAbsent(lease.caller, caller -> Timer.builder("datasource.pool.hold")
+                        .description("커넥션을 얻은 뒤 반환할 때까지 점유한 시간")
+                        .tags("pool", poolName, "caller", caller)
+                        .register(meterRegistry))
+                .record(held, TimeUnit.NANOSECONDS);
+        if (lease.reported) {
+            log.info("connection from {} on pool {} reported as leaked was returned after {} ms",
+                    lease.caller, poolName, TimeUnit.NANOSECONDS.toMillis(held));
+        }
+    }
+
+    /**
+     * leakThreshold보다 오래 반환되지 않은 커넥션을 보고 (커넥션마다 한 번)
+     * @return 새로 보고한 누수 수
+     */
+    public int detectLeaks() {
+        long now = System.nanoTime();
+        long threshold = properties.getLeakThreshold().toNanos();
+        int reported = 0;
+        for (Lease lease : leases) {
+            if (!lease.reported && now - lease.acquiredAt >= threshold) {
+                lease.reported = true;
+                reported++;
+                Counter.builder("datasource.pool.leaks")
+                        .description("leakThreshold보다 오래 반환되지 않은 커넥션 수")
+                        .tags("pool", poolName, "caller", lease.caller)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("possible connection leak on pool {}: acquired by {} on thread {} and held for {} ms",
+                        poolName, lease.caller, lease.thread,
+                        TimeUnit.NANOSECONDS.toMillis(now - lease.acquiredAt));
+            }
+        }
+        return reported;
+    }
+
+    /**
+     * 지금 반환되지 않은 커넥션의 호출 경로 (오래된 순서 무관)
+     */
+    public List<String> openLeaseCallers() {
+        List<String> callers = new ArrayList<>();
+        leases.forEach(lease -> callers.add(lease.caller));
+        return callers;
+    }
+
+    /**
+     * 마지막 호출 이후 구간의 획득 대기/점유 시간 분포와 최대 동시 점유 수 (호출하면 구간을 새로 시작)
+     */
+    public synchronized PoolUsage intervalUsage() {
+        Histogram acquire = acquireRecorder.getIntervalHistogram();
+        Histogram hold = holdRecorder.getIntervalHistogram();
+        int peak = peakLeased.getAndSet(leased.get());
+        return new PoolUsage(acquire.getTotalCount(),
+                Duration.ofNanos(acquire.getValueAtPercentile(99)),
+                Duration.ofNanos(hold.getValueAtPercentile(50)),
+                peak);
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (getTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * 커넥션을 얻은 애플리케이션 코드 위치 (이 래퍼, 라우팅 DataSource, 스프링 프록시를 건너뛴 첫 프레임)
+     * - 람다 안에서 얻었으면 람다를 감싼 메서드 이름을 씀 (lambda$removeTeam$0 → removeTeam)
+     */
+    private static String caller() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(BASE_PACKAGE)
+                        && !INFRASTRUCTURE.contains(frame.getClassName())
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + methodName(frame.getMethodName()))
+                .orElse("other"));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static String methodName(String method) {
+        if (method.startsWith("lambda$")) {
+            int end = method.indexOf('$', "lambda$".length());
+            return end > 0 ? method.substring("lambda$".length(), end) : method;
+        }
+        return method;
+    }
+
+    private static final class Lease {
+
+        private final String caller;
+        private final String thread;
+        private final long acquiredAt;
+        private volatile boolean reported;
+
+        private Lease(String caller, String thread, long acquiredAt) {
+            this.caller = caller;
+            this.thread = thread;
+            this.acquiredAt = acquiredAt;
+        }
+    }
+}
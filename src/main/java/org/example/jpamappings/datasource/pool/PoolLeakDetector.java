@@ -0,0 +1,26 @@
+package org.example.jpamappings.datasource.pool;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 관측 중인 풀들의 커넥션 누수 검사를 주기적으로 실행 (datasource.pool.leak-check-interval, 기본 5초)
+ * - 판정과 보고는 ObservedDataSource.detectLeaks()
+ */
+public class PoolLeakDetector {
+
+    private final Supplier<List<ObservedDataSource>> dataSources;
+
+    public PoolLeakDetector(Supplier<List<ObservedDataSource>> dataSources) {
+        this.dataSources = dataSources;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.pool.leak-check-interval:5000}")
+    public void check() {
+        for (ObservedDataSource dataSource : dataSources.get()) {
+            dataSource.detectLeaks();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.jpamappings.datasource.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PoolObservabilityProperties.class)
+@ConditionalOnProperty(prefix = "datasource.pool", name = "enabled", havingValue = "true", matchIfMissing = true)
+/**
+ * 커넥션 풀 관측 설정
+ * - HikariDataSource 빈(기본 DataSource, 라우팅 사용 시 primary/replica 풀)을 초기화 직후 ObservedDataSource로 감쌈
+ *   → 라우팅/지연 커넥션 프록시보다 안쪽이라 실제 풀 대기와 점유만 측정됨
+ * - Hikari 자체 지표와 DataSourceUnwrapper는 DelegatingDataSource를 풀어서 원래 풀을 찾음
+ * - 자동 크기 조절은 datasource.pool.adaptive.enabled=true 일 때만 등록
+ */
+public class PoolObservabilityConfig {
+
+    @Bean
+    public static BeanPostProcessor observedDataSourcePostProcessor(
+            ObjectProvider<PoolObservabilityProperties> properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    if (hikari.getPoolName() == null) {
+                        hikari.setPoolName(beanName); // hikaricp.* 지표와 같은 pool 태그를 쓰도록 (풀 시작 전)
+                    }
+                    return new ObservedDataSource(hikari, hikari.getPoolName(), properties.getObject(),
+                            meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public PoolLeakDetector poolLeakDetector(ObjectProvider<ObservedDataSource> dataSources) {
+        return new PoolLeakDetector(() -> dataSources.orderedStream().toList());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.pool.adaptive", name = "enabled", havingValue = "true")
+    public AdaptivePoolSizer adaptivePoolSizer(ObjectProvider<ObservedDataSource> dataSources,
+                                               PoolObservabilityProperties properties) {
+        return new AdaptivePoolSizer(() -> dataSources.orderedStream().toList(), properties.getAdaptive());
+    }
+}
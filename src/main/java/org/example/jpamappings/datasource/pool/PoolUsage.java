@@ -0,0 +1,13 @@
+package org.example.jpamappings.datasource.pool;
+
+import java.time.Duration;
+
+/**
+ * 한 측정 구간의 커넥션 풀 사용량
+ * @param acquisitions 구간 동안 커넥션을 얻은 횟수
+ * @param acquireP99 획득 대기 시간 p99
+ * @param holdMedian 구간 동안 반환된 커넥션의 점유 시간 중앙값 (DB 지연의 대용 지표)
+ * @param peakLeased 구간 동안 동시에 빌려 간 커넥션 수의 최댓값
+ */
+public record PoolUsage(long acquisitions, Duration acquireP99, Duration holdMedian, int peakLeased) {
+}
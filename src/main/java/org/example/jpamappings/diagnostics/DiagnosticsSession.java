@@ -0,0 +1,117 @@
+package org.example.jpamappings.diagnostics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샘플링된 세션 하나의 추적 상태
+ * - SQL 형태별 실행 횟수/최대 실행 시간, 연관관계별 지연 로딩 횟수를 누적
+ * - 세션 종료 시 findings()로 임계값을 넘은 항목만 추려 보고
+ * - 한 스레드에서만 사용되므로 동기화하지 않음
+ */
+final class DiagnosticsSession {
+
+    private final DiagnosticsSession parent;
+    private final boolean active;
+
+    private final Map<String, StatementStats> statements = new HashMap<>();
+    private final Map<String, LazyLoadStats> lazyLoads = new HashMap<>();
+    private StatementStats current;
+    private long executeStarted;
+
+    DiagnosticsSession(DiagnosticsSession parent, boolean active) {
+        this.parent = parent;
+        this.active = active;
+    }
+
+    DiagnosticsSession parent() {
+        return parent;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    void statementPrepared(String sql) {
+        if (!active) {
+            return;
+        }
+        String shape = QueryShape.normalize(sql);
+        current = statements.computeIfAbsent(shape, s -> new StatementStats(s, QueryShape.table(s)));
+        current.count++;
+    }
+
+    void executeStarted() {
+        if (active) {
+            executeStarted = System.nanoTime();
+        }
+    }
+
+    void executeEnded(long slowThresholdNanos) {
+        if (!active || current == null || executeStarted == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - executeStarted;
+        executeStarted = 0;
+        current.maxNanos = Math.max(current.maxNanos, elapsed);
+        if (elapsed >= slowThresholdNanos) {
+            current.slowCount++;
+        }
+    }
+
+    void lazyLoaded(String entity, String association) {
+        if (active) {
+            lazyLoads.computeIfAbsent(association, a -> new LazyLoadStats(entity, a)).count++;
+        }
+    }
+
+    List<Finding> findings(QueryDiagnosticsProperties properties) {
+        List<Finding> findings = new ArrayList<>();
+        for (StatementStats stats : statements.values()) {
+            // 쓰기 문장의 반복은 배치/일괄 저장에서 정상적으로 발생하므로 SELECT만 N+1 후보로 봄
+            if (stats.select && stats.count >= properties.getRepeatThreshold()) {
+                findings.add(new Finding(Finding.Type.REPEATED_STATEMENT, stats.table, null,
+                        stats.count, stats.shape, stats.maxNanos / 1_000_000));
+            }
+            if (stats.slowCount > 0) {
+                findings.add(new Finding(Finding.Type.SLOW_STATEMENT, stats.table, null,
+                        stats.slowCount, stats.shape, stats.maxNanos / 1_000_000));
+            }
+        }
+        for (LazyLoadStats stats : lazyLoads.values()) {
+            if (stats.count >= properties.getLazyLoadThreshold()) {
+                findings.add(new Finding(Finding.Type.LAZY_LOAD, stats.entity, stats.association,
+                        stats.count, null, 0));
+            }
+        }
+        return findings;
+    }
+
+    private static final class StatementStats {
+        private final String shape;
+        private final String table;
+        private final boolean select;
+        private int count;
+        private int slowCount;
+        private long maxNanos;
+
+        private StatementStats(String shape, String table) {
+            this.shape = shape;
+            this.table = table;
+            this.select = shape.regionMatches(true, 0, "select", 0, 6);
+        }
+    }
+
+    private static final class LazyLoadStats {
+        private final String entity;
+        private final String association;
+        private int count;
+
+        private LazyLoadStats(String entity, String association) {
+            this.entity = entity;
+            this.association = association;
+        }
+    }
+}
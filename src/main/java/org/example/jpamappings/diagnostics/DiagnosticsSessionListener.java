@@ -0,0 +1,44 @@
+package org.example.jpamappings.diagnostics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션 단위 추적 리스너 (hibernate.session.events.auto로 세션마다 생성)
+ * - 생성 시점(세션 열림)에 샘플링 여부를 정하고, 종료 시점에 결과를 보고
+ * - JDBC 실행 시작/종료 사이 시간을 직전에 준비된 SQL의 실행 시간으로 기록
+ */
+public class DiagnosticsSessionListener implements SessionEventListener {
+
+    private final transient DiagnosticsSession session = QueryDiagnostics.open();
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        if (session != null) {
+            session.executeStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        if (session != null) {
+            session.executeEnded(QueryDiagnostics.slowThresholdNanos());
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+
+    @Override
+    public void end() {
+        if (session != null) {
+            QueryDiagnostics.close(session);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.jpamappings.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL을 현재 추적 세션에 기록 (SQL은 변경하지 않음)
+ */
+public class DiagnosticsStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        DiagnosticsSession session = QueryDiagnostics.current();
+        if (session != null) {
+            session.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.jpamappings.diagnostics;
+
+/**
+ * 한 세션에서 탐지된 문제
+ * @param type 문제 종류
+ * @param entity 대상 엔티티 또는 테이블
+ * @param association 연관관계 (예: UnidirectMember.unidirectTeam), 해당 없으면 null
+ * @param count 발생 횟수
+ * @param sql 정규화된 SQL 형태, 해당 없으면 null
+ * @param millis 가장 오래 걸린 실행 시간(ms), 해당 없으면 0
+ */
+public record Finding(Type type, String entity, String association, int count, String sql, long millis) {
+
+    public enum Type {
+        /**
+         * 같은 형태의 SQL 반복 실행 (N+1 의심)
+         */
+        REPEATED_STATEMENT,
+        /**
+         * 같은 연관관계의 반복 지연 로딩
+         */
+        LAZY_LOAD,
+        /**
+         * 임계값을 넘은 느린 SQL
+         */
+        SLOW_STATEMENT
+    }
+}
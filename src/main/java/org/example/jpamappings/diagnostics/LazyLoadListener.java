@@ -0,0 +1,88 @@
+package org.example.jpamappings.diagnostics;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 지연 로딩 발생을 추적 세션에 기록하는 Hibernate 이벤트 리스너
+ * - 프록시 초기화(IMMEDIATE_LOAD): 이벤트에는 대상 엔티티만 있으므로,
+ *   그 엔티티를 가리키는 to-one 연관관계(예: UnidirectMember.unidirectTeam)를 메타모델에서 찾아 이름을 붙임
+ * - 컬렉션 초기화: 컬렉션 role(소유 엔티티.필드)을 그대로 사용
+ */
+public class LazyLoadListener implements LoadEventListener, InitializeCollectionEventListener {
+
+    /**
+     * 대상 엔티티 이름(FQN) → 그 엔티티를 가리키는 to-one 연관관계 이름들
+     */
+    private final Map<String, String> toOneAssociations;
+
+    public LazyLoadListener(Metamodel metamodel) {
+        this.toOneAssociations = toOneAssociations(metamodel);
+    }
+
+    /**
+     * 대상 엔티티 이름(FQN) → 그 엔티티를 가리키는 to-one 연관관계 이름들 ("|"로 연결)
+     */
+    public static Map<String, String> toOneAssociations(Metamodel metamodel) {
+        Map<String, TreeSet<String>> associations = new HashMap<>();
+        for (EntityType<?> entity : metamodel.getEntities()) {
+            for (Attribute<?, ?> attribute : entity.getAttributes()) {
+                Attribute.PersistentAttributeType type = attribute.getPersistentAttributeType();
+                if (type == Attribute.PersistentAttributeType.MANY_TO_ONE
+                        || type == Attribute.PersistentAttributeType.ONE_TO_ONE) {
+                    associations.computeIfAbsent(attribute.getJavaType().getName(), k -> new TreeSet<>())
+                            .add(entity.getName() + "." + attribute.getName());
+                }
+            }
+        }
+        Map<String, String> joined = new HashMap<>();
+        associations.forEach((target, names) -> joined.put(target, String.join("|", names)));
+        return joined;
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) {
+        if (loadType != LoadEventListener.IMMEDIATE_LOAD) {
+            return;
+        }
+        DiagnosticsSession session = QueryDiagnostics.current();
+        if (session != null) {
+            String entityName = event.getEntityClassName();
+            session.lazyLoaded(simpleName(entityName),
+                    toOneAssociations.getOrDefault(entityName, simpleName(entityName) + ".<proxy>"));
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        DiagnosticsSession session = QueryDiagnostics.current();
+        if (session != null) {
+            String role = event.getCollection().getRole();
+            session.lazyLoaded(simpleName(event.getAffectedOwnerEntityName()), simpleName(role));
+        }
+    }
+
+    /**
+     * 패키지를 뗀 이름 (org.example...UnidirectMember.team → UnidirectMember.team)
+     */
+    public static String simpleName(String name) {
+        if (name == null) {
+            return "unknown";
+        }
+        int lastDot = name.lastIndexOf('.');
+        // role 형태(클래스.필드)면 클래스 이름 앞의 점을 기준으로 자름
+        int classDot = lastDot > 0 && Character.isLowerCase(name.charAt(lastDot + 1))
+                ? name.lastIndexOf('.', lastDot - 1)
+                : lastDot;
+        return name.substring(classDot + 1);
+    }
+}
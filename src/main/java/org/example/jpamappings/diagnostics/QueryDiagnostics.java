@@ -0,0 +1,91 @@
+package org.example.jpamappings.diagnostics;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Hibernate가 직접 생성하는 객체(세션 리스너, StatementInspector)와 스프링 빈을 잇는 정적 진입점
+ * - Hibernate는 hibernate.session.events.auto 리스너를 클래스 이름으로 생성하므로 빈을 주입할 수 없음
+ * - 세션이 열릴 때 샘플링 여부를 정하고, 샘플링된 세션만 스레드 로컬에 추적 상태를 둠
+ * - 샘플링되지 않은 세션의 비용은 난수 한 번과 ThreadLocal 조회 수준
+ */
+public final class QueryDiagnostics {
+
+    private static final ThreadLocal<DiagnosticsSession> CURRENT = new ThreadLocal<>();
+
+    private static volatile QueryDiagnosticsProperties properties;
+    private static volatile QueryDiagnosticsReporter reporter;
+
+    private QueryDiagnostics() {
+    }
+
+    static synchronized void install(QueryDiagnosticsProperties properties, QueryDiagnosticsReporter reporter) {
+        QueryDiagnostics.properties = properties;
+        QueryDiagnostics.reporter = reporter;
+    }
+
+    static synchronized void uninstall(QueryDiagnosticsReporter installed) {
+        if (reporter == installed) {
+            properties = null;
+            reporter = null;
+        }
+    }
+
+    /**
+     * 현재 스레드에서 추적 중인 세션 (없거나 샘플링 제외면 null)
+     */
+    static DiagnosticsSession current() {
+        DiagnosticsSession session = CURRENT.get();
+        return session != null && session.isActive() ? session : null;
+    }
+
+    static long slowThresholdNanos() {
+        QueryDiagnosticsProperties props = properties;
+        return props == null ? Long.MAX_VALUE : props.getSlowQueryThreshold().toNanos();
+    }
+
+    /**
+     * 세션 시작 - 샘플링 대상이면 추적 상태를 만들어 스레드에 등록
+     * @return 추적 상태, 추적하지 않으면 null
+     */
+    static DiagnosticsSession open() {
+        QueryDiagnosticsProperties props = properties;
+        DiagnosticsSession parent = CURRENT.get();
+        if (props == null) {
+            return null;
+        }
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < props.getSampleRate();
+        if (!sampled && parent == null) {
+            return null;
+        }
+        // 추적 중인 세션 안에서 열린 비샘플 세션은 비활성 상태로 올려 부모 통계에 섞이지 않게 함
+        DiagnosticsSession session = new DiagnosticsSession(parent, sampled);
+        CURRENT.set(session);
+        if (sampled) {
+            reporter.sessionSampled();
+        }
+        return session;
+    }
+
+    /**
+     * 세션 종료 - 스레드 등록을 해제하고 임계값을 넘은 항목을 보고
+     */
+    static void close(DiagnosticsSession session) {
+        if (CURRENT.get() == session) {
+            if (session.parent() == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(session.parent());
+            }
+        }
+        QueryDiagnosticsProperties props = properties;
+        QueryDiagnosticsReporter target = reporter;
+        if (!session.isActive() || props == null || target == null) {
+            return;
+        }
+        List<Finding> findings = session.findings(props);
+        if (!findings.isEmpty()) {
+            target.report(findings);
+        }
+    }
+}
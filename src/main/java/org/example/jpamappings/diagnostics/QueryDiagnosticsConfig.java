@@ -0,0 +1,51 @@
+package org.example.jpamappings.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(QueryDiagnosticsProperties.class)
+@ConditionalOnProperty(prefix = "jpa.diagnostics", name = "enabled", havingValue = "true", matchIfMissing = true)
+/**
+ * N+1 / 느린 쿼리 탐지기 설정
+ * - StatementInspector와 세션 리스너는 Hibernate 설정 속성으로 등록 (SessionFactory 생성 전)
+ * - 지연 로딩 리스너는 SessionFactory 생성 후 이벤트 리스너 레지스트리에 추가
+ */
+public class QueryDiagnosticsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryDiagnosticsHibernateProperties() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new DiagnosticsStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, DiagnosticsSessionListener.class.getName());
+        };
+    }
+
+    @Bean
+    public QueryDiagnosticsReporter queryDiagnosticsReporter(QueryDiagnosticsProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        QueryDiagnosticsReporter reporter = new QueryDiagnosticsReporter(meterRegistry);
+        QueryDiagnostics.install(properties, reporter);
+        return reporter;
+    }
+
+    @Bean
+    public LazyLoadListener lazyLoadListener(EntityManagerFactory entityManagerFactory) {
+        LazyLoadListener listener = new LazyLoadListener(entityManagerFactory.getMetamodel());
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.LOAD, listener);
+        registry.appendListeners(EventType.INIT_COLLECTION, listener);
+        return listener;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.jpamappings.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+/**
+ * 탐지 결과 보고기
+ * - 구조화 로그: 키-값(type, entity, association, count, maxMs, sql)으로 WARN 로그 1건씩
+ * - Micrometer: jpa.diagnostics.findings{type,entity,association} (세션당 1회 증가),
+ *   jpa.diagnostics.lazy.loads{entity,association} (지연 로딩 횟수만큼 증가),
+ *   jpa.diagnostics.sessions.sampled (샘플링된 세션 수)
+ */
+public class QueryDiagnosticsReporter {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter sampledSessions;
+
+    public QueryDiagnosticsReporter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.sampledSessions = Counter.builder("jpa.diagnostics.sessions.sampled")
+                .description("N+1/느린 쿼리 추적 대상으로 샘플링된 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 컨텍스트 종료 시 정적 진입점에서 해제
+     */
+    public void close() {
+        QueryDiagnostics.uninstall(this);
+    }
+
+    void sessionSampled() {
+        sampledSessions.increment();
+    }
+
+    void report(List<Finding> findings) {
+        for (Finding finding : findings) {
+            String association = finding.association() == null ? "none" : finding.association();
+            log.atWarn()
+                    .addKeyValue("type", finding.type())
+                    .addKeyValue("entity", finding.entity())
+                    .addKeyValue("association", association)
+                    .addKeyValue("count", finding.count())
+                    .addKeyValue("maxMs", finding.millis())
+                    .addKeyValue("sql", finding.sql())
+                    .log("jpa.diagnostics type={} entity={} association={} count={} maxMs={} sql=\"{}\"",
+                            finding.type(), finding.entity(), association, finding.count(),
+                            finding.millis(), finding.sql() == null ? "" : finding.sql());
+
+            meterRegistry.counter("jpa.diagnostics.findings",
+                    "type", finding.type().name(),
+                    "entity", finding.entity(),
+                    "association", association).increment();
+            if (finding.type() == Finding.Type.LAZY_LOAD) {
+                meterRegistry.counter("jpa.diagnostics.lazy.loads",
+                        "entity", finding.entity(),
+                        "association", association).increment(finding.count());
+            }
+        }
+    }
+}
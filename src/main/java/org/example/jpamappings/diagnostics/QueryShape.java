@@ -0,0 +1,35 @@
+package org.example.jpamappings.diagnostics;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * SQL을 "형태(shape)"로 정규화하는 유틸리티
+ * - 리터럴 문자열/숫자를 ?로, IN (?, ?, ...) 목록을 IN (?...)으로 바꾸고 공백을 정리
+ *   → 값만 다른 반복 쿼리(N+1)가 같은 형태로 묶임
+ * - 보고용 대상 테이블은 첫 FROM/INTO/UPDATE 뒤의 식별자로 추정
+ */
+final class QueryShape {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TABLE = Pattern.compile("(?i)\\b(?:from|into|update)\\s+([A-Za-z_][\\w.]*)");
+
+    private QueryShape() {
+    }
+
+    static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    static String table(String sql) {
+        Matcher matcher = TABLE.matcher(sql);
+        return matcher.find() ? matcher.group(1).toLowerCase(Locale.ROOT) : "unknown";
+    }
+}
@@ -4,11 +4,13 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.example.jpamappings.cdc.CaptureChanges;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @Entity
+@CaptureChanges
 @Table(name="DEPARTMENTS")
 public class Department {
 
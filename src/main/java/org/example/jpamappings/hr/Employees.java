@@ -1,20 +1,26 @@
 package org.example.jpamappings.hr;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.example.jpamappings.cdc.CaptureChanges;
+import org.example.jpamappings.hr.payroll.BasisPoints;
+import org.example.jpamappings.hr.payroll.BasisPointsConverter;
+import org.example.jpamappings.hr.payroll.Money;
+import org.example.jpamappings.hr.payroll.MoneyConverter;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @Entity
+@CaptureChanges
 @Table(name="EMPLOYEES")
 public class Employees {
 
@@ -38,13 +44,15 @@ public class Employees {
     private LocalDate hireDate;
 
     @Column(name = "JOB_ID")
-    private Integer jobId;
+    private String jobId;
 
     @Column(name = "SALARY")
-    private BigDecimal salary;
+    @Convert(converter = MoneyConverter.class)
+    private Money salary; // DECIMAL(8,2) ↔ 센트 단위 long
 
     @Column(name = "COMMISSION_PCT")
-    private BigDecimal commissionPct;
+    @Convert(converter = BasisPointsConverter.class)
+    private BasisPoints commissionPct; // DECIMAL(4,2) ↔ 베이시스 포인트
 
     @Column(name = "MANAGER_ID")
     private Integer managerId;
@@ -11,10 +11,26 @@ import java.time.LocalDate;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name="JOB_HISTORY")
+@Table(name="JOB_HISTORY", indexes = @Index(name = "JHIST_START_DATE_IX", columnList = "START_DATE"))
 @IdClass(JobHistoryId.class)
+@NamedQueries({
+        @NamedQuery(name = JobHistory.FIND_STARTED_BETWEEN,
+                query = "SELECT j FROM JobHistory j WHERE j.startDate >= :from AND j.startDate < :to "
+                        + "ORDER BY j.startDate"),
+        @NamedQuery(name = JobHistory.FIND_BY_EMPLOYEE_STARTED_BETWEEN,
+                query = "SELECT j FROM JobHistory j WHERE j.employeeId = :employeeId "
+                        + "AND j.startDate >= :from AND j.startDate < :to ORDER BY j.startDate")
+})
 public class JobHistory {
 
+    /**
+     * 이름 있는 쿼리 - START_DATE 반열린 구간 [from, to) 조건
+     * - 파티션 키에 함수를 씌우지 않은 범위 조건이라 PostgreSQL 파티션 프루닝과 START_DATE 인덱스 범위 검색이 가능
+     * - 보관(archive)된 행은 포함하지 않음 → JobHistoryRepository 사용
+     */
+    public static final String FIND_STARTED_BETWEEN = "JobHistory.findStartedBetween";
+    public static final String FIND_BY_EMPLOYEE_STARTED_BETWEEN = "JobHistory.findByEmployeeStartedBetween";
+
     @Id
     @Column(name="EMPLOYEE_ID")
     private Integer employeeId;
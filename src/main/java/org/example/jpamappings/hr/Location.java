@@ -7,11 +7,13 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.example.jpamappings.cdc.CaptureChanges;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @Entity
+@CaptureChanges
 @Table(name="LOCATIONS")
 public class Location {
 
@@ -0,0 +1,79 @@
+package org.example.jpamappings.hr.history;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+@Slf4j
+@Component
+/**
+ * 종료된 오래된 JOB_HISTORY 구간을 보관 테이블로 이동
+ * - END_DATE < 기준일인 행을 job_history_archive로 INSERT … SELECT 후 job_history에서 DELETE (한 트랜잭션)
+ * - START_DATE < END_DATE 이므로 조건에 START_DATE < 기준일을 함께 넣어 PostgreSQL에서 대상 파티션만 읽게 함
+ * - 이동 전에 보관 경계(job_history_archive_boundary)를 먼저 올려 커밋하여, 이동 중에도 모든 노드의 조회가 두 테이블을 함께 읽도록 함
+ * - 호출자 영속성 컨텍스트에 이미 올라온 JobHistory는 갱신하지 않음
+ * - 예약 실행: hr.job-history.archive.cron (기본 비활성), 보관 기준은 오늘 - hr.job-history.archive.retention
+ */
+public class JobHistoryArchiver {
+
+    private static final String CONDITION = " WHERE start_date < :cutoff AND end_date < :cutoff";
+
+    private static final String COPY_SQL =
+            "INSERT INTO job_history_archive (employee_id, start_date, end_date, job_id, department_id) "
+                    + "SELECT employee_id, start_date, end_date, job_id, department_id FROM job_history" + CONDITION;
+
+    private static final String DELETE_SQL = "DELETE FROM job_history" + CONDITION;
+
+    private final EntityManager em;
+    private final TransactionTemplate tx;
+    private final JobHistoryRepository repository;
+    private final Period retention;
+
+    public JobHistoryArchiver(EntityManager em,
+                              PlatformTransactionManager transactionManager,
+                              JobHistoryRepository repository,
+                              @Value("${hr.job-history.archive.retention:P10Y}") Period retention) {
+        this.em = em;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.repository = repository;
+        this.retention = retention;
+    }
+
+    /**
+     * 예약 실행 (hr.job-history.archive.cron, 기본값 "-"는 비활성)
+     */
+    @Scheduled(cron = "${hr.job-history.archive.cron:-}")
+    public void scheduledArchive() {
+        archive(LocalDate.now().minus(retention));
+    }
+
+    /**
+     * 기준일 전에 끝난 구간을 보관
+     * @param cutoff 보관 기준일 (END_DATE < cutoff)
+     * @return 옮긴 행 수
+     */
+    public int archive(LocalDate cutoff) {
+        long started = System.nanoTime();
+        repository.archivingBefore(cutoff);
+        int moved = tx.execute(status -> {
+            em.flush();
+            int copied = em.createNativeQuery(COPY_SQL).setParameter("cutoff", cutoff).executeUpdate();
+            int deleted = em.createNativeQuery(DELETE_SQL).setParameter("cutoff", cutoff).executeUpdate();
+            if (copied != deleted) {
+                throw new IllegalStateException("job history archive copied " + copied + " rows but deleted "
+                        + deleted + ", rolling back");
+            }
+            return deleted;
+        });
+        log.info("archived {} job history rows ended before {} in {} ms", moved, cutoff,
+                (System.nanoTime() - started) / 1_000_000);
+        return moved;
+    }
+}
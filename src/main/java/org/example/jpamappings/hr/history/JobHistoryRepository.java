@@ -0,0 +1,152 @@
+package org.example.jpamappings.hr.history;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.example.jpamappings.hr.JobHistory;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+/**
+ * JOB_HISTORY 조회 - START_DATE 반열린 구간 [from, to) 기준
+ * - 모든 조회가 파티션 키(START_DATE)의 범위 조건이라 PostgreSQL에서는 해당 파티션만, H2에서는 START_DATE 인덱스 범위만 읽음
+ * - 보관 테이블(job_history_archive)에는 END_DATE가 보관 경계 이하인 행만 있으므로,
+ *   from이 보관 경계보다 뒤면 현재 테이블만 조회 (최근 구간 조회는 항상 여기에 해당)
+ * - 그 외에는 두 테이블에 같은 범위 조건을 각각 넣은 UNION ALL로 조회 (job_history_all 뷰는 조건이 안쪽으로 전달되지 않을 수 있어 사용하지 않음)
+ * - 보관 경계는 job_history_archive_boundary 한 행에 두고 조회마다 읽음 (여러 노드가 같은 값을 봄)
+ *   → 보관기는 행을 옮기기 전에 경계를 먼저 올려 커밋하므로 저장된 경계는 실제 보관 범위보다 이르지 않음
+ * - 경계와 데이터는 REPEATABLE READ 한 트랜잭션에서 읽음 (PostgreSQL은 첫 문장 시점의 스냅샷이라
+ *   이전 경계를 읽었다면 그 뒤에 커밋된 이동도 보이지 않음, 호출자 트랜잭션에 참여하면 그 격리 수준을 따름)
+ * - 보관 구간에서 읽은 행은 영속성 컨텍스트에 올리지 않은 새 객체 (수정해도 반영되지 않음)
+ */
+public class JobHistoryRepository {
+
+    private static final String ARCHIVE_BOUNDARY_SQL =
+            "SELECT archived_through FROM job_history_archive_boundary WHERE id = 1";
+
+    private static final String RAISE_BOUNDARY_SQL =
+            "UPDATE job_history_archive_boundary SET archived_through = :through "
+                    + "WHERE id = 1 AND (archived_through IS NULL OR archived_through < :through)";
+
+    private static final String COLUMNS = "employee_id, start_date, end_date, job_id, department_id";
+
+    private final EntityManager em;
+    private final TransactionTemplate tx;
+    private final TransactionTemplate readOnlyTx;
+
+    public JobHistoryRepository(EntityManager em, PlatformTransactionManager transactionManager) {
+        this.em = em;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * 구간 [from, to)에 시작한 이력 (시작일 순)
+     */
+    public List<JobHistory> findStartedBetween(LocalDate from, LocalDate to) {
+        return find(null, from, to);
+    }
+
+    /**
+     * 직원 한 명의 구간 [from, to)에 시작한 이력 (시작일 순)
+     */
+    public List<JobHistory> findByEmployeeStartedBetween(Integer employeeId, LocalDate from, LocalDate to) {
+        return find(employeeId, from, to);
+    }
+
+    /**
+     * 최근 window 동안(오늘 포함) 시작한 이력
+     */
+    public List<JobHistory> findRecent(Period window) {
+        LocalDate today = LocalDate.now();
+        return find(null, today.minus(window), today.plusDays(1));
+    }
+
+    /**
+     * 보관 직전에 호출 - 보관될 행의 END_DATE 상한으로 경계를 올림 (내려가지 않음)
+     * - 호출자 트랜잭션이 없으면 바로 커밋되어, 행을 옮기는 트랜잭션보다 먼저 모든 노드에 보임
+     * @param cutoff 보관 기준일 (END_DATE < cutoff 인 행이 보관됨)
+     */
+    void archivingBefore(LocalDate cutoff) {
+        LocalDate through = cutoff.minusDays(1);
+        tx.executeWithoutResult(status -> em.createNativeQuery(RAISE_BOUNDARY_SQL)
+                .setParameter("through", through)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("job_history_archive_boundary")
+                .executeUpdate());
+    }
+
+    private List<JobHistory> find(Integer employeeId, LocalDate from, LocalDate to) {
+        return readOnlyTx.execute(status -> {
+            LocalDate boundary = archiveBoundary();
+            if (boundary == null || from.isAfter(boundary)) {
+                return current(employeeId, from, to);
+            }
+            return currentAndArchived(employeeId, from, to);
+        });
+    }
+
+    private List<JobHistory> current(Integer employeeId, LocalDate from, LocalDate to) {
+        TypedQuery<JobHistory> query;
+        if (employeeId == null) {
+            query = em.createNamedQuery(JobHistory.FIND_STARTED_BETWEEN, JobHistory.class);
+        } else {
+            query = em.createNamedQuery(JobHistory.FIND_BY_EMPLOYEE_STARTED_BETWEEN, JobHistory.class)
+                    .setParameter("employeeId", employeeId);
+        }
+        return query.setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<JobHistory> currentAndArchived(Integer employeeId, LocalDate from, LocalDate to) {
+        String where = " WHERE start_date >= :from AND start_date < :to"
+                + (employeeId == null ? "" : " AND employee_id = :employeeId");
+        String sql = "SELECT " + COLUMNS + " FROM job_history" + where
+                + " UNION ALL SELECT " + COLUMNS + " FROM job_history_archive" + where
+                + " ORDER BY start_date";
+        NativeQuery<Object[]> query = em.createNativeQuery(sql)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .unwrap(NativeQuery.class)
+                .addScalar("employee_id", Integer.class)
+                .addScalar("start_date", LocalDate.class)
+                .addScalar("end_date", LocalDate.class)
+                .addScalar("job_id", String.class)
+                .addScalar("department_id", Integer.class);
+        if (employeeId != null) {
+            query.setParameter("employeeId", employeeId);
+        }
+        List<Object[]> rows = query.getResultList();
+        List<JobHistory> histories = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            JobHistory history = new JobHistory();
+            history.setEmployeeId((Integer) row[0]);
+            history.setStartDate((LocalDate) row[1]);
+            history.setEndDate((LocalDate) row[2]);
+            history.setJobId((String) row[3]);
+            history.setDepartmentId((Integer) row[4]);
+            histories.add(history);
+        }
+        return histories;
+    }
+
+    /**
+     * 보관 경계 - 이 날짜 이후에 시작한 구간은 보관 테이블에 없음 (null이면 보관된 행 없음)
+     */
+    private LocalDate archiveBoundary() {
+        List<?> boundary = em.createNativeQuery(ARCHIVE_BOUNDARY_SQL, LocalDate.class).getResultList();
+        return boundary.isEmpty() ? null : (LocalDate) boundary.get(0);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.jpamappings.hr.payroll;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 비율 값 타입 - 베이시스 포인트(1bp = 0.01%) 단위 int로 저장
+ * - COMMISSION_PCT DECIMAL(4,2) 컬럼의 0.20(20%)은 2000bp로 표현 (BasisPointsConverter)
+ * @param value 베이시스 포인트 값 (10000 = 100%)
+ */
+public record BasisPoints(int value) implements Comparable<BasisPoints> {
+
+    public static final int ONE_HUNDRED_PERCENT = 10_000;
+
+    public static final BasisPoints ZERO = new BasisPoints(0);
+
+    public static BasisPoints of(int basisPoints) {
+        return new BasisPoints(basisPoints);
+    }
+
+    /**
+     * 소수 비율로 생성 (예: 0.20 → 2000bp)
+     * - 베이시스 포인트보다 작은 자릿수가 있으면 ArithmeticException 발생
+     */
+    public static BasisPoints ofFraction(BigDecimal fraction) {
+        return new BasisPoints(fraction.movePointRight(4).setScale(0, RoundingMode.UNNECESSARY).intValueExact());
+    }
+
+    /**
+     * 소수 비율로 변환 (예: 2000bp → 0.2000)
+     */
+    public BigDecimal toFraction() {
+        return BigDecimal.valueOf(value, 4);
+    }
+
+    @Override
+    public int compareTo(BasisPoints other) {
+        return Integer.compare(value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        return value + "bp";
+    }
+}
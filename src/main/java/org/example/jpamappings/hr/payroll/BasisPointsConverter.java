@@ -0,0 +1,26 @@
+package org.example.jpamappings.hr.payroll;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * BasisPoints ↔ DECIMAL(4,2) 비율 변환기
+ * - 컬럼 정밀도가 1%(100bp) 단위이므로 그보다 작은 단위가 있으면 저장 시 ArithmeticException 발생
+ *   (DB가 조용히 반올림하지 않도록 막음)
+ */
+@Converter
+public class BasisPointsConverter implements AttributeConverter<BasisPoints, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(BasisPoints attribute) {
+        return attribute == null ? null : attribute.toFraction().setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    @Override
+    public BasisPoints convertToEntityAttribute(BigDecimal dbData) {
+        return dbData == null ? null : BasisPoints.ofFraction(dbData);
+    }
+}
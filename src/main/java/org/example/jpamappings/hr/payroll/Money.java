@@ -0,0 +1,101 @@
+package org.example.jpamappings.hr.payroll;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 값 타입 - 센트(소수 둘째 자리) 단위 long으로 저장
+ * - DECIMAL(8,2) 컬럼과 1:1 대응 (MoneyConverter)
+ * - 덧셈/뺄셈/정수배는 정확한 정수 연산, 비율 곱셈은 HALF_EVEN(은행가 반올림)으로 센트에 맞춤
+ * - 오버플로는 조용히 넘어가지 않고 ArithmeticException 발생
+ * @param cents 센트 단위 금액 (예: 24000.00 → 2400000)
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * 센트 단위 금액으로 생성
+     */
+    public static Money ofCents(long cents) {
+        return new Money(cents);
+    }
+
+    /**
+     * BigDecimal 금액으로 생성
+     * - 소수 셋째 자리 이하가 있으면 정보 손실을 막기 위해 ArithmeticException 발생
+     */
+    public static Money of(BigDecimal amount) {
+        return new Money(amount.movePointRight(2).setScale(0, RoundingMode.UNNECESSARY).longValueExact());
+    }
+
+    /**
+     * 문자열 금액으로 생성 (예: "24000", "2900.50")
+     */
+    public static Money parse(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(cents, factor));
+    }
+
+    /**
+     * 비율을 곱한 금액 (HALF_EVEN으로 센트 단위 반올림)
+     * @param rate 베이시스 포인트 비율
+     */
+    public Money times(BasisPoints rate) {
+        return new Money(divideHalfEven(Math.multiplyExact(cents, rate.value()), BasisPoints.ONE_HUNDRED_PERCENT));
+    }
+
+    /**
+     * n등분한 금액 (HALF_EVEN으로 센트 단위 반올림)
+     */
+    public Money dividedBy(long divisor) {
+        return new Money(divideHalfEven(cents, divisor));
+    }
+
+    public boolean isZero() {
+        return cents == 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /**
+     * long 나눗셈의 HALF_EVEN 반올림 - BigDecimal 없이 RoundingMode.HALF_EVEN과 같은 결과
+     */
+    static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        long twice = Math.abs(remainder) * 2;
+        long absDivisor = Math.abs(divisor);
+        boolean negative = (dividend < 0) != (divisor < 0);
+        if (twice > absDivisor || (twice == absDivisor && (quotient & 1) != 0)) {
+            return negative ? quotient - 1 : quotient + 1;
+        }
+        return quotient;
+    }
+}
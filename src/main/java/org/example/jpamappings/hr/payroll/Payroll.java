@@ -0,0 +1,65 @@
+package org.example.jpamappings.hr.payroll;
+
+import org.example.jpamappings.hr.Employees;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 급여 계산 API
+ * - 모든 계산은 Money/BasisPoints의 long 연산으로 수행 (BigDecimal 할당 없음)
+ * - 반올림 규칙: 비율 곱셈마다 센트 단위 HALF_EVEN, 합계는 반올림된 개인별 금액의 정확한 합
+ */
+public final class Payroll {
+
+    private Payroll() {
+    }
+
+    /**
+     * 직원 한 명의 월 지급액 = 급여 + 급여 × 커미션 비율
+     * - 급여가 없으면 0, 커미션이 없으면 급여만 지급
+     */
+    public static Money monthlyPay(Employees employee) {
+        Money salary = employee.getSalary();
+        if (salary == null) {
+            return Money.ZERO;
+        }
+        BasisPoints commission = employee.getCommissionPct();
+        return commission == null ? salary : salary.plus(salary.times(commission));
+    }
+
+    /**
+     * 전체 월 지급액 합계
+     */
+    public static Money total(Collection<Employees> employees) {
+        long cents = 0;
+        for (Employees employee : employees) {
+            cents = Math.addExact(cents, monthlyPay(employee).cents());
+        }
+        return Money.ofCents(cents);
+    }
+
+    /**
+     * 부서별 월 지급액 합계 (부서 없는 직원은 null 키)
+     */
+    public static Map<Integer, Money> totalByDepartment(Collection<Employees> employees) {
+        Map<Integer, long[]> sums = new HashMap<>();
+        for (Employees employee : employees) {
+            long[] sum = sums.computeIfAbsent(employee.getDepartmentId(), k -> new long[1]);
+            sum[0] = Math.addExact(sum[0], monthlyPay(employee).cents());
+        }
+        Map<Integer, Money> totals = new HashMap<>(sums.size() * 2);
+        sums.forEach((departmentId, sum) -> totals.put(departmentId, Money.ofCents(sum[0])));
+        return totals;
+    }
+
+    /**
+     * 인상률을 적용한 새 급여 (센트 단위 HALF_EVEN)
+     * @param salary 현재 급여
+     * @param raise 인상률 (예: 500bp = 5%)
+     */
+    public static Money raise(Money salary, BasisPoints raise) {
+        return salary.plus(salary.times(raise));
+    }
+}
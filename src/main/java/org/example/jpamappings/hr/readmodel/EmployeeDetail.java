@@ -0,0 +1,108 @@
+package org.example.jpamappings.hr.readmodel;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.jpamappings.hr.payroll.Money;
+import org.example.jpamappings.hr.payroll.MoneyConverter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Immutable
+@Table(name = "EMPLOYEE_DETAIL", indexes = {
+        @Index(name = "emp_detail_dept_ix", columnList = "DEPARTMENT_ID"),
+        @Index(name = "emp_detail_loc_ix", columnList = "LOCATION_ID"),
+        @Index(name = "emp_detail_mgr_ix", columnList = "MANAGER_ID")
+})
+@NamedQueries({
+        @NamedQuery(name = EmployeeDetail.FIND_BY_DEPARTMENT,
+                query = "SELECT d FROM EmployeeDetail d WHERE d.departmentId = :departmentId ORDER BY d.employeeId"),
+        @NamedQuery(name = EmployeeDetail.FIND_BY_CITY,
+                query = "SELECT d FROM EmployeeDetail d WHERE d.city = :city ORDER BY d.employeeId")
+})
+/**
+ * 직원 상세 화면용 읽기 모델 (EMPLOYEES + DEPARTMENTS + LOCATIONS + 관리자 이름을 미리 조인해 둔 행)
+ * - 직원 한 명당 한 행, 조회는 조인 없이 한 테이블만 읽음
+ * - EmployeeDetailProjector가 CDC 변경 레코드로 갱신하므로 원본 커밋 후 릴레이 주기만큼 늦을 수 있음
+ * - 애플리케이션에서 수정하지 않음 (@Immutable, 갱신은 프로젝터의 SQL로만)
+ */
+public class EmployeeDetail {
+
+    public static final String FIND_BY_DEPARTMENT = "EmployeeDetail.findByDepartment";
+    public static final String FIND_BY_CITY = "EmployeeDetail.findByCity";
+
+    @Id
+    @Column(name = "EMPLOYEE_ID")
+    private Integer employeeId;
+
+    @Column(name = "FIRST_NAME")
+    private String firstName;
+
+    @Column(name = "LAST_NAME")
+    private String lastName;
+
+    @Column(name = "EMAIL")
+    private String email;
+
+    @Column(name = "PHONE_NUMBER")
+    private String phoneNumber;
+
+    @Column(name = "HIRE_DATE")
+    private LocalDate hireDate;
+
+    @Column(name = "JOB_ID")
+    private String jobId;
+
+    @Column(name = "SALARY")
+    @Convert(converter = MoneyConverter.class)
+    private Money salary;
+
+    @Column(name = "DEPARTMENT_ID")
+    private Integer departmentId;
+
+    @Column(name = "DEPARTMENT_NAME")
+    private String departmentName;
+
+    @Column(name = "LOCATION_ID")
+    private Integer locationId; // 부서의 LOCATION_ID
+
+    @Column(name = "CITY")
+    private String city;
+
+    @Column(name = "STATE_PROVINCE")
+    private String stateProvince;
+
+    @Column(name = "COUNTRY_ID", columnDefinition = "CHAR(2)")
+    private String countryId;
+
+    @Column(name = "MANAGER_ID")
+    private Integer managerId;
+
+    @Column(name = "MANAGER_FIRST_NAME")
+    private String managerFirstName;
+
+    @Column(name = "MANAGER_LAST_NAME")
+    private String managerLastName;
+
+    /**
+     * 관리자 이름 (관리자가 없으면 null)
+     */
+    public String getManagerName() {
+        if (managerId == null) {
+            return null;
+        }
+        return managerFirstName == null ? managerLastName : managerFirstName + " " + managerLastName;
+    }
+}
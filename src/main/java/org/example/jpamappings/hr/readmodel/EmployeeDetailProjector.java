@@ -0,0 +1,184 @@
+package org.example.jpamappings.hr.readmodel;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.jpamappings.cdc.ChangeOperation;
+import org.example.jpamappings.cdc.ChangeRecord;
+import org.example.jpamappings.cdc.ChangeSubscriber;
+import org.example.jpamappings.hr.Department;
+import org.example.jpamappings.hr.Employees;
+import org.example.jpamappings.hr.Location;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+/**
+ * EMPLOYEE_DETAIL 읽기 모델 갱신기
+ * - outbox 릴레이가 전달하는 hr 변경 레코드로 영향받는 행만 원본 테이블에서 다시 계산
+ *   Employees → 그 직원 행을 다시 만들고, 이름이 바뀌었으면 그 직원을 관리자로 둔 행의 관리자 이름 갱신
+ *   Department → 그 부서 소속 행의 부서명/위치를 한 번의 UPDATE로 갱신
+ *   Location → 그 위치 소속 행의 도시/주/국가를 한 번의 UPDATE로 갱신 (부서 수와 무관하게 문장 하나)
+ * - 부서/위치/관리자 갱신은 원본 한 행을 읽은 값을 파라미터로 쓰는 UPDATE (emp_detail_*_ix 인덱스로 대상 행 탐색)
+ * - 항상 현재 원본 값을 다시 읽으므로 같은 레코드를 다시 받아도 결과가 같음 (릴레이의 최소 1회 전달에 안전)
+ * - 릴레이가 레코드마다 여는 전달 트랜잭션에 참여하므로 한 레코드의 갱신은 함께 커밋/롤백됨
+ *   (실패해도 같은 배치의 앞선 레코드 전달과 outbox 삭제는 커밋)
+ * - 전체 재구축: rebuild(), 기동 옵션 --rebuild-employee-detail, 또는 읽기 모델이 비어 있으면 기동 시 자동
+ */
+public class EmployeeDetailProjector implements ChangeSubscriber, ApplicationRunner {
+
+    static final String REBUILD_OPTION = "rebuild-employee-detail";
+
+    private static final String INSERT_SELECT =
+            "INSERT INTO employee_detail (employee_id, first_name, last_name, email, phone_number, hire_date, job_id, "
+                    + "salary, department_id, department_name, location_id, city, state_province, country_id, "
+                    + "manager_id, manager_first_name, manager_last_name) "
+                    + "SELECT e.employee_id, e.first_name, e.last_name, e.email, e.phone_number, e.hire_date, e.job_id, "
+                    + "e.salary, e.department_id, d.department_name, d.location_id, l.city, l.state_province, "
+                    + "l.country_id, e.manager_id, m.first_name, m.last_name "
+                    + "FROM employees e "
+                    + "LEFT JOIN departments d ON d.department_id = e.department_id "
+                    + "LEFT JOIN locations l ON l.location_id = d.location_id "
+                    + "LEFT JOIN employees m ON m.employee_id = e.manager_id";
+
+    private static final String REFRESH_EMPLOYEE_SQL = INSERT_SELECT + " WHERE e.employee_id = ?";
+
+    private static final String DELETE_EMPLOYEE_SQL = "DELETE FROM employee_detail WHERE employee_id = ?";
+
+    private static final String SELECT_MANAGER_SQL =
+            "SELECT first_name, last_name FROM employees WHERE employee_id = ?";
+
+    private static final String REFRESH_MANAGER_SQL =
+            "UPDATE employee_detail SET manager_first_name = ?, manager_last_name = ? WHERE manager_id = ?";
+
+    private static final String SELECT_DEPARTMENT_SQL =
+            "SELECT d.department_name, d.location_id, l.city, l.state_province, l.country_id "
+                    + "FROM departments d LEFT JOIN locations l ON l.location_id = d.location_id "
+                    + "WHERE d.department_id = ?";
+
+    private static final String REFRESH_DEPARTMENT_SQL =
+            "UPDATE employee_detail SET department_name = ?, location_id = ?, city = ?, state_province = ?, "
+                    + "country_id = ? WHERE department_id = ?";
+
+    private static final String SELECT_LOCATION_SQL =
+            "SELECT city, state_province, country_id FROM locations WHERE location_id = ?";
+
+    private static final String REFRESH_LOCATION_SQL =
+            "UPDATE employee_detail SET city = ?, state_province = ?, country_id = ? WHERE location_id = ?";
+
+    /**
+     * 읽기 모델에 복사되는 원본 컬럼 (이 컬럼이 바뀌지 않은 UPDATE는 무시)
+     */
+    private static final Set<String> EMPLOYEE_COLUMNS = Set.of("first_name", "last_name", "email", "phone_number",
+            "hire_date", "job_id", "salary", "manager_id", "department_id");
+    private static final Set<String> MANAGER_NAME_COLUMNS = Set.of("first_name", "last_name");
+    private static final Set<String> DEPARTMENT_COLUMNS = Set.of("department_name", "location_id");
+    private static final Set<String> LOCATION_COLUMNS = Set.of("city", "state_province", "country_id");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+
+    public EmployeeDetailProjector(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (args.containsOption(REBUILD_OPTION) || isEmpty()) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("employee detail rebuild failed, run with --{} to retry", REBUILD_OPTION, e);
+        }
+    }
+
+    /**
+     * 읽기 모델을 비우고 원본 4개 테이블 조인으로 다시 채움 (한 트랜잭션)
+     * @return 채운 행 수
+     */
+    public int rebuild() {
+        long started = System.nanoTime();
+        int rows = tx.execute(status -> {
+            jdbcTemplate.update("DELETE FROM employee_detail");
+            return jdbcTemplate.update(INSERT_SELECT);
+        });
+        log.info("rebuilt employee detail read model with {} rows in {} ms", rows,
+                (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    @Override
+    public void onChange(ChangeRecord record) {
+        if (record.isFor(Employees.class)) {
+            onEmployeeChange(record);
+        } else if (record.isFor(Department.class) && touches(record, DEPARTMENT_COLUMNS)) {
+            refresh(SELECT_DEPARTMENT_SQL, REFRESH_DEPARTMENT_SQL, 5, Integer.parseInt(record.entityId()));
+        } else if (record.isFor(Location.class) && touches(record, LOCATION_COLUMNS)) {
+            refresh(SELECT_LOCATION_SQL, REFRESH_LOCATION_SQL, 3, Integer.parseInt(record.entityId()));
+        }
+    }
+
+    private void onEmployeeChange(ChangeRecord record) {
+        int employeeId = Integer.parseInt(record.entityId());
+        boolean copied = touches(record, EMPLOYEE_COLUMNS);
+        boolean managerName = touches(record, MANAGER_NAME_COLUMNS);
+        if (!copied) {
+            return;
+        }
+        tx.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_EMPLOYEE_SQL, employeeId);
+            if (record.operation() != ChangeOperation.DELETE) {
+                jdbcTemplate.update(REFRESH_EMPLOYEE_SQL, employeeId);
+            }
+            if (managerName) {
+                refresh(SELECT_MANAGER_SQL, REFRESH_MANAGER_SQL, 2, employeeId);
+            }
+        });
+    }
+
+    /**
+     * 원본 한 행(관리자, 부서 또는 위치)을 읽어 그 값을 해당 키를 가진 읽기 모델 행 전체에 한 번의 UPDATE로 씀
+     * - 원본 행이 없으면(삭제됨) 복사된 컬럼을 null로 비움
+     * - 행마다 원본을 다시 읽는 상관 서브쿼리 UPDATE보다 영향받는 행이 많을 때 훨씬 빠름
+     * @param columns selectSql이 읽는 컬럼 수 (updateSql의 마지막 파라미터는 키)
+     * @return 갱신된 읽기 모델 행 수
+     */
+    private int refresh(String selectSql, String updateSql, int columns, int id) {
+        return tx.execute(status -> {
+            List<Object[]> source = jdbcTemplate.query(selectSql, (rs, rowNum) -> {
+                Object[] values = new Object[columns + 1];
+                for (int i = 0; i < columns; i++) {
+                    values[i] = rs.getObject(i + 1);
+                }
+                return values;
+            }, id);
+            Object[] values = source.isEmpty() ? new Object[columns + 1] : source.get(0);
+            values[columns] = id;
+            return jdbcTemplate.update(updateSql, values);
+        });
+    }
+
+    /**
+     * INSERT/DELETE는 항상, UPDATE는 주어진 컬럼 중 하나라도 바뀐 경우만 해당
+     */
+    private static boolean touches(ChangeRecord record, Set<String> columns) {
+        if (record.operation() != ChangeOperation.UPDATE) {
+            return true;
+        }
+        List<String> changed = record.changedColumns();
+        return changed.stream().map(String::toLowerCase).anyMatch(columns::contains);
+    }
+
+    private boolean isEmpty() {
+        return Boolean.FALSE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM employee_detail)", Boolean.class));
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.jpamappings.hr.readmodel;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+/**
+ * EMPLOYEE_DETAIL 읽기 모델 조회 (조인 없이 한 테이블만 읽음)
+ * - 읽기 전용 트랜잭션으로 조회 (복제본이 설정돼 있으면 복제본으로 라우팅)
+ */
+public class EmployeeDetailRepository {
+
+    private final EntityManager em;
+    private final TransactionTemplate readOnlyTx;
+
+    public EmployeeDetailRepository(EntityManager em, PlatformTransactionManager transactionManager) {
+        this.em = em;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public Optional<EmployeeDetail> findById(Integer employeeId) {
+        return Optional.ofNullable(readOnlyTx.execute(status -> em.find(EmployeeDetail.class, employeeId)));
+    }
+
+    /**
+     * 부서 소속 직원 (직원 ID 순)
+     */
+    public List<EmployeeDetail> findByDepartment(Integer departmentId) {
+        return readOnlyTx.execute(status -> em.createNamedQuery(EmployeeDetail.FIND_BY_DEPARTMENT, EmployeeDetail.class)
+                .setParameter("departmentId", departmentId)
+                .getResultList());
+    }
+
+    /**
+     * 부서 위치가 주어진 도시인 직원 (직원 ID 순)
+     */
+    public List<EmployeeDetail> findByCity(String city) {
+        return readOnlyTx.execute(status -> em.createNamedQuery(EmployeeDetail.FIND_BY_CITY, EmployeeDetail.class)
+                .setParameter("city", city)
+                .getResultList());
+    }
+}
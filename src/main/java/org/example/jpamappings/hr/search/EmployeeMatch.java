@@ -0,0 +1,9 @@
+package org.example.jpamappings.hr.search;
+
+/**
+ * 직원 검색 결과 한 건
+ * @param employeeId 직원 ID
+ * @param score 순위 점수 (높을수록 우선, 정확 일치 > 접두어 > 부분 문자열 > 오타 허용)
+ */
+public record EmployeeMatch(int employeeId, double score) {
+}
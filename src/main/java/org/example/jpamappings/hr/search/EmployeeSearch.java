@@ -0,0 +1,18 @@
+package org.example.jpamappings.hr.search;
+
+import java.util.List;
+
+/**
+ * 직원 이름/이메일 검색
+ * - firstName, lastName, email을 대소문자 구분 없이 검색
+ * - 정확 일치, 접두어, 부분 문자열(infix), 편집 거리(오타 허용) 일치를 함께 순위화하여 상위 k건 반환
+ */
+public interface EmployeeSearch {
+
+    /**
+     * @param query 검색어
+     * @param limit 최대 결과 수 (top-k)
+     * @return 점수 내림차순 결과 (동점이면 직원 ID 오름차순)
+     */
+    List<EmployeeMatch> search(String query, int limit);
+}
@@ -0,0 +1,36 @@
+package org.example.jpamappings.hr.search;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+/**
+ * 직원 검색 설정 (hr.search.engine)
+ * - index(기본): 프로세스 내 트라이그램 색인, CDC 구독자로 갱신
+ * - postgres: pg_trgm GIN 인덱스를 사용하는 네이티브 쿼리 (db/postgresql/employee-search.sql 선적용 필요)
+ */
+public class EmployeeSearchConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "hr.search", name = "engine", havingValue = "index", matchIfMissing = true)
+    public EmployeeSearchIndex employeeSearchIndex() {
+        return new EmployeeSearchIndex();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "hr.search", name = "engine", havingValue = "index", matchIfMissing = true)
+    public EmployeeSearchIndexUpdater employeeSearchIndexUpdater(EmployeeSearchIndex index, EntityManager em,
+                                                                 PlatformTransactionManager transactionManager) {
+        return new EmployeeSearchIndexUpdater(index, em, transactionManager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "hr.search", name = "engine", havingValue = "postgres")
+    public PostgresEmployeeSearch postgresEmployeeSearch(NamedParameterJdbcTemplate jdbcTemplate) {
+        return new PostgresEmployeeSearch(jdbcTemplate);
+    }
+}
@@ -0,0 +1,504 @@
+package org.example.jpamappings.hr.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * 프로세스 내 직원 검색 색인 (DB 종류와 무관하게 동작)
+ * - 용어(term) 사전: firstName, lastName, email(및 '@' 앞부분)을 소문자로 정규화한 문자열
+ *   → TreeMap으로 정렬 유지 (접두어 검색은 subMap 범위 조회)
+ * - 용어 → 직원 ID 포스팅, 트라이그램 → 용어 ID 포스팅을 정렬된 int 배열로 보관
+ *   (같은 이름을 가진 직원이 많으므로 트라이그램은 직원이 아닌 용어 단위로 색인)
+ * - 부분 문자열(3자 이상): 검색어 트라이그램 포스팅 교집합 → contains로 확인
+ * - 오타 허용: 이름 용어만 대상 (직원마다 고유한 이메일까지 넣으면 후보가 너무 많아짐)
+ *   트라이그램 공유 수 하한(q-gram lemma)으로 후보를 줄인 뒤 편집 거리 확인
+ *   (삽입/삭제/치환/인접 문자 교환, 검색어 4~11자는 1회, 12자 이상은 2회 편집까지 허용
+ *   → 짧은 검색어에 2회를 허용하면 트라이그램 하한이 1이 되어 사실상 모든 이름이 후보가 됨)
+ * - 여러 단어 검색어는 모든 단어가 일치하는 직원만 반환하고 단어별 점수를 합산
+ * - 갱신은 쓰기 락, 검색은 읽기 락 (색인 갱신은 CDC 구독자가 수행)
+ * - 재구축은 새 색인을 따로 만든 뒤 replaceWith로 내용을 한 번에 바꿈 (검색이 절반만 채운 색인을 보지 않음)
+ */
+public class EmployeeSearchIndex implements EmployeeSearch {
+
+    static final double EXACT = 1.0;
+    static final double PREFIX = 0.8;
+    static final double INFIX = 0.6;
+    static final double FUZZY = 0.4;
+
+    /**
+     * 순위 비교 (점수 오름차순, 동점이면 ID 내림차순 → 힙에서 가장 약한 결과가 먼저 나옴)
+     */
+    private static final Comparator<EmployeeMatch> RANKING = Comparator.comparingDouble(EmployeeMatch::score)
+            .thenComparing(EmployeeMatch::employeeId, Comparator.reverseOrder());
+
+    private static final char START = '\u0002';
+    private static final char END = '\u0003';
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private TreeMap<String, Integer> termIds = new TreeMap<>();
+    private List<String> terms = new ArrayList<>();
+    private List<IntPostings> termEmployees = new ArrayList<>();
+    private Map<Integer, IntPostings> trigramTerms = new HashMap<>();
+    private Map<Integer, IntPostings> nameTrigramTerms = new HashMap<>();
+    private BitSet nameTerms = new BitSet();
+    private Map<Integer, int[]> documents = new HashMap<>();
+
+    /**
+     * 직원을 색인에 추가하거나 교체
+     */
+    public void put(int employeeId, String firstName, String lastName, String email) {
+        List<String> names = tokens(firstName, lastName);
+        List<String> emails = tokens(email);
+        normalizedEmailLocalPart(email).ifPresent(emails::add);
+        lock.writeLock().lock();
+        try {
+            removeDocument(employeeId);
+            IntStream nameIds = names.stream().mapToInt(term -> termIdOrCreate(term, true));
+            IntStream emailIds = emails.stream().mapToInt(term -> termIdOrCreate(term, false));
+            int[] ids = IntStream.concat(nameIds, emailIds).distinct().toArray();
+            for (int termId : ids) {
+                termEmployees.get(termId).add(employeeId);
+            }
+            documents.put(employeeId, ids);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 직원을 색인에서 제거 (용어 사전은 남겨두고 포스팅만 비움)
+     */
+    public void remove(int employeeId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(employeeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 직원 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 내용을 다른 색인의 내용으로 교체 (쓰기 락 안에서 참조만 바꾸므로 검색은 교체 전 또는 후 색인 전체를 봄)
+     * - fresh는 이후 사용하지 않아야 함 (내부 구조를 공유)
+     */
+    public void replaceWith(EmployeeSearchIndex fresh) {
+        fresh.lock.readLock().lock();
+        lock.writeLock().lock();
+        try {
+            termIds = fresh.termIds;
+            terms = fresh.terms;
+            termEmployees = fresh.termEmployees;
+            trigramTerms = fresh.trigramTerms;
+            nameTrigramTerms = fresh.nameTrigramTerms;
+            nameTerms = fresh.nameTerms;
+            documents = fresh.documents;
+        } finally {
+            lock.writeLock().unlock();
+            fresh.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<EmployeeMatch> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized == null || limit <= 0) {
+            return List.of();
+        }
+        String[] words = normalized.split("\\s+");
+        lock.readLock().lock();
+        try {
+            return words.length == 1 ? searchWord(words[0], limit) : searchWords(words, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 한 단어 검색 (읽기 락 안에서 호출)
+     * - 점수 구간이 겹치지 않는 단계(정확 일치/접두어 → 부분 문자열 → 오타 허용)를 높은 점수부터 처리하고
+     *   k명이 차면 다음 단계는 계산하지 않음
+     * - 같은 점수의 동점은 ID 순이므로 용어마다 포스팅 앞쪽(작은 ID)에서 남은 자리 수만큼만 꺼냄
+     */
+    private List<EmployeeMatch> searchWord(String word, int limit) {
+        Map<Integer, Double> scores = new HashMap<>();
+        for (int tier = 0; tier < 3 && scores.size() < limit; tier++) {
+            List<ScoredTerm> matched = tierTerms(tier, word);
+            int i = 0;
+            while (i < matched.size() && scores.size() < limit) {
+                double score = matched.get(i).score();
+                int remaining = limit - scores.size();
+                for (; i < matched.size() && matched.get(i).score() == score; i++) {
+                    IntPostings employees = termEmployees.get(matched.get(i).termId());
+                    for (int p = 0, taken = 0; p < employees.size() && taken < remaining; p++) {
+                        if (scores.putIfAbsent(employees.get(p), score) == null) {
+                            taken++;
+                        }
+                    }
+                }
+            }
+        }
+        return topK(scores, limit);
+    }
+
+    /**
+     * 여러 단어 검색 (읽기 락 안에서 호출)
+     * - 접두어 단계 일치 직원 수가 가장 적은 단어를 기준으로 후보를 높은 점수 순으로 꺼내고,
+     *   나머지 단어는 후보 직원의 용어와 직접 비교하여 모두 일치할 때만 점수를 합산
+     * - 기준 단어 점수 + 나머지 단어 최대 점수가 현재 k번째 점수보다 낮아지면 중단 (threshold algorithm)
+     */
+    private List<EmployeeMatch> searchWords(String[] words, int limit) {
+        int driver = 0;
+        long driverCount = Long.MAX_VALUE;
+        for (int i = 0; i < words.length; i++) {
+            long count = prefixTerms(words[i]).stream().mapToLong(term -> termEmployees.get(term.termId()).size()).sum();
+            if (count < driverCount) {
+                driver = i;
+                driverCount = count;
+            }
+        }
+        double otherWordsMax = (words.length - 1) * EXACT;
+        PriorityQueue<EmployeeMatch> heap = new PriorityQueue<>(limit + 1, RANKING);
+        Set<Integer> visited = new HashSet<>();
+        for (int tier = 0; tier < 3; tier++) {
+            List<ScoredTerm> matched = tierTerms(tier, words[driver]);
+            for (ScoredTerm term : matched) {
+                if (heap.size() == limit && term.score() + otherWordsMax < heap.peek().score()) {
+                    return sorted(heap);
+                }
+                IntPostings employees = termEmployees.get(term.termId());
+                for (int p = 0; p < employees.size(); p++) {
+                    int employeeId = employees.get(p);
+                    if (!visited.add(employeeId)) {
+                        continue;
+                    }
+                    double total = otherWordsScore(employeeId, words, driver);
+                    if (total > 0) {
+                        heap.offer(new EmployeeMatch(employeeId, term.score() + total));
+                        if (heap.size() > limit) {
+                            heap.poll();
+                        }
+                    }
+                }
+            }
+        }
+        return sorted(heap);
+    }
+
+    /**
+     * 기준 단어를 제외한 단어들의 점수 합 (하나라도 일치하지 않으면 0)
+     */
+    private double otherWordsScore(int employeeId, String[] words, int driver) {
+        double total = 0;
+        for (int i = 0; i < words.length; i++) {
+            if (i == driver) {
+                continue;
+            }
+            double best = 0;
+            for (int termId : documents.get(employeeId)) {
+                best = Math.max(best, termScore(words[i], terms.get(termId), nameTerms.get(termId)));
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    /**
+     * 단계별 일치 용어를 점수 내림차순으로 (0: 정확 일치/접두어, 1: 부분 문자열, 2: 오타 허용)
+     */
+    private List<ScoredTerm> tierTerms(int tier, String word) {
+        List<ScoredTerm> matched = switch (tier) {
+            case 0 -> prefixTerms(word);
+            case 1 -> infixTerms(word);
+            default -> fuzzyTerms(word);
+        };
+        matched.sort(Comparator.comparingDouble(ScoredTerm::score).reversed().thenComparingInt(ScoredTerm::termId));
+        return matched;
+    }
+
+    private List<ScoredTerm> prefixTerms(String word) {
+        List<ScoredTerm> matched = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : termIds.subMap(word, true, word + Character.MAX_VALUE, false).entrySet()) {
+            matched.add(new ScoredTerm(entry.getValue(), termScore(word, entry.getKey(), false)));
+        }
+        return matched;
+    }
+
+    private List<ScoredTerm> infixTerms(String word) {
+        List<ScoredTerm> matched = new ArrayList<>();
+        if (word.length() >= 3) {
+            for (int termId : infixCandidates(word)) {
+                String term = terms.get(termId);
+                if (!term.startsWith(word) && term.contains(word)) {
+                    matched.add(new ScoredTerm(termId, termScore(word, term, false)));
+                }
+            }
+        }
+        return matched;
+    }
+
+    private List<ScoredTerm> fuzzyTerms(String word) {
+        List<ScoredTerm> matched = new ArrayList<>();
+        int maxEdits = maxEdits(word);
+        if (maxEdits > 0) {
+            for (int termId : fuzzyCandidates(word, maxEdits)) {
+                int distance = boundedDistance(word, terms.get(termId), maxEdits);
+                if (distance > 0 && distance <= maxEdits) {
+                    matched.add(new ScoredTerm(termId, FUZZY - 0.1 * distance));
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 검색어 한 단어와 용어 하나의 일치 점수 (일치하지 않으면 0)
+     * @param fuzzy 편집 거리 일치까지 허용할지 여부 (이름 용어만)
+     */
+    static double termScore(String word, String term, boolean fuzzy) {
+        if (term.startsWith(word)) {
+            return term.length() == word.length() ? EXACT : PREFIX + 0.1 * word.length() / term.length();
+        }
+        if (word.length() >= 3 && term.contains(word)) {
+            return INFIX + 0.1 * word.length() / term.length();
+        }
+        int maxEdits = maxEdits(word);
+        if (fuzzy && maxEdits > 0) {
+            int distance = boundedDistance(word, term, maxEdits);
+            if (distance <= maxEdits) {
+                return FUZZY - 0.1 * distance;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 검색어의 (경계 없는) 트라이그램을 모두 가진 용어 ID
+     */
+    private int[] infixCandidates(String word) {
+        List<IntPostings> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= word.length(); i++) {
+            IntPostings postings = trigramTerms.get(trigram(word, i));
+            if (postings == null) {
+                return new int[0];
+            }
+            lists.add(postings);
+        }
+        lists.sort(Comparator.comparingInt(IntPostings::size));
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = IntPostings.intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 편집 거리 k 이내일 수 있는 이름 용어 ID
+     * - 경계 문자를 붙인 길이 L 문자열의 트라이그램은 L개이고, 편집 1회는 최대 4개(인접 교환)를 깨뜨림
+     *   → 최소 T = L - 4k개의 트라이그램을 공유해야 함
+     * - 따라서 후보는 가장 짧은 (L - T + 1)개 포스팅 중 하나에는 반드시 있음 → 그 합집합만 확인 (prefix filtering)
+     */
+    private int[] fuzzyCandidates(String word, int maxEdits) {
+        String padded = START + word + END;
+        Set<Integer> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(trigram(padded, i));
+        }
+        List<IntPostings> lists = new ArrayList<>();
+        for (int code : trigrams) {
+            IntPostings postings = nameTrigramTerms.get(code);
+            if (postings != null) {
+                lists.add(postings);
+            }
+        }
+        // 검색어 안에서 중복된 트라이그램만큼 하한을 낮춤 (서로 다른 트라이그램 기준)
+        int threshold = Math.max(1, word.length() - 4 * maxEdits - (word.length() - trigrams.size()));
+        if (lists.size() < threshold) {
+            return new int[0];
+        }
+        lists.sort(Comparator.comparingInt(IntPostings::size));
+        int pivots = lists.size() - threshold + 1;
+        int[] out = new int[16];
+        int n = 0;
+        for (int i = 0; i < pivots; i++) {
+            IntPostings postings = lists.get(i);
+            for (int p = 0; p < postings.size(); p++) {
+                int termId = postings.get(p);
+                if (Math.abs(terms.get(termId).length() - word.length()) <= maxEdits) {
+                    if (n == out.length) {
+                        out = Arrays.copyOf(out, n * 2);
+                    }
+                    out[n++] = termId;
+                }
+            }
+        }
+        Arrays.sort(out, 0, n);
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (distinct == 0 || out[distinct - 1] != out[i]) {
+                out[distinct++] = out[i];
+            }
+        }
+        return Arrays.copyOf(out, distinct);
+    }
+
+    /**
+     * 용어 ID 조회/생성 (쓰기 락 안에서 호출)
+     */
+    private int termIdOrCreate(String term, boolean name) {
+        Integer existing = termIds.get(term);
+        int termId;
+        if (existing != null) {
+            termId = existing;
+        } else {
+            termId = terms.size();
+            terms.add(term);
+            termEmployees.add(new IntPostings());
+            termIds.put(term, termId);
+            for (int i = 0; i + 3 <= term.length(); i++) {
+                trigramTerms.computeIfAbsent(trigram(term, i), key -> new IntPostings()).add(termId);
+            }
+        }
+        if (name && !nameTerms.get(termId)) {
+            nameTerms.set(termId);
+            String padded = START + term + END;
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                nameTrigramTerms.computeIfAbsent(trigram(padded, i), key -> new IntPostings()).add(termId);
+            }
+        }
+        return termId;
+    }
+
+    private void removeDocument(int employeeId) {
+        int[] previous = documents.remove(employeeId);
+        if (previous != null) {
+            for (int termId : previous) {
+                termEmployees.get(termId).remove(employeeId);
+            }
+        }
+    }
+
+    private static List<EmployeeMatch> topK(Map<Integer, Double> scores, int limit) {
+        PriorityQueue<EmployeeMatch> heap = new PriorityQueue<>(limit + 1, RANKING);
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            heap.offer(new EmployeeMatch(entry.getKey(), entry.getValue()));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        return sorted(heap);
+    }
+
+    private static List<EmployeeMatch> sorted(PriorityQueue<EmployeeMatch> heap) {
+        List<EmployeeMatch> result = new ArrayList<>(heap);
+        result.sort(RANKING.reversed());
+        return result;
+    }
+
+    private static List<String> tokens(String... values) {
+        List<String> tokens = new ArrayList<>(values.length + 1);
+        for (String value : values) {
+            String normalized = normalize(value);
+            if (normalized != null) {
+                tokens.add(normalized);
+            }
+        }
+        return tokens;
+    }
+
+    private static Optional<String> normalizedEmailLocalPart(String email) {
+        String normalized = normalize(email);
+        if (normalized == null || normalized.indexOf('@') <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(normalized.substring(0, normalized.indexOf('@')));
+    }
+
+    static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    static int maxEdits(String word) {
+        if (word.length() >= 12) {
+            return 2;
+        }
+        return word.length() >= 4 ? 1 : 0;
+    }
+
+    /**
+     * 트라이그램 해시 (충돌은 후보가 조금 늘어날 뿐 확인 단계에서 걸러짐)
+     */
+    private static int trigram(String value, int offset) {
+        return (value.charAt(offset) * 31 + value.charAt(offset + 1)) * 31 + value.charAt(offset + 2);
+    }
+
+    /**
+     * 인접 문자 교환을 포함한 편집 거리 (optimal string alignment, max를 넘으면 max + 1을 반환하고 조기 종료)
+     */
+    static int boundedDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMin = Math.min(rowMin, distance);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private record ScoredTerm(int termId, double score) {
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.jpamappings.hr.search;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.jpamappings.cdc.ChangeOperation;
+import org.example.jpamappings.cdc.ChangeRecord;
+import org.example.jpamappings.cdc.ChangeSubscriber;
+import org.example.jpamappings.hr.Employees;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+/**
+ * 직원 검색 색인 갱신기
+ * - 기동 시 EMPLOYEES 전체를 이름/이메일만 프로젝션으로 읽어 색인을 구축
+ * - 이후에는 outbox 릴레이가 전달하는 Employees 변경 레코드로 증분 갱신
+ *   (INSERT, 검색 대상 컬럼이 바뀐 UPDATE → 다시 읽어서 교체, DELETE → 제거)
+ * - 변경 레코드에는 값이 없으므로 갱신 시 한 건을 다시 조회함 (이미 삭제됐으면 색인에서도 제거)
+ * - 재구축은 새 색인을 따로 채운 뒤 한 번에 교체하고, 재구축 중 도착한 변경의 직원은 교체 후 다시 조회해 반영
+ *   (재구축이 읽은 시점 이후의 변경, 예를 들어 삭제가 교체로 되살아나지 않음)
+ */
+public class EmployeeSearchIndexUpdater implements ChangeSubscriber, ApplicationRunner {
+
+    private static final String SELECT_ALL =
+            "select e.employeeId, e.firstName, e.lastName, e.email from Employees e";
+
+    private static final String SELECT_ONE = SELECT_ALL + " where e.employeeId = :employeeId";
+
+    private static final Set<String> SEARCHED_COLUMNS = Set.of("first_name", "last_name", "email");
+
+    private final EmployeeSearchIndex index;
+    private final EntityManager em;
+    private final TransactionTemplate readOnlyTx;
+
+    /**
+     * 증분 갱신과 색인 교체를 직렬화 (재구축의 전체 조회 중에는 잡지 않으므로 릴레이를 오래 막지 않음)
+     */
+    private final Object changeLock = new Object();
+    private final Object rebuildLock = new Object();
+
+    /**
+     * 재구축 중 변경된 직원 ID (재구축 중이 아니면 null, changeLock으로 보호)
+     */
+    private Set<Integer> changedDuringRebuild;
+
+    public EmployeeSearchIndexUpdater(EmployeeSearchIndex index, EntityManager em,
+                                      PlatformTransactionManager transactionManager) {
+        this.index = index;
+        this.em = em;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("employee search index rebuild failed, search results will be empty until updates arrive", e);
+        }
+    }
+
+    /**
+     * EMPLOYEES 전체로 새 색인을 만들어 현재 색인과 교체 (재구축 중에도 검색은 이전 색인 전체를 봄)
+     * @return 색인된 직원 수
+     */
+    public int rebuild() {
+        return rebuild(() -> {
+        });
+    }
+
+    /**
+     * @param beforeSwap 새 색인을 다 채운 뒤 교체 직전에 실행 (테스트에서 재구축 중 변경을 끼워 넣을 때 사용)
+     */
+    int rebuild(Runnable beforeSwap) {
+        synchronized (rebuildLock) {
+            long started = System.nanoTime();
+            synchronized (changeLock) {
+                changedDuringRebuild = new HashSet<>();
+            }
+            try {
+                EmployeeSearchIndex fresh = new EmployeeSearchIndex();
+                readOnlyTx.executeWithoutResult(status -> em.createQuery(SELECT_ALL, Object[].class)
+                        .getResultStream()
+                        .forEach(row -> put(fresh, row)));
+                beforeSwap.run();
+                synchronized (changeLock) {
+                    index.replaceWith(fresh);
+                    changedDuringRebuild.forEach(this::refresh);
+                }
+            } finally {
+                synchronized (changeLock) {
+                    changedDuringRebuild = null;
+                }
+            }
+            log.info("indexed {} employees for search in {} ms", index.size(), (System.nanoTime() - started) / 1_000_000);
+            return index.size();
+        }
+    }
+
+    @Override
+    public void onChange(ChangeRecord record) {
+        if (!record.isFor(Employees.class)) {
+            return;
+        }
+        if (record.operation() == ChangeOperation.UPDATE
+                && record.changedColumns().stream().map(String::toLowerCase).noneMatch(SEARCHED_COLUMNS::contains)) {
+            return;
+        }
+        int employeeId = Integer.parseInt(record.entityId());
+        synchronized (changeLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(employeeId);
+            }
+            if (record.operation() == ChangeOperation.DELETE) {
+                index.remove(employeeId);
+            } else {
+                refresh(employeeId);
+            }
+        }
+    }
+
+    /**
+     * 직원 한 명을 다시 읽어 색인에 반영 (없으면 제거)
+     */
+    private void refresh(int employeeId) {
+        List<Object[]> rows = readOnlyTx.execute(status -> em.createQuery(SELECT_ONE, Object[].class)
+                .setParameter("employeeId", employeeId)
+                .getResultList());
+        if (rows == null || rows.isEmpty()) {
+            index.remove(employeeId);
+        } else {
+            put(index, rows.get(0));
+        }
+    }
+
+    private static void put(EmployeeSearchIndex target, Object[] row) {
+        target.put((Integer) row[0], (String) row[1], (String) row[2], (String) row[3]);
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.jpamappings.hr.search;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 int 배열 기반 포스팅 리스트
+ * - 박싱 없이 ID를 저장하여 1M 건 규모에서도 메모리를 작게 유지
+ * - 삽입/삭제는 이진 탐색 + 배열 이동 (색인 갱신은 드물고 조회가 대부분인 용도)
+ */
+final class IntPostings {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] values = EMPTY;
+    private int size;
+
+    boolean add(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return false;
+        }
+        int insertAt = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(4, size + (size >> 1)));
+        }
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        values[insertAt] = value;
+        size++;
+        return true;
+    }
+
+    boolean remove(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    /**
+     * 두 포스팅의 교집합 (정렬 병합)
+     */
+    static int[] intersect(int[] left, IntPostings right) {
+        int[] out = new int[Math.min(left.length, right.size)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < left.length && j < right.size) {
+            int a = left[i];
+            int b = right.values[j];
+            if (a == b) {
+                out[n++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.jpamappings.hr.search;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+
+/**
+ * PostgreSQL pg_trgm 기반 직원 검색
+ * - db/postgresql/employee-search.sql의 GIN(gin_trgm_ops) 식 인덱스를 사용
+ *   → lower(col) LIKE '%x%'(접두어/부분 문자열)와 lower(col) % 'x'(유사도) 모두 인덱스로 처리
+ * - 점수: 정확 일치 > 접두어 > 부분 문자열 > 트라이그램 유사도 (프로세스 내 색인과 같은 순서)
+ * - 단어 단위 AND 검색은 하지 않고 검색어 전체를 한 문자열로 비교
+ */
+public class PostgresEmployeeSearch implements EmployeeSearch {
+
+    private static final String SEARCH_SQL = """
+            SELECT employee_id, score FROM (
+                SELECT employee_id,
+                       GREATEST(
+                           CASE WHEN lower(first_name) = :q OR lower(last_name) = :q OR lower(email) = :q THEN 1.0
+                                WHEN lower(first_name) LIKE :prefix OR lower(last_name) LIKE :prefix
+                                     OR lower(email) LIKE :prefix THEN 0.8
+                                WHEN lower(first_name) LIKE :infix OR lower(last_name) LIKE :infix
+                                     OR lower(email) LIKE :infix THEN 0.6
+                                ELSE 0 END,
+                           0.4 * GREATEST(similarity(lower(first_name), :q),
+                                          similarity(lower(last_name), :q),
+                                          similarity(lower(email), :q))) AS score
+                FROM employees
+                WHERE lower(first_name) LIKE :infix OR lower(last_name) LIKE :infix OR lower(email) LIKE :infix
+                   OR lower(first_name) % :q OR lower(last_name) % :q OR lower(email) % :q
+            ) matches
+            ORDER BY score DESC, employee_id
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PostgresEmployeeSearch(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<EmployeeMatch> search(String query, int limit) {
+        String normalized = EmployeeSearchIndex.normalize(query);
+        if (normalized == null || limit <= 0) {
+            return List.of();
+        }
+        String escaped = escapeLike(normalized);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("q", normalized)
+                .addValue("prefix", escaped + "%")
+                .addValue("infix", "%" + escaped + "%")
+                .addValue("limit", limit);
+        return jdbcTemplate.query(SEARCH_SQL, parameters,
+                (rs, rowNum) -> new EmployeeMatch(rs.getInt("employee_id"), rs.getDouble("score")));
+    }
+
+    /**
+     * LIKE 패턴 특수문자 이스케이프 (PostgreSQL 기본 이스케이프 문자 '\')
+     */
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.jpamappings.hr.sync;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * hr/*.csv를 한 행씩 읽는 최소한의 CSV 리더 (H2 CSVREAD와 같은 해석)
+ * - 구분자는 쉼표, 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈 허용, "" 는 큰따옴표 하나
+ * - 빈 필드는 null (CSVREAD와 같이 NULL로 적재되도록)
+ */
+class CsvReader implements Closeable {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    CsvReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 행
+     * @return 필드 배열, 파일 끝이면 null
+     */
+    String[] next() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (quoted) {
+                    line = reader.readLine();
+                    if (line == null) {
+                        throw new IOException("unterminated quoted field at line " + lineNumber);
+                    }
+                    lineNumber++;
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+                fields.add(field.isEmpty() ? null : field.toString());
+                return fields.toArray(String[]::new);
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.isEmpty() ? null : field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 행의 (마지막) 줄 번호, 1부터 시작
+     */
+    long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
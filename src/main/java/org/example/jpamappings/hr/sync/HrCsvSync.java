@@ -0,0 +1,497 @@
+package org.example.jpamappings.hr.sync;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.jpamappings.cdc.CaptureChanges;
+import org.example.jpamappings.cdc.ChangeOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+/**
+ * hr/*.csv 증분 재동기화
+ * - 테이블을 지우고 다시 적재하는 대신, CSV를 한 행씩 읽어 행 해시(64비트 FNV-1a)를 HR_ROW_HASH의 이전 해시와 비교
+ *   → 새 키는 INSERT, 해시가 다르면 UPDATE, 같으면 건너뜀, CSV에서 사라진 키는 DELETE
+ * - 반영은 UPSERT(H2 MERGE / PostgreSQL ON CONFLICT)와 DELETE를 batchSize 단위 JDBC 배치로 실행
+ * - 외래키는 문장마다 즉시 검사되도록 순서를 맞춤 (검사를 끄거나 미루지 않으므로 실패하면 어떤 변경도 남지 않음)
+ *   1. 부모 → 자식 순으로 UPSERT, 단 HrTable.deferredColumns(관리자)는 null로
+ *   2. 모든 UPSERT 후 관리자 컬럼 UPDATE (EMPLOYEES ↔ DEPARTMENTS 순환 참조와 파일 뒤쪽 직원을 가리키는 관리자)
+ *   3. 삭제할 행의 관리자 컬럼을 먼저 null로 비운 뒤 자식 → 부모 순으로 DELETE
+ * - 행 해시 갱신과 데이터 반영은 한 트랜잭션 (실패하면 둘 다 롤백되어 다음 실행에서 다시 비교)
+ * - 처음 실행하면(해시 없음) 모든 행을 UPSERT하므로 data.sql로 이미 적재된 DB에도 안전하게 적용 가능
+ * - JDBC로 직접 반영하므로 CDC 리스너를 거치지 않음 → 변경 키를 outbox에 직접 기록
+ *   (이전 값을 보관하지 않으므로 UPDATE의 변경 컬럼은 키를 제외한 모든 컬럼으로 기록)
+ * - 예약 실행: hr.sync.cron (기본 비활성), hr.sync.directory
+ */
+public class HrCsvSync {
+
+    private static final String SELECT_HASHES_SQL =
+            "SELECT row_key, row_hash FROM hr_row_hash WHERE table_name = ?";
+
+    private static final String DELETE_HASH_SQL =
+            "DELETE FROM hr_row_hash WHERE table_name = ? AND row_key = ?";
+
+    private static final String OUTBOX_INSERT_SQL =
+            "INSERT INTO outbox_event (entity_name, entity_id, operation, changed_columns, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    private static final List<String> HASH_COLUMNS = List.of("table_name", "row_key", "row_hash");
+
+    private static final List<String> HASH_KEY_COLUMNS = List.of("table_name", "row_key");
+
+    /**
+     * 복합키 값 구분자 (CSV 값에 나오지 않는 제어 문자)
+     */
+    private static final char KEY_SEPARATOR = '\u001F';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final String directory;
+
+    public HrCsvSync(JdbcTemplate jdbcTemplate,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${hr.sync.batch-size:1000}") int batchSize,
+                     @Value("${hr.sync.directory:}") String directory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.directory = directory;
+    }
+
+    /**
+     * 예약 실행 (hr.sync.cron, 기본값 "-"는 비활성)
+     */
+    @Scheduled(cron = "${hr.sync.cron:-}")
+    public void scheduledSync() {
+        if (!StringUtils.hasText(directory)) {
+            log.warn("hr.sync.directory is not set, skipping HR CSV sync");
+            return;
+        }
+        sync(Path.of(directory));
+    }
+
+    /**
+     * 디렉터리의 HrTable CSV 파일로 동기화 (없는 파일의 테이블은 건드리지 않음)
+     * @param directory LOCATIONS.csv, DEPARTMENTS.csv, EMPLOYEES.csv, JOB_HISTORY.csv가 있는 디렉터리
+     * @return 테이블별 변경 행 수와 소요 시간
+     */
+    public SyncReport sync(Path directory) {
+        long started = System.nanoTime();
+        List<TableSyncReport> tables = tx.execute(status -> jdbcTemplate.execute(
+                (ConnectionCallback<List<TableSyncReport>>) connection -> syncAll(connection, directory)));
+        SyncReport report = new SyncReport(tables, Duration.ofNanos(System.nanoTime() - started));
+        log.info("HR CSV sync from {}: inserted={}, updated={}, deleted={}, unchanged={} in {} ms",
+                directory, report.inserted(), report.updated(), report.deleted(), report.unchanged(),
+                report.elapsed().toMillis());
+        return report;
+    }
+
+    private List<TableSyncReport> syncAll(Connection connection, Path directory) throws SQLException {
+        UpsertDialect dialect = UpsertDialect.of(connection);
+        List<TableDiff> diffs = new ArrayList<>();
+        for (HrTable table : HrTable.values()) {
+            Path file = directory.resolve(table.fileName());
+            if (Files.isRegularFile(file)) {
+                diffs.add(upsertChanged(connection, dialect, table, file));
+            } else {
+                log.debug("{} not found, {} left as is", file, table.tableName());
+            }
+        }
+        for (TableDiff diff : diffs) {
+            diff.applyDeferred(connection);
+        }
+        for (TableDiff diff : diffs) {
+            diff.clearDeferred(connection);
+        }
+        // 자식 테이블부터 삭제
+        for (int i = diffs.size() - 1; i >= 0; i--) {
+            diffs.get(i).deleteRemoved(connection);
+        }
+        return diffs.stream().map(TableDiff::report).toList();
+    }
+
+    /**
+     * CSV를 읽으며 새 행/바뀐 행만 UPSERT
+     * @return 삭제할 키(CSV에 없는 이전 키)를 포함한 비교 결과
+     */
+    private TableDiff upsertChanged(Connection connection, UpsertDialect dialect, HrTable table, Path file)
+            throws SQLException {
+        long started = System.nanoTime();
+        Map<String, Long> previous = loadHashes(connection, table);
+        try (CsvReader csv = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            String[] header = csv.next();
+            if (header == null) {
+                throw new IllegalStateException(file + " is empty");
+            }
+            List<String> columns = Arrays.stream(header).map(name -> name.strip().toLowerCase(Locale.ROOT)).toList();
+            int[] keyIndexes = table.keyColumns().stream().mapToInt(columns::indexOf).toArray();
+            if (Arrays.stream(keyIndexes).anyMatch(index -> index < 0)) {
+                throw new IllegalStateException(file + " must contain key columns " + table.keyColumns());
+            }
+            int[] types = columnTypes(connection, table.tableName(), columns);
+            TableDiff diff = new TableDiff(table, columns, keyIndexes, types);
+
+            try (PreparedStatement upsert = connection.prepareStatement(
+                    dialect.upsertSql(table.tableName(), columns, table.keyColumns()));
+                 PreparedStatement hashUpsert = connection.prepareStatement(
+                         dialect.upsertSql("hr_row_hash", HASH_COLUMNS, HASH_KEY_COLUMNS));
+                 PreparedStatement outbox = connection.prepareStatement(OUTBOX_INSERT_SQL)) {
+                int pending = 0;
+                String[] row;
+                while ((row = csv.next()) != null) {
+                    if (row.length != columns.size()) {
+                        throw new IllegalStateException(file + " line " + csv.lineNumber() + " has " + row.length
+                                + " fields, expected " + columns.size());
+                    }
+                    String key = key(row, keyIndexes);
+                    long hash = hash(row);
+                    Long before = previous.remove(key);
+                    ChangeOperation operation;
+                    if (before == null) {
+                        operation = ChangeOperation.INSERT;
+                        diff.inserted++;
+                    } else if (before != hash) {
+                        operation = ChangeOperation.UPDATE;
+                        diff.updated++;
+                    } else {
+                        diff.unchanged++;
+                        continue;
+                    }
+                    for (int i = 0; i < row.length; i++) {
+                        bind(upsert, i + 1, diff.isDeferred(i) ? null : row[i], types[i]);
+                    }
+                    upsert.addBatch();
+                    diff.defer(row);
+                    hashUpsert.setString(1, table.name());
+                    hashUpsert.setString(2, key);
+                    hashUpsert.setLong(3, hash);
+                    hashUpsert.addBatch();
+                    diff.capture(outbox, key, operation);
+                    if (++pending == batchSize) {
+                        executeBatches(upsert, hashUpsert, outbox);
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    executeBatches(upsert, hashUpsert, outbox);
+                }
+            }
+            diff.removedKeys = previous.keySet();
+            diff.elapsedNanos += System.nanoTime() - started;
+            return diff;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read " + file, e);
+        }
+    }
+
+    private Map<String, Long> loadHashes(Connection connection, HrTable table) throws SQLException {
+        Map<String, Long> hashes = new HashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(SELECT_HASHES_SQL)) {
+            ps.setFetchSize(10_000);
+            ps.setString(1, table.name());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    hashes.put(rs.getString(1), rs.getLong(2));
+                }
+            }
+        }
+        return hashes;
+    }
+
+    private static int[] columnTypes(Connection connection, String table, List<String> columns) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT " + String.join(", ", columns) + " FROM " + table + " WHERE 1 = 0")) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            int[] types = new int[columns.size()];
+            for (int i = 0; i < types.length; i++) {
+                types[i] = metaData.getColumnType(i + 1);
+            }
+            return types;
+        }
+    }
+
+    /**
+     * CSV 문자열을 컬럼 타입에 맞게 바인딩 (PostgreSQL은 문자열 → 숫자/날짜 암묵 변환을 하지 않음)
+     */
+    private static void bind(PreparedStatement ps, int index, String value, int type) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, type);
+            return;
+        }
+        switch (type) {
+            case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> ps.setInt(index, Integer.parseInt(value));
+            case Types.BIGINT -> ps.setLong(index, Long.parseLong(value));
+            case Types.DECIMAL, Types.NUMERIC -> ps.setBigDecimal(index, new BigDecimal(value));
+            case Types.DATE -> ps.setObject(index, LocalDate.parse(value));
+            case Types.TIMESTAMP -> ps.setObject(index, LocalDateTime.parse(value.replace(' ', 'T')));
+            default -> ps.setString(index, value);
+        }
+    }
+
+    private static void executeBatches(PreparedStatement... statements) throws SQLException {
+        for (PreparedStatement statement : statements) {
+            statement.executeBatch();
+        }
+    }
+
+    private static String key(String[] row, int[] keyIndexes) {
+        if (keyIndexes.length == 1) {
+            return row[keyIndexes[0]];
+        }
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < keyIndexes.length; i++) {
+            if (i > 0) {
+                key.append(KEY_SEPARATOR);
+            }
+            key.append(row[keyIndexes[i]]);
+        }
+        return key.toString();
+    }
+
+    /**
+     * 행 해시 - 64비트 FNV-1a (필드 사이에 구분자, null은 빈 문자열과 구분)
+     * - 같은 키의 이전 해시와만 비교하므로 충돌로 변경을 놓칠 확률은 행마다 약 2^-64
+     */
+    static long hash(String[] row) {
+        long hash = 0xcbf29ce484222325L;
+        for (String field : row) {
+            if (field == null) {
+                hash = (hash ^ 0xFF) * 0x100000001b3L;
+            } else {
+                for (int i = 0; i < field.length(); i++) {
+                    char c = field.charAt(i);
+                    hash = (hash ^ (c & 0xFF)) * 0x100000001b3L;
+                    hash = (hash ^ (c >>> 8)) * 0x100000001b3L;
+                }
+            }
+            hash = (hash ^ KEY_SEPARATOR) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 테이블 하나의 비교 결과와 삭제 단계 상태
+     */
+    private final class TableDiff {
+
+        private final HrTable table;
+        private final int[] keyIndexes;
+        private final List<String> deferredColumns;
+        private final int[] deferredIndexes;
+        private final int[] types;
+        private final String entityName;
+        private final String changedColumns;
+        private long elapsedNanos;
+        private int inserted;
+        private int updated;
+        private int unchanged;
+        private Collection<String> removedKeys = List.of();
+
+        /**
+         * 2단계에서 UPDATE할 행 (deferredIndexes 값, 키 값 순)
+         */
+        private final List<String[]> deferredRows = new ArrayList<>();
+
+        private TableDiff(HrTable table, List<String> columns, int[] keyIndexes, int[] types) {
+            this.table = table;
+            this.keyIndexes = keyIndexes;
+            this.deferredColumns = table.deferredColumns().stream().filter(columns::contains).toList();
+            this.deferredIndexes = deferredColumns.stream().mapToInt(columns::indexOf).toArray();
+            this.types = types;
+            this.entityName = table.entityClass().isAnnotationPresent(CaptureChanges.class)
+                    ? table.entityClass().getSimpleName() : null;
+            this.changedColumns = columns.stream()
+                    .filter(column -> !table.keyColumns().contains(column))
+                    .collect(Collectors.joining(","));
+        }
+
+        private boolean isDeferred(int index) {
+            for (int deferred : deferredIndexes) {
+                if (deferred == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * UPSERT에서 null로 넣은 컬럼 중 값이 있는 행을 2단계 UPDATE 대상으로 보관
+         */
+        private void defer(String[] row) {
+            boolean set = false;
+            String[] values = new String[deferredIndexes.length + keyIndexes.length];
+            for (int i = 0; i < deferredIndexes.length; i++) {
+                values[i] = row[deferredIndexes[i]];
+                set |= values[i] != null;
+            }
+            if (!set) {
+                return;
+            }
+            for (int i = 0; i < keyIndexes.length; i++) {
+                values[deferredIndexes.length + i] = row[keyIndexes[i]];
+            }
+            deferredRows.add(values);
+        }
+
+        /**
+         * 모든 테이블의 UPSERT 후 보관한 관리자 컬럼 값을 UPDATE
+         */
+        private void applyDeferred(Connection connection) throws SQLException {
+            if (deferredRows.isEmpty()) {
+                return;
+            }
+            long started = System.nanoTime();
+            String set = deferredColumns.stream().map(column -> column + " = ?")
+                    .collect(Collectors.joining(", "));
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE " + table.tableName() + " SET " + set + " WHERE " + keyCondition())) {
+                int pending = 0;
+                for (String[] values : deferredRows) {
+                    for (int i = 0; i < deferredIndexes.length; i++) {
+                        bind(update, i + 1, values[i], types[deferredIndexes[i]]);
+                    }
+                    for (int i = 0; i < keyIndexes.length; i++) {
+                        bind(update, deferredIndexes.length + i + 1, values[deferredIndexes.length + i],
+                                types[keyIndexes[i]]);
+                    }
+                    update.addBatch();
+                    if (++pending == batchSize) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    update.executeBatch();
+                }
+            }
+            deferredRows.clear();
+            elapsedNanos += System.nanoTime() - started;
+        }
+
+        /**
+         * 삭제할 행의 관리자 컬럼을 비움 (삭제할 행끼리 서로 가리켜도 DELETE 순서와 무관하게 외래키를 통과)
+         */
+        private void clearDeferred(Connection connection) throws SQLException {
+            if (removedKeys.isEmpty() || table.deferredColumns().isEmpty()) {
+                return;
+            }
+            long started = System.nanoTime();
+            String set = table.deferredColumns().stream().map(column -> column + " = NULL")
+                    .collect(Collectors.joining(", "));
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE " + table.tableName() + " SET " + set + " WHERE " + keyCondition())) {
+                int pending = 0;
+                for (String key : removedKeys) {
+                    bindKey(update, key);
+                    update.addBatch();
+                    if (++pending == batchSize) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    update.executeBatch();
+                }
+            }
+            elapsedNanos += System.nanoTime() - started;
+        }
+
+        /**
+         * CSV에서 사라진 키를 삭제 (데이터, 행 해시, outbox)
+         */
+        private void deleteRemoved(Connection connection) throws SQLException {
+            if (removedKeys.isEmpty()) {
+                return;
+            }
+            long started = System.nanoTime();
+            try (PreparedStatement delete = connection.prepareStatement(
+                    "DELETE FROM " + table.tableName() + " WHERE " + keyCondition());
+                 PreparedStatement hashDelete = connection.prepareStatement(DELETE_HASH_SQL);
+                 PreparedStatement outbox = connection.prepareStatement(OUTBOX_INSERT_SQL)) {
+                int pending = 0;
+                for (String key : removedKeys) {
+                    bindKey(delete, key);
+                    delete.addBatch();
+                    hashDelete.setString(1, table.name());
+                    hashDelete.setString(2, key);
+                    hashDelete.addBatch();
+                    capture(outbox, key, ChangeOperation.DELETE);
+                    if (++pending == batchSize) {
+                        executeBatches(delete, hashDelete, outbox);
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    executeBatches(delete, hashDelete, outbox);
+                }
+            }
+            elapsedNanos += System.nanoTime() - started;
+        }
+
+        private String keyCondition() {
+            return table.keyColumns().stream().map(column -> column + " = ?").collect(Collectors.joining(" AND "));
+        }
+
+        /**
+         * row_key를 키 컬럼 값으로 나누어 1번 파라미터부터 바인딩
+         */
+        private void bindKey(PreparedStatement ps, String key) throws SQLException {
+            String[] values = keyIndexes.length == 1 ? new String[]{key} : key.split(String.valueOf(KEY_SEPARATOR), -1);
+            for (int i = 0; i < keyIndexes.length; i++) {
+                bind(ps, i + 1, values[i], types[keyIndexes[i]]);
+            }
+        }
+
+        private void capture(PreparedStatement outbox, String key, ChangeOperation operation) throws SQLException {
+            if (entityName == null) {
+                return;
+            }
+            outbox.setString(1, entityName);
+            outbox.setString(2, key);
+            outbox.setString(3, operation.name());
+            outbox.setString(4, operation == ChangeOperation.DELETE ? "" : changedColumns);
+            outbox.setTimestamp(5, Timestamp.from(Instant.now()));
+            outbox.addBatch();
+        }
+
+        private TableSyncReport report() {
+            return new TableSyncReport(table, inserted, updated, removedKeys.size(), unchanged,
+                    Duration.ofNanos(elapsedNanos));
+        }
+    }
+}
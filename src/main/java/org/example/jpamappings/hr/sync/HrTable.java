@@ -0,0 +1,56 @@
+package org.example.jpamappings.hr.sync;
+
+import org.example.jpamappings.hr.Department;
+import org.example.jpamappings.hr.Employees;
+import org.example.jpamappings.hr.JobHistory;
+import org.example.jpamappings.hr.Location;
+
+import java.util.List;
+
+/**
+ * CSV로 동기화하는 HR 테이블 (선언 순서 = 외래키 부모 → 자식, UPSERT는 이 순서, DELETE는 역순)
+ * - fileName: 동기화 디렉터리 안의 CSV 파일 이름
+ * - keyColumns: 행 식별 키 (row_key로 저장)
+ * - entityClass: CDC outbox에 기록할 엔티티 (@CaptureChanges가 없으면 기록하지 않음)
+ * - deferredColumns: 선언 순서로는 참조 대상이 먼저 있다고 보장할 수 없는 외래키 컬럼
+ *   (EMPLOYEES ↔ DEPARTMENTS 관리자, EMPLOYEES 자기 참조 → UPSERT 때는 null, 모든 UPSERT 후 따로 UPDATE)
+ */
+public enum HrTable {
+
+    LOCATIONS("locations", Location.class, List.of("location_id"), List.of()),
+    DEPARTMENTS("departments", Department.class, List.of("department_id"), List.of("manager_id")),
+    EMPLOYEES("employees", Employees.class, List.of("employee_id"), List.of("manager_id")),
+    JOB_HISTORY("job_history", JobHistory.class, List.of("employee_id", "start_date"), List.of());
+
+    private final String tableName;
+    private final Class<?> entityClass;
+    private final List<String> keyColumns;
+    private final List<String> deferredColumns;
+
+    HrTable(String tableName, Class<?> entityClass, List<String> keyColumns, List<String> deferredColumns) {
+        this.tableName = tableName;
+        this.entityClass = entityClass;
+        this.keyColumns = keyColumns;
+        this.deferredColumns = deferredColumns;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public String fileName() {
+        return name() + ".csv";
+    }
+
+    public Class<?> entityClass() {
+        return entityClass;
+    }
+
+    public List<String> keyColumns() {
+        return keyColumns;
+    }
+
+    public List<String> deferredColumns() {
+        return deferredColumns;
+    }
+}
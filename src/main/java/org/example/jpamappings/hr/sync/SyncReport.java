@@ -0,0 +1,36 @@
+package org.example.jpamappings.hr.sync;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * CSV 재동기화 결과
+ * @param tables 테이블별 결과 (CSV 파일이 없는 테이블은 빠짐)
+ * @param elapsed 전체 소요 시간 (한 트랜잭션)
+ */
+public record SyncReport(List<TableSyncReport> tables, Duration elapsed) {
+
+    public int inserted() {
+        return tables.stream().mapToInt(TableSyncReport::inserted).sum();
+    }
+
+    public int updated() {
+        return tables.stream().mapToInt(TableSyncReport::updated).sum();
+    }
+
+    public int deleted() {
+        return tables.stream().mapToInt(TableSyncReport::deleted).sum();
+    }
+
+    public int unchanged() {
+        return tables.stream().mapToInt(TableSyncReport::unchanged).sum();
+    }
+
+    public int changed() {
+        return inserted() + updated() + deleted();
+    }
+
+    public TableSyncReport table(HrTable table) {
+        return tables.stream().filter(report -> report.table() == table).findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.jpamappings.hr.sync;
+
+import java.time.Duration;
+
+/**
+ * 테이블 하나의 동기화 결과
+ * @param table 테이블
+ * @param inserted 새로 추가된 행 수
+ * @param updated 해시가 달라 갱신된 행 수
+ * @param deleted CSV에서 사라져 삭제된 행 수
+ * @param unchanged 해시가 같아 건너뛴 행 수
+ * @param elapsed 비교와 반영에 걸린 시간
+ */
+public record TableSyncReport(HrTable table, int inserted, int updated, int deleted, int unchanged,
+                              Duration elapsed) {
+
+    public int changed() {
+        return inserted + updated + deleted;
+    }
+}
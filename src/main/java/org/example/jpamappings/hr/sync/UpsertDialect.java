@@ -0,0 +1,54 @@
+package org.example.jpamappings.hr.sync;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * DB별 UPSERT 문법
+ * - H2: MERGE INTO … KEY (…)
+ * - PostgreSQL: INSERT … ON CONFLICT (…) DO UPDATE
+ * - 외래키 검사는 끄거나 미루지 않음 (HrCsvSync가 검사를 통과하는 순서로 반영)
+ */
+enum UpsertDialect {
+
+    H2 {
+        @Override
+        String upsertSql(String table, List<String> columns, List<String> keyColumns) {
+            return "MERGE INTO " + table + " (" + String.join(", ", columns) + ") KEY ("
+                    + String.join(", ", keyColumns) + ") VALUES (" + placeholders(columns.size()) + ")";
+        }
+    },
+
+    POSTGRESQL {
+        @Override
+        String upsertSql(String table, List<String> columns, List<String> keyColumns) {
+            String updates = columns.stream()
+                    .filter(column -> !keyColumns.contains(column))
+                    .map(column -> column + " = EXCLUDED." + column)
+                    .collect(Collectors.joining(", "));
+            return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                    + placeholders(columns.size()) + ") ON CONFLICT (" + String.join(", ", keyColumns) + ") "
+                    + (updates.isEmpty() ? "DO NOTHING" : "DO UPDATE SET " + updates);
+        }
+    };
+
+    abstract String upsertSql(String table, List<String> columns, List<String> keyColumns);
+
+    static UpsertDialect of(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName();
+        if (product.startsWith("H2")) {
+            return H2;
+        }
+        if (product.startsWith("PostgreSQL")) {
+            return POSTGRESQL;
+        }
+        throw new IllegalStateException("HR CSV sync does not support " + product);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
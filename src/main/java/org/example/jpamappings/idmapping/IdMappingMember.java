@@ -4,12 +4,20 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.example.jpamappings.cdc.CaptureChanges;
 
 @Setter
 @Getter
 @NoArgsConstructor
 @Entity
+@CaptureChanges
 @Table(name = "MEMBER")
+@NamedQueries({
+        @NamedQuery(name = IdMappingMember.FIND_ALL,
+                query = "SELECT m FROM IdMappingMember m"),
+        @NamedQuery(name = IdMappingMember.FIND_BY_TEAM_ID,
+                query = "SELECT m FROM IdMappingMember m WHERE m.teamId = :teamId")
+})
 /**
  * ID를 이용한 연관관계 매핑 Member 엔티티
  * - 객체 참조(@ManyToOne) 대신 외래키 ID만 직접 저장
@@ -18,6 +26,13 @@ import lombok.Setter;
  */
 public class IdMappingMember {
 
+    /**
+     * 이름 있는 쿼리 (부팅 시 검증되고 SQM으로 미리 파싱됨)
+     * - FIND_BY_TEAM_ID: teamId 컬럼으로 팀 소속 멤버 조회 (파라미터: teamId)
+     */
+    public static final String FIND_ALL = "IdMappingMember.findAll";
+    public static final String FIND_BY_TEAM_ID = "IdMappingMember.findByTeamId";
+
     /**
      * 멤버의 기본키 (Primary Key)
      * - IDENTITY 전략으로 데이터베이스가 자동으로 ID 생성
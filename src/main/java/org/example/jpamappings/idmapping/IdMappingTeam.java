@@ -4,11 +4,13 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.example.jpamappings.cdc.CaptureChanges;
 
 @Setter
 @Getter
 @NoArgsConstructor
 @Entity
+@CaptureChanges
 @Table(name = "TEAM")
 /**
  * ID를 이용한 연관관계 매핑에서 Team 엔티티
@@ -0,0 +1,35 @@
+package org.example.jpamappings.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(EntityLoadEvent.NAME)
+@Label("Entity Load")
+@Category({"JPA Mappings", "Hibernate"})
+@Description("Hibernate LOAD 이벤트 하나 (find/getReference/연관관계 로딩)")
+@StackTrace(false)
+/**
+ * 엔티티 로딩 JFR 이벤트
+ * - source: session(영속성 컨텍스트에 이미 있음) / cache(2차 캐시) / proxy(초기화되지 않은 프록시 반환) / db
+ * - loadType: Hibernate LoadType 이름 (GET, LOAD, IMMEDIATE_LOAD, INTERNAL_LOAD_EAGER …)
+ */
+public class EntityLoadEvent extends Event {
+
+    public static final String NAME = "org.example.jpamappings.EntityLoad";
+
+    @Label("Entity")
+    String entityName;
+
+    @Label("Id")
+    String id;
+
+    @Label("Source")
+    String source;
+
+    @Label("Load Type")
+    String loadType;
+}
@@ -0,0 +1,215 @@
+package org.example.jpamappings.jfr;
+
+import jakarta.persistence.metamodel.Metamodel;
+import jdk.jfr.Event;
+import org.example.jpamappings.diagnostics.LazyLoadListener;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AutoFlushEvent;
+import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Hibernate 이벤트 리스너에서 JFR 이벤트를 내보냄
+ * - LOAD/INIT_COLLECTION: 기본 리스너 앞(before)에서 JFR 이벤트를 시작하고 뒤(after)에서 끝내어 소요 시간을 잼
+ *   (중첩 로딩은 스레드별 스택으로 짝을 맞춤)
+ * - FLUSH/AUTO_FLUSH: 기록 중이면 세션에 JfrSessionListener를 한 번 붙여 flush 구간과 JDBC 실행 수를 기록
+ * - 기록 중이 아니면 before는 isEnabled() 확인만, after는 빈 스택 확인만 하고 끝남
+ *   (JFR 이벤트 객체는 탈출하지 않으므로 JIT가 할당을 없앰)
+ */
+public class JfrEventListeners {
+
+    private static final int MAX_OPEN_FRAMES = 64;
+
+    /**
+     * 대상 엔티티 이름(FQN) → 그 엔티티를 가리키는 to-one 연관관계 후보들
+     * - 프록시(LazyInitializer)와 LoadEvent에는 소유 엔티티/속성이 없으므로 대상 타입으로만 좁힘
+     */
+    private final Map<String, String> toOneAssociations;
+    private final ThreadLocal<ArrayDeque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Map<SessionEventListenerManager, Boolean> instrumentedSessions =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    public JfrEventListeners(Metamodel metamodel) {
+        this.toOneAssociations = LazyLoadListener.toOneAssociations(metamodel);
+    }
+
+    public void register(EventListenerRegistry registry) {
+        Before before = new Before();
+        After after = new After();
+        registry.prependListeners(EventType.LOAD, before);
+        registry.appendListeners(EventType.LOAD, after);
+        registry.prependListeners(EventType.INIT_COLLECTION, before);
+        registry.appendListeners(EventType.INIT_COLLECTION, after);
+        registry.prependListeners(EventType.FLUSH, before);
+        registry.prependListeners(EventType.AUTO_FLUSH, before);
+    }
+
+    private void beginLoad(LoadEvent event, LoadEventListener.LoadType loadType) {
+        EntityLoadEvent load = new EntityLoadEvent();
+        if (!load.isEnabled()) {
+            return;
+        }
+        String entityName = event.getEntityClassName();
+        load.entityName = LazyLoadListener.simpleName(entityName);
+        load.id = String.valueOf(event.getEntityId());
+        load.loadType = loadType.getName();
+        load.source = cachedSource(event);
+        LazyInitializationEvent lazy = null;
+        if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+            lazy = new LazyInitializationEvent();
+            lazy.candidateAssociations = toOneAssociations.getOrDefault(entityName, load.entityName + ".<proxy>");
+            lazy.entityName = load.entityName;
+            lazy.id = load.id;
+            lazy.begin();
+        }
+        load.begin();
+        push(new Frame(event, load, lazy));
+    }
+
+    private void endLoad(LoadEvent event) {
+        Frame frame = pop(event);
+        if (frame == null) {
+            return;
+        }
+        EntityLoadEvent load = (EntityLoadEvent) frame.event();
+        load.end();
+        if (load.source == null) {
+            load.source = event.getResult() instanceof HibernateProxy proxy
+                    && proxy.getHibernateLazyInitializer().isUninitialized() ? "proxy" : "db";
+        }
+        commit(load);
+        if (frame.lazy() != null) {
+            frame.lazy().end();
+            commit(frame.lazy());
+        }
+    }
+
+    private void beginCollection(InitializeCollectionEvent event) {
+        LazyInitializationEvent lazy = new LazyInitializationEvent();
+        if (!lazy.isEnabled()) {
+            return;
+        }
+        lazy.candidateAssociations = LazyLoadListener.simpleName(event.getCollection().getRole());
+        lazy.entityName = LazyLoadListener.simpleName(event.getAffectedOwnerEntityName());
+        lazy.id = String.valueOf(event.getAffectedOwnerIdOrNull());
+        lazy.begin();
+        push(new Frame(event, lazy, null));
+    }
+
+    private void endCollection(InitializeCollectionEvent event) {
+        Frame frame = pop(event);
+        if (frame != null) {
+            frame.event().end();
+            commit(frame.event());
+        }
+    }
+
+    private void instrument(EventSource session) {
+        if (!new SessionFlushEvent().isEnabled()) {
+            return;
+        }
+        SessionEventListenerManager listeners = session.getEventListenerManager();
+        if (instrumentedSessions.putIfAbsent(listeners, Boolean.TRUE) == null) {
+            listeners.addListener(new JfrSessionListener());
+        }
+    }
+
+    /**
+     * 로딩 전에 이미 영속성 컨텍스트(session)나 2차 캐시(cache)에 있는지 (둘 다 아니면 null → 로딩 후 판단)
+     */
+    private static String cachedSource(LoadEvent event) {
+        if (event.getEntityId() == null) {
+            return null;
+        }
+        EventSource session = event.getSession();
+        EntityPersister persister = session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(event.getEntityClassName());
+        EntityKey key = session.generateEntityKey(event.getEntityId(), persister);
+        if (session.getPersistenceContextInternal().getEntity(key) != null) {
+            return "session";
+        }
+        if (persister.canReadFromCache()
+                && session.getFactory().getCache().containsEntity(event.getEntityClassName(), event.getEntityId())) {
+            return "cache";
+        }
+        return null;
+    }
+
+    private void push(Frame frame) {
+        ArrayDeque<Frame> open = frames.get();
+        if (open.size() >= MAX_OPEN_FRAMES) {
+            open.clear(); // 예외로 after가 불리지 않아 남은 짝 정리
+        }
+        open.push(frame);
+    }
+
+    private Frame pop(Object source) {
+        ArrayDeque<Frame> open = frames.get();
+        if (open.isEmpty() || open.peek().source() != source) {
+            return null;
+        }
+        return open.pop();
+    }
+
+    private static void commit(Event event) {
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+
+    private record Frame(Object source, Event event, LazyInitializationEvent lazy) {
+    }
+
+    private final class Before implements LoadEventListener, InitializeCollectionEventListener,
+            FlushEventListener, AutoFlushEventListener {
+
+        @Override
+        public void onLoad(LoadEvent event, LoadType loadType) {
+            beginLoad(event, loadType);
+        }
+
+        @Override
+        public void onInitializeCollection(InitializeCollectionEvent event) {
+            beginCollection(event);
+        }
+
+        @Override
+        public void onFlush(FlushEvent event) {
+            instrument(event.getSession());
+        }
+
+        @Override
+        public void onAutoFlush(AutoFlushEvent event) {
+            instrument(event.getSession());
+        }
+    }
+
+    private final class After implements LoadEventListener, InitializeCollectionEventListener {
+
+        @Override
+        public void onLoad(LoadEvent event, LoadType loadType) {
+            endLoad(event);
+        }
+
+        @Override
+        public void onInitializeCollection(InitializeCollectionEvent event) {
+            endCollection(event);
+        }
+    }
+}
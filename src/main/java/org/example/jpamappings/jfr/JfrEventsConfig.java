@@ -0,0 +1,27 @@
+package org.example.jpamappings.jfr;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "jfr.events", name = "enabled", havingValue = "true", matchIfMissing = true)
+/**
+ * JFR 사용자 정의 이벤트 설정
+ * - 리스너는 항상 등록하고, 실제 기록 여부는 JFR 기록(-XX:StartFlightRecording, jcmd JFR.start) 설정이 정함
+ * - 이벤트 설정 템플릿: classpath:jfr/jpamappings.jfc
+ */
+public class JfrEventsConfig {
+
+    @Bean
+    public JfrEventListeners jfrEventListeners(EntityManagerFactory entityManagerFactory) {
+        JfrEventListeners listeners = new JfrEventListeners(entityManagerFactory.getMetamodel());
+        listeners.register(entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class));
+        return listeners;
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.jpamappings.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JFR 기록 파일(.jfr)에서 엔티티별 핫 리스트를 만드는 도구
+ * - 엔티티별 로딩 수(출처별), 로딩 총/최대 시간, 후보 연관관계별 지연 로딩 수
+ *   (프록시 초기화는 대상 타입을 가리키는 to-one이 여럿이면 "A.team|B.team"처럼 후보 전체로 묶임)
+ * - flush 횟수, 총 시간, 실행한 문장 수, dirty checking한 엔티티 수
+ * - 사용법: java -cp ... org.example.jpamappings.jfr.JfrHotList app.jfr [상위 N개, 기본 20]
+ */
+public final class JfrHotList {
+
+    private JfrHotList() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: JfrHotList <recording.jfr> [limit]");
+            System.exit(2);
+        }
+        int limit = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        summarize(Path.of(args[0])).print(System.out, limit);
+    }
+
+    public static Summary summarize(Path recording) throws IOException {
+        Map<String, EntityStats> entities = new HashMap<>();
+        FlushStats flushes = new FlushStats();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            switch (event.getEventType().getName()) {
+                case EntityLoadEvent.NAME -> entities
+                        .computeIfAbsent(event.getString("entityName"), EntityStats::new)
+                        .load(event.getString("source"), event.getDuration());
+                case LazyInitializationEvent.NAME -> entities
+                        .computeIfAbsent(event.getString("entityName"), EntityStats::new)
+                        .lazyInitialization(event.getString("candidateAssociations"));
+                case SessionFlushEvent.NAME -> flushes.add(event);
+                default -> {
+                }
+            }
+        }
+        List<EntityStats> hotList = new ArrayList<>(entities.values());
+        hotList.sort(Comparator.comparing(EntityStats::getTotalLoadTime).reversed()
+                .thenComparing(EntityStats::getLoads, Comparator.reverseOrder()));
+        return new Summary(hotList, flushes);
+    }
+
+    public record Summary(List<EntityStats> entities, FlushStats flushes) {
+
+        public EntityStats entity(String entityName) {
+            return entities.stream()
+                    .filter(stats -> stats.getEntityName().equals(entityName))
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        public void print(PrintStream out, int limit) {
+            out.printf("%-28s %8s %8s %8s %8s %8s %12s %10s %6s%n",
+                    "entity", "loads", "db", "session", "cache", "proxy", "total(ms)", "max(ms)", "lazy");
+            entities.stream().limit(limit).forEach(stats -> {
+                out.printf("%-28s %8d %8d %8d %8d %8d %12.3f %10.3f %6d%n",
+                        stats.getEntityName(), stats.getLoads(),
+                        stats.getLoadsBySource().getOrDefault("db", 0L),
+                        stats.getLoadsBySource().getOrDefault("session", 0L),
+                        stats.getLoadsBySource().getOrDefault("cache", 0L),
+                        stats.getLoadsBySource().getOrDefault("proxy", 0L),
+                        millis(stats.getTotalLoadTime()), millis(stats.getMaxLoadTime()),
+                        stats.getLazyInitializations());
+                stats.getLazyByCandidateAssociations().forEach((candidates, count) ->
+                        out.printf("    lazy via %-36s %6d%n", candidates, count));
+            });
+            out.printf("%nflushes %d (auto %d), total %.3f ms, statements %d, entities dirty-checked %d%n",
+                    flushes.getCount(), flushes.getAutoCount(), millis(flushes.getTotalTime()),
+                    flushes.getStatements(), flushes.getEntitiesDirtyChecked());
+        }
+
+        private static double millis(Duration duration) {
+            return duration.toNanos() / 1_000_000.0;
+        }
+    }
+
+    @Getter
+    public static final class EntityStats {
+
+        private final String entityName;
+        private final Map<String, Long> loadsBySource = new TreeMap<>();
+        private final Map<String, Long> lazyByCandidateAssociations = new TreeMap<>();
+        private long loads;
+        private long lazyInitializations;
+        private Duration totalLoadTime = Duration.ZERO;
+        private Duration maxLoadTime = Duration.ZERO;
+
+        private EntityStats(String entityName) {
+            this.entityName = entityName;
+        }
+
+        private void load(String source, Duration duration) {
+            loads++;
+            loadsBySource.merge(source, 1L, Long::sum);
+            totalLoadTime = totalLoadTime.plus(duration);
+            if (duration.compareTo(maxLoadTime) > 0) {
+                maxLoadTime = duration;
+            }
+        }
+
+        private void lazyInitialization(String candidateAssociations) {
+            lazyInitializations++;
+            lazyByCandidateAssociations.merge(candidateAssociations, 1L, Long::sum);
+        }
+    }
+
+    @Getter
+    public static final class FlushStats {
+
+        private long count;
+        private long autoCount;
+        private long statements;
+        private long entitiesDirtyChecked;
+        private Duration totalTime = Duration.ZERO;
+
+        private void add(RecordedEvent event) {
+            count++;
+            if (event.getBoolean("auto")) {
+                autoCount++;
+            }
+            statements += event.getInt("statements");
+            entitiesDirtyChecked += event.getInt("entitiesDirtyChecked");
+            totalTime = totalTime.plus(event.getDuration());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.jpamappings.jfr;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * flush 구간을 SessionFlushEvent로 기록하는 세션 리스너
+ * - 기록 중일 때 세션의 첫 flush 직전에 JfrEventListeners가 세션에 붙임 (기록하지 않으면 붙지 않음)
+ * - flush 시작~끝 사이 JDBC 실행 수를 셈 (세션은 한 스레드에서만 쓰이므로 동기화하지 않음)
+ */
+final class JfrSessionListener implements SessionEventListener {
+
+    private int statements;
+    private int statementsAtStart;
+    private SessionFlushEvent flush;
+
+    @Override
+    public void flushStart() {
+        begin(false);
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        end(numberOfEntities, numberOfCollections);
+    }
+
+    @Override
+    public void partialFlushStart() {
+        begin(true);
+    }
+
+    @Override
+    public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+        end(numberOfEntities, numberOfCollections);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statements++;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statements++;
+    }
+
+    private void begin(boolean auto) {
+        SessionFlushEvent event = new SessionFlushEvent();
+        if (!event.isEnabled()) {
+            flush = null;
+            return;
+        }
+        event.auto = auto;
+        event.begin();
+        statementsAtStart = statements;
+        flush = event;
+    }
+
+    private void end(int numberOfEntities, int numberOfCollections) {
+        SessionFlushEvent event = flush;
+        flush = null;
+        if (event == null) {
+            return;
+        }
+        event.end();
+        event.entitiesDirtyChecked = numberOfEntities;
+        event.collectionsProcessed = numberOfCollections;
+        event.statements = statements - statementsAtStart;
+        if (event.auto && numberOfEntities == 0 && event.statements == 0) {
+            return; // 관리 엔티티가 없어 확인만 하고 끝난 자동 flush
+        }
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+}
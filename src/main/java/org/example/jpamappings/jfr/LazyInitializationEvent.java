@@ -0,0 +1,32 @@
+package org.example.jpamappings.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(LazyInitializationEvent.NAME)
+@Label("Lazy Initialization")
+@Category({"JPA Mappings", "Hibernate"})
+@Description("지연 로딩 프록시 또는 컬렉션 초기화 (스택 트레이스로 초기화를 일으킨 코드 확인)")
+/**
+ * 지연 로딩 JFR 이벤트
+ * - candidateAssociations: 컬렉션이면 초기화된 role(예: BidirectTeam.members) 하나,
+ *   프록시면 그 엔티티 타입을 가리키는 to-one 연관관계 후보 전체("|"로 연결, 예: A.team|B.team)
+ *   (프록시 초기화 이벤트에는 어느 엔티티의 어느 속성에서 왔는지 정보가 없어 대상 타입으로만 추정)
+ * - entityName/id: 초기화된 엔티티 (컬렉션이면 소유 엔티티)
+ */
+public class LazyInitializationEvent extends Event {
+
+    public static final String NAME = "org.example.jpamappings.LazyInitialization";
+
+    @Label("Candidate Associations")
+    String candidateAssociations;
+
+    @Label("Entity")
+    String entityName;
+
+    @Label("Id")
+    String id;
+}
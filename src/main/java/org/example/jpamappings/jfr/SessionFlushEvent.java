@@ -0,0 +1,36 @@
+package org.example.jpamappings.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(SessionFlushEvent.NAME)
+@Label("Session Flush")
+@Category({"JPA Mappings", "Hibernate"})
+@Description("영속성 컨텍스트 flush 하나 (명시적 flush/커밋 또는 쿼리 전 자동 flush)")
+@StackTrace(false)
+/**
+ * flush JFR 이벤트
+ * - entitiesDirtyChecked: 변경 감지를 위해 훑은 관리 엔티티 수 (컨텍스트가 클수록 비쌈)
+ * - statements: flush 중 실행된 JDBC 문장 수 (배치 실행은 1번으로 셈)
+ * - auto: 쿼리 실행 전 자동 flush 여부 (훑은 엔티티가 없으면 기록하지 않음)
+ */
+public class SessionFlushEvent extends Event {
+
+    public static final String NAME = "org.example.jpamappings.SessionFlush";
+
+    @Label("Entities Dirty-Checked")
+    int entitiesDirtyChecked;
+
+    @Label("Collections Processed")
+    int collectionsProcessed;
+
+    @Label("Statements")
+    int statements;
+
+    @Label("Auto Flush")
+    boolean auto;
+}
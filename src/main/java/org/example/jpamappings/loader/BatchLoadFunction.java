@@ -0,0 +1,20 @@
+package org.example.jpamappings.loader;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여러 키를 한 번에 조회하는 배치 함수 (보통 IN 쿼리 하나)
+ * - 결과 맵에 없는 키는 null로 완료됨 (존재하지 않는 ID)
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+@FunctionalInterface
+public interface BatchLoadFunction<K, V> {
+
+    /**
+     * @param keys 중복이 제거된 키 집합
+     * @return 키 → 값
+     */
+    Map<K, V> load(Set<K> keys);
+}
@@ -0,0 +1,243 @@
+package org.example.jpamappings.loader;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+@Slf4j
+/**
+ * DataLoader - 짧은 시간 창 안의 단건 조회를 모아 한 번의 배치 조회로 처리
+ * - load(key)는 즉시 CompletableFuture를 반환하고, 첫 요청 후 batchWindow가 지나거나
+ *   maxBatchSize만큼 모이면 중복 제거된 키로 배치 함수를 한 번 호출
+ * - 스코프(요청) 캐시: 같은 키는 완료됐든 진행 중이든 같은 future를 공유 (스코프가 끝나면 버림)
+ * - 배치가 실패하면 그 배치의 future를 모두 예외로 완료하고 캐시에서 제거하여 재시도 가능하게 함
+ * - 배치 창 타이머(scheduler)는 키를 꺼내 batchExecutor에 넘기기만 함 → 블로킹 배치 조회가 다른 로더의 타이머를 막지 않음
+ * - 지표: dataloader.batch.size{loader}, dataloader.queries.saved{loader}
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class DataLoader<K, V> {
+
+    private final String name;
+    private final BatchLoadFunction<K, V> batchFunction;
+    private final DataLoaderOptions options;
+    private final ScheduledExecutorService scheduler;
+    private final Executor batchExecutor;
+
+    private final Map<K, CompletableFuture<V>> cache = new ConcurrentHashMap<>();
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledDispatch;
+
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong keysLoaded = new AtomicLong();
+    private final LongAccumulator largestBatch = new LongAccumulator(Math::max, 0);
+
+    private final DistributionSummary batchSizes;
+    private final Counter savedQueries;
+
+    /**
+     * 배치 창 타이머와 배치 실행에 같은 스케줄러를 쓰는 로더 (배치 함수가 블로킹하지 않을 때)
+     */
+    public DataLoader(String name, BatchLoadFunction<K, V> batchFunction, DataLoaderOptions options,
+                      ScheduledExecutorService executor, MeterRegistry meterRegistry) {
+        this(name, batchFunction, options, executor, executor, meterRegistry);
+    }
+
+    /**
+     * @param name 로더 이름 (지표 태그)
+     * @param batchFunction 배치 조회 함수
+     * @param options 배치 창/크기/캐시 옵션
+     * @param scheduler 배치 창 타이머용 스케줄러
+     * @param batchExecutor 배치 함수를 실행하는 실행기
+     * @param meterRegistry 지표 등록용 레지스트리
+     */
+    public DataLoader(String name, BatchLoadFunction<K, V> batchFunction, DataLoaderOptions options,
+                      ScheduledExecutorService scheduler, Executor batchExecutor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.options = options;
+        this.scheduler = scheduler;
+        this.batchExecutor = batchExecutor;
+        this.batchSizes = DistributionSummary.builder("dataloader.batch.size")
+                .description("DataLoader가 한 번의 배치 조회로 처리한 키 수")
+                .tag("loader", name)
+                .register(meterRegistry);
+        this.savedQueries = Counter.builder("dataloader.queries.saved")
+                .description("배치/캐시로 합쳐져 실행하지 않은 단건 조회 수")
+                .tag("loader", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키 하나 조회 예약
+     * @param key 조회할 키 (null 불가)
+     * @return 배치가 끝나면 완료되는 future (없는 키는 null)
+     */
+    public CompletableFuture<V> load(K key) {
+        Objects.requireNonNull(key, "key");
+        loads.incrementAndGet();
+        if (options.cacheEnabled()) {
+            CompletableFuture<V> cached = cache.get(key);
+            if (cached != null) {
+                cacheHits.incrementAndGet();
+                savedQueries.increment();
+                return cached;
+            }
+        }
+        Map<K, CompletableFuture<V>> batch = null;
+        CompletableFuture<V> future;
+        synchronized (this) {
+            CompletableFuture<V> queued = pending.get(key);
+            if (queued == null && options.cacheEnabled()) {
+                queued = cache.get(key); // 캐시 확인과 락 사이에 다른 스레드가 먼저 넣은 경우
+            }
+            if (queued != null) {
+                cacheHits.incrementAndGet();
+                savedQueries.increment();
+                return queued;
+            }
+            future = new CompletableFuture<>();
+            pending.put(key, future);
+            if (options.cacheEnabled()) {
+                cache.put(key, future);
+            }
+            if (pending.size() >= options.maxBatchSize()) {
+                batch = takePending();
+            } else if (scheduledDispatch == null) {
+                scheduledDispatch = scheduler.schedule(this::dispatchAsync,
+                        options.batchWindow().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (batch != null) {
+            submit(batch);
+        }
+        return future;
+    }
+
+    /**
+     * 여러 키 조회 예약
+     * @return 모든 키가 완료되면 키 → 값 맵으로 완료 (없는 키는 맵에서 빠짐)
+     */
+    public CompletableFuture<Map<K, V>> loadMany(Collection<K> keys) {
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        for (K key : keys) {
+            futures.put(key, load(key));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<K, V> values = new LinkedHashMap<>();
+                    futures.forEach((key, future) -> {
+                        V value = future.join();
+                        if (value != null) {
+                            values.put(key, value);
+                        }
+                    });
+                    return values;
+                });
+    }
+
+    /**
+     * 배치 창을 기다리지 않고 대기 중인 키를 호출 스레드에서 바로 조회
+     */
+    public void dispatch() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        execute(batch);
+    }
+
+    /**
+     * 스코프 캐시 비우기 (진행 중인 future는 그대로 완료됨)
+     */
+    public void clearAll() {
+        cache.clear();
+    }
+
+    /**
+     * 키 하나를 캐시에서 제거 (값이 바뀐 것을 알 때)
+     */
+    public void clear(K key) {
+        cache.remove(key);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataLoaderStatistics getStatistics() {
+        return new DataLoaderStatistics(loads.get(), cacheHits.get(), batches.get(), keysLoaded.get(),
+                largestBatch.get());
+    }
+
+    /**
+     * 대기 중인 키를 꺼내고 예약된 타이머를 해제 (synchronized 안에서 호출)
+     */
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+            scheduledDispatch = null;
+        }
+        return batch;
+    }
+
+    /**
+     * 배치 창 타이머 - 대기 중인 키를 꺼내 배치 실행기로 넘김
+     */
+    private void dispatchAsync() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            submit(batch);
+        }
+    }
+
+    private void submit(Map<K, CompletableFuture<V>> batch) {
+        batchExecutor.execute(() -> execute(batch));
+    }
+
+    private void execute(Map<K, CompletableFuture<V>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batches.incrementAndGet();
+        keysLoaded.addAndGet(batch.size());
+        largestBatch.accumulate(batch.size());
+        batchSizes.record(batch.size());
+        savedQueries.increment(batch.size() - 1);
+
+        Map<K, V> values;
+        try {
+            values = batchFunction.load(new LinkedHashSet<>(batch.keySet()));
+        } catch (RuntimeException e) {
+            log.warn("data loader {} batch of {} keys failed", name, batch.size(), e);
+            batch.forEach((key, future) -> {
+                cache.remove(key, future);
+                future.completeExceptionally(e);
+            });
+            return;
+        }
+        batch.forEach((key, future) -> future.complete(values.get(key)));
+    }
+}
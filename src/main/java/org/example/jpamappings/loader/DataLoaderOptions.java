@@ -0,0 +1,28 @@
+package org.example.jpamappings.loader;
+
+import java.time.Duration;
+
+/**
+ * DataLoader 동작 옵션
+ * @param batchWindow 첫 요청 후 배치를 모으는 시간 (이 시간 안에 들어온 요청이 하나의 쿼리로 합쳐짐)
+ * @param maxBatchSize 한 배치의 최대 키 수 (넘으면 창을 기다리지 않고 바로 실행, IN 절 길이 제한)
+ * @param cacheEnabled 같은 스코프 안에서 같은 키 결과를 재사용할지 여부
+ */
+public record DataLoaderOptions(Duration batchWindow, int maxBatchSize, boolean cacheEnabled) {
+
+    public DataLoaderOptions {
+        if (batchWindow.isNegative()) {
+            throw new IllegalArgumentException("batchWindow must not be negative: " + batchWindow);
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+    }
+
+    /**
+     * 기본값: 2ms 창, 최대 100개, 캐시 사용
+     */
+    public static DataLoaderOptions defaults() {
+        return new DataLoaderOptions(Duration.ofMillis(2), 100, true);
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.jpamappings.loader;
+
+/**
+ * DataLoader 누적 통계
+ * @param loads load() 호출 수
+ * @param cacheHits 스코프 캐시(이미 완료됐거나 진행 중인 같은 키)로 처리된 수
+ * @param batches 실행한 배치(쿼리) 수
+ * @param keysLoaded 배치로 조회한 키 수
+ * @param largestBatch 가장 큰 배치의 키 수
+ */
+public record DataLoaderStatistics(long loads, long cacheHits, long batches, long keysLoaded, long largestBatch) {
+
+    /**
+     * 요청마다 한 번씩 조회했을 때와 비교해 아낀 쿼리 수
+     */
+    public long savedQueries() {
+        return loads - batches;
+    }
+
+    /**
+     * 배치 평균 키 수
+     */
+    public double averageBatchSize() {
+        return batches == 0 ? 0 : (double) keysLoaded / batches;
+    }
+}
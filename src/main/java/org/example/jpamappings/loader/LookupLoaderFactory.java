@@ -0,0 +1,89 @@
+package org.example.jpamappings.loader;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.hr.Department;
+import org.example.jpamappings.hr.Location;
+import org.example.jpamappings.idmapping.IdMappingTeam;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+/**
+ * 팀/부서/지역 DataLoader 묶음 생성기
+ * - 배치 함수는 엔티티별 JPQL IN 쿼리 하나 (배치 스레드의 읽기 전용 트랜잭션)
+ * - 배치 창 타이머는 스케줄러 스레드 하나(dataloader-timer), 블로킹 JDBC 배치 조회는 별도 풀에서 실행
+ *   (dataloader.threads, 느린 조회가 다른 로더의 배치 창 타이머를 늦추지 않음)
+ * - 반환 엔티티는 트랜잭션이 끝난 뒤 전달되므로 준영속 (호출자 영속성 컨텍스트와 무관, 지연 로딩 연관관계 접근 불가)
+ * - 옵션: dataloader.batch-window(기본 2ms), dataloader.max-batch-size(기본 100)
+ */
+public class LookupLoaderFactory implements AutoCloseable {
+
+    private final EntityManager em;
+    private final TransactionTemplate readOnlyTx;
+    private final MeterRegistry meterRegistry;
+    private final DataLoaderOptions options;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService batchExecutor;
+
+    public LookupLoaderFactory(EntityManager em,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${dataloader.batch-window:2ms}") Duration batchWindow,
+                               @Value("${dataloader.max-batch-size:100}") int maxBatchSize,
+                               @Value("${dataloader.threads:4}") int threads) {
+        this.em = em;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.options = new DataLoaderOptions(batchWindow, maxBatchSize, true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "dataloader-timer"));
+        AtomicInteger sequence = new AtomicInteger();
+        this.batchExecutor = Executors.newFixedThreadPool(threads,
+                runnable -> daemon(runnable, "dataloader-" + sequence.incrementAndGet()));
+    }
+
+    /**
+     * 새 요청 스코프 열기
+     */
+    public LookupLoaders open() {
+        return new LookupLoaders(
+                loader("unidirectTeam", UnidirectTeam.class, "teamId", UnidirectTeam::getTeamId),
+                loader("idMappingTeam", IdMappingTeam.class, "teamId", IdMappingTeam::getTeamId),
+                loader("department", Department.class, "departmentId", Department::getDepartmentId),
+                loader("location", Location.class, "locationId", Location::getLocationId));
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        batchExecutor.shutdown();
+    }
+
+    private <K, V> DataLoader<K, V> loader(String name, Class<V> entityClass, String idAttribute,
+                                           Function<V, K> idGetter) {
+        String jpql = "select e from " + entityClass.getSimpleName() + " e where e." + idAttribute + " in :ids";
+        BatchLoadFunction<K, V> batchFunction = keys -> readOnlyTx.execute(status -> em.createQuery(jpql, entityClass)
+                .setParameter("ids", keys)
+                .getResultStream()
+                .collect(Collectors.toMap(idGetter, Function.identity())));
+        return new DataLoader<>(name, batchFunction, options, scheduler, batchExecutor, meterRegistry);
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
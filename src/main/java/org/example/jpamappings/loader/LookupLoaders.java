@@ -0,0 +1,120 @@
+package org.example.jpamappings.loader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.jpamappings.hr.Department;
+import org.example.jpamappings.hr.Employees;
+import org.example.jpamappings.hr.Location;
+import org.example.jpamappings.idmapping.IdMappingMember;
+import org.example.jpamappings.idmapping.IdMappingTeam;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+/**
+ * 요청(작업) 단위로 여는 팀/부서/지역 조회용 DataLoader 묶음
+ * - LookupLoaderFactory.open()으로 열고 요청이 끝나면 close() (try-with-resources)
+ * - 같은 스코프 안에서는 같은 ID를 다시 조회하지 않음 (스코프가 끝나면 캐시를 버려 오래된 값이 남지 않음)
+ * - 반환되는 엔티티는 배치 스레드의 읽기 전용 트랜잭션에서 조회한 준영속 상태이므로 읽기 용도로만 사용
+ */
+public class LookupLoaders implements AutoCloseable {
+
+    private final DataLoader<Long, UnidirectTeam> unidirectTeams;
+    private final DataLoader<Long, IdMappingTeam> idMappingTeams;
+    private final DataLoader<Integer, Department> departments;
+    private final DataLoader<Integer, Location> locations;
+
+    LookupLoaders(DataLoader<Long, UnidirectTeam> unidirectTeams,
+                  DataLoader<Long, IdMappingTeam> idMappingTeams,
+                  DataLoader<Integer, Department> departments,
+                  DataLoader<Integer, Location> locations) {
+        this.unidirectTeams = unidirectTeams;
+        this.idMappingTeams = idMappingTeams;
+        this.departments = departments;
+        this.locations = locations;
+    }
+
+    /**
+     * 멤버의 팀 조회 - 프록시의 ID만 읽으므로 프록시 초기화 쿼리가 나가지 않음
+     */
+    public CompletableFuture<UnidirectTeam> teamOf(UnidirectMember member) {
+        UnidirectTeam team = member.getUnidirectTeam();
+        return team == null ? CompletableFuture.completedFuture(null) : unidirectTeams.load(team.getTeamId());
+    }
+
+    /**
+     * ID 매핑 멤버의 teamId → 팀 조회
+     */
+    public CompletableFuture<IdMappingTeam> teamOf(IdMappingMember member) {
+        Long teamId = member.getTeamId();
+        return teamId == null ? CompletableFuture.completedFuture(null) : idMappingTeams.load(teamId);
+    }
+
+    /**
+     * 직원의 departmentId → 부서 조회
+     */
+    public CompletableFuture<Department> departmentOf(Employees employee) {
+        Integer departmentId = employee.getDepartmentId();
+        return departmentId == null ? CompletableFuture.completedFuture(null) : departments.load(departmentId);
+    }
+
+    /**
+     * 부서의 locationId → 지역 조회
+     */
+    public CompletableFuture<Location> locationOf(Department department) {
+        Integer locationId = department.getLocationId();
+        return locationId == null ? CompletableFuture.completedFuture(null) : locations.load(locationId);
+    }
+
+    public DataLoader<Long, UnidirectTeam> unidirectTeams() {
+        return unidirectTeams;
+    }
+
+    public DataLoader<Long, IdMappingTeam> idMappingTeams() {
+        return idMappingTeams;
+    }
+
+    public DataLoader<Integer, Department> departments() {
+        return departments;
+    }
+
+    public DataLoader<Integer, Location> locations() {
+        return locations;
+    }
+
+    /**
+     * 로더 이름 → 누적 통계
+     */
+    public Map<String, DataLoaderStatistics> getStatistics() {
+        Map<String, DataLoaderStatistics> statistics = new LinkedHashMap<>();
+        for (DataLoader<?, ?> loader : loaders()) {
+            statistics.put(loader.getName(), loader.getStatistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * 대기 중인 조회를 바로 실행하고 스코프 캐시를 버림
+     */
+    @Override
+    public void close() {
+        for (DataLoader<?, ?> loader : loaders()) {
+            loader.dispatch();
+            loader.clearAll();
+            DataLoaderStatistics statistics = loader.getStatistics();
+            if (statistics.loads() > 0) {
+                log.debug("data loader {}: loads={}, batches={}, saved queries={}, avg batch={}",
+                        loader.getName(), statistics.loads(), statistics.batches(), statistics.savedQueries(),
+                        String.format("%.1f", statistics.averageBatchSize()));
+            }
+        }
+    }
+
+    private List<DataLoader<?, ?>> loaders() {
+        return List.of(unidirectTeams, idMappingTeams, departments, locations);
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.jpamappings.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Parameter;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.hql.spi.SqmQueryImplementor;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Slf4j
+@Component
+/**
+ * 이름 있는 쿼리(@NamedQuery) 워밍업
+ * - 쿼리 문법/엔티티 검증과 SQM 파싱은 부팅 시 Hibernate가 수행 (hibernate.query.startup_check)
+ * - 여기서는 각 쿼리를 한 번 생성/실행하여 SQM → SQL 변환 결과를 Hibernate 쿼리 플랜 캐시에 올려 첫 요청 지연을 줄임
+ *   (HikariCP에는 statement 캐시가 없고 워밍업은 풀 커넥션 하나에서만 실행되므로 커넥션별 준비 상태는 남기지 않음)
+ * - 실행 시에는 결과가 없도록 파라미터에 존재하지 않는 값(-1, "")을 넣고,
+ *   파라미터 없는 쿼리(전체 조회)는 테이블 전체를 읽지 않도록 생성만 함
+ * - 플랜 캐시 적중/미스는 jpa.statistics.enabled=true일 때만 hibernate-micrometer의 hibernate.cache.query.plan 지표로 노출
+ */
+public class NamedQueryWarmup implements ApplicationRunner {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager em;
+    private final TransactionTemplate readOnlyTx;
+    private final boolean enabled;
+    private final boolean execute;
+
+    private volatile List<String> warmedQueries = List.of();
+
+    public NamedQueryWarmup(EntityManagerFactory entityManagerFactory,
+                            EntityManager em,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${jpa.warmup.enabled:true}") boolean enabled,
+                            @Value("${jpa.warmup.execute:true}") boolean execute) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.em = em;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.enabled = enabled;
+        this.execute = execute;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    /**
+     * 등록된 모든 이름 있는 JPQL 쿼리를 워밍업
+     * @return 워밍업한 쿼리 이름 목록
+     */
+    public List<String> warmUp() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        List<String> names = new ArrayList<>();
+        sessionFactory.getQueryEngine().getNamedObjectRepository()
+                .visitSqmQueryMementos(memento -> names.add(memento.getRegistrationName()));
+        Collections.sort(names);
+
+        Statistics statistics = sessionFactory.getStatistics();
+        long started = System.nanoTime();
+        List<String> warmed = new ArrayList<>(names.size());
+        for (String name : names) {
+            try {
+                readOnlyTx.executeWithoutResult(status -> warmUp(name));
+                warmed.add(name);
+            } catch (RuntimeException e) {
+                log.warn("warm-up of named query {} failed", name, e);
+            }
+        }
+        warmedQueries = List.copyOf(warmed);
+        if (statistics.isStatisticsEnabled()) {
+            log.info("warmed {} named queries in {} ms (plan cache hits={}, misses={})",
+                    warmed.size(), (System.nanoTime() - started) / 1_000_000,
+                    statistics.getQueryPlanCacheHitCount(), statistics.getQueryPlanCacheMissCount());
+        } else {
+            log.info("warmed {} named queries in {} ms", warmed.size(), (System.nanoTime() - started) / 1_000_000);
+        }
+        return warmedQueries;
+    }
+
+    /**
+     * 마지막 워밍업에서 처리한 쿼리 이름 목록
+     */
+    public List<String> getWarmedQueries() {
+        return warmedQueries;
+    }
+
+    private void warmUp(String name) {
+        // 플랜 캐시 키에 결과 타입이 포함되므로 애플리케이션과 같은 타입(TypedQuery)으로 생성해야 적중함
+        Class<?> resultType = resultType(em.createNamedQuery(name));
+        Query query = resultType == null ? em.createNamedQuery(name) : em.createNamedQuery(name, resultType);
+        if (!execute || query.getParameters().isEmpty()) {
+            return;
+        }
+        for (Parameter<?> parameter : query.getParameters()) {
+            Object value = placeholder(parameter.getParameterType());
+            if (value == null) {
+                return; // 안전한 더미 값을 만들 수 없는 타입이면 실행하지 않음
+            }
+            if (parameter.getName() != null) {
+                query.setParameter(parameter.getName(), value);
+            } else {
+                query.setParameter(parameter.getPosition(), value);
+            }
+        }
+        query.getResultList();
+    }
+
+    private static Class<?> resultType(Query query) {
+        if (query.unwrap(SqmQueryImplementor.class).getSqmStatement() instanceof SqmSelectStatement<?> select
+                && select.getSelection() != null) {
+            return select.getSelection().getJavaType();
+        }
+        return null;
+    }
+
+    private static Object placeholder(Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return -1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return -1;
+        }
+        if (type == String.class) {
+            return "";
+        }
+        return null;
+    }
+}
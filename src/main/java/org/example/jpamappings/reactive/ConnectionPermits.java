@@ -0,0 +1,86 @@
+package org.example.jpamappings.reactive;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * 동시에 열린 R2DBC 커넥션 수를 제한하는 논블로킹 허가 카운터
+ * - 허가가 없으면 스레드를 막지 않고 대기열에 넣었다가 반납될 때 먼저 기다린 구독부터 넘겨줌
+ * - 대기 중 취소되면 대기열에서 빠지고, 넘겨받는 도중에 취소됐으면 그 허가를 다시 반납
+ */
+final class ConnectionPermits {
+
+    private final int maxPermits;
+    private final Queue<MonoSink<ConnectionPermits>> waiters = new ArrayDeque<>();
+    private int available;
+
+    ConnectionPermits(int maxPermits) {
+        if (maxPermits < 1) {
+            throw new IllegalArgumentException("maxPermits must be positive: " + maxPermits);
+        }
+        this.maxPermits = maxPermits;
+        this.available = maxPermits;
+    }
+
+    /**
+     * 허가 하나를 얻음 (허가가 생길 때까지 완료되지 않음, 얻은 뒤에는 반드시 release)
+     */
+    Mono<ConnectionPermits> acquire() {
+        return Mono.create(sink -> {
+            boolean granted;
+            synchronized (this) {
+                granted = available > 0;
+                if (granted) {
+                    available--;
+                } else {
+                    waiters.add(sink);
+                }
+            }
+            if (granted) {
+                sink.success(this);
+                return;
+            }
+            sink.onCancel(() -> {
+                boolean removed;
+                synchronized (this) {
+                    removed = waiters.remove(sink);
+                }
+                if (!removed) {
+                    release(); // release()가 이미 이 대기자를 꺼내 허가를 넘기던 중
+                }
+            });
+        });
+    }
+
+    /**
+     * 허가 반납 (기다리는 구독이 있으면 바로 넘겨줌)
+     */
+    void release() {
+        MonoSink<ConnectionPermits> next;
+        synchronized (this) {
+            next = waiters.poll();
+            if (next == null) {
+                available = Math.min(available + 1, maxPermits);
+                return;
+            }
+        }
+        next.success(this);
+    }
+
+    /**
+     * 지금 남은 허가 수
+     */
+    synchronized int available() {
+        return available;
+    }
+
+    /**
+     * 허가를 기다리는 구독 수
+     */
+    synchronized int waiting() {
+        return waiters.size();
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.jpamappings.reactive;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * 직원 논블로킹 조회 (hr EMPLOYEES 테이블)
+ * - 급여 등 변환이 필요한 컬럼은 제외한 조회 전용 DTO로 반환 (쓰기는 Employees 엔티티로)
+ */
+public class EmployeeReadRepository {
+
+    private static final String COLUMNS =
+            "employee_id, first_name, last_name, email, hire_date, manager_id, department_id";
+
+    private final ReactiveReadClient client;
+
+    public EmployeeReadRepository(ReactiveReadClient client) {
+        this.client = client;
+    }
+
+    public Mono<EmployeeView> findById(int employeeId) {
+        return client.queryOne("SELECT " + COLUMNS + " FROM employees WHERE employee_id = $1",
+                EmployeeReadRepository::employee, employeeId);
+    }
+
+    public Flux<EmployeeView> findByDepartmentId(int departmentId) {
+        return client.query("SELECT " + COLUMNS + " FROM employees WHERE department_id = $1 ORDER BY employee_id",
+                EmployeeReadRepository::employee, departmentId);
+    }
+
+    /**
+     * 전체 직원 스트리밍 (ID 순, 구독자 요청만큼씩 읽음)
+     */
+    public Flux<EmployeeView> findAll() {
+        return client.query("SELECT " + COLUMNS + " FROM employees ORDER BY employee_id",
+                EmployeeReadRepository::employee);
+    }
+
+    private static EmployeeView employee(Readable row) {
+        return new EmployeeView(
+                row.get("employee_id", Integer.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("email", String.class),
+                row.get("hire_date", LocalDate.class),
+                row.get("manager_id", Integer.class),
+                row.get("department_id", Integer.class));
+    }
+}
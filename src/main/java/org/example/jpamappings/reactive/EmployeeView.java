@@ -0,0 +1,17 @@
+package org.example.jpamappings.reactive;
+
+import java.time.LocalDate;
+
+/**
+ * 직원 읽기 전용 DTO (EMPLOYEES 테이블의 조회용 컬럼만)
+ * @param employeeId 직원 ID
+ * @param firstName 이름
+ * @param lastName 성
+ * @param email 이메일
+ * @param hireDate 입사일
+ * @param managerId 관리자 ID
+ * @param departmentId 부서 ID
+ */
+public record EmployeeView(Integer employeeId, String firstName, String lastName, String email,
+                           LocalDate hireDate, Integer managerId, Integer departmentId) {
+}
@@ -0,0 +1,66 @@
+package org.example.jpamappings.reactive;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 멤버/팀 논블로킹 조회 (MEMBER, TEAM 테이블)
+ * - 쓰기는 기존 JPA 엔티티(UnidirectMember 등)로, 높은 동시성 읽기 API는 이 저장소로
+ * - 영속성 컨텍스트/지연 로딩이 없으므로 팀 이름이 필요하면 조인 쿼리를 사용
+ */
+public class MemberReadRepository {
+
+    private static final String MEMBER_COLUMNS = "m.member_id, m.username, m.team_id";
+
+    private final ReactiveReadClient client;
+
+    public MemberReadRepository(ReactiveReadClient client) {
+        this.client = client;
+    }
+
+    /**
+     * 전체 멤버 스트리밍 (ID 순)
+     */
+    public Flux<MemberView> findAll() {
+        return client.query("SELECT " + MEMBER_COLUMNS + " FROM member m ORDER BY m.member_id",
+                MemberReadRepository::member);
+    }
+
+    /**
+     * 전체 멤버 + 팀 이름 (UnidirectMember.FIND_ALL_WITH_TEAM과 같은 결과를 DTO로)
+     */
+    public Flux<MemberView> findAllWithTeam() {
+        return client.query("SELECT " + MEMBER_COLUMNS + ", t.name AS team_name FROM member m "
+                        + "JOIN team t ON t.team_id = m.team_id ORDER BY m.member_id",
+                MemberReadRepository::memberWithTeam);
+    }
+
+    /**
+     * 팀 소속 멤버 (UnidirectMember.FIND_BY_TEAM_ID와 같은 조건)
+     */
+    public Flux<MemberView> findByTeamId(long teamId) {
+        return client.query("SELECT " + MEMBER_COLUMNS + " FROM member m WHERE m.team_id = $1 ORDER BY m.member_id",
+                MemberReadRepository::member, teamId);
+    }
+
+    public Mono<TeamView> findTeam(long teamId) {
+        return client.queryOne("SELECT team_id, name FROM team WHERE team_id = $1",
+                row -> new TeamView(row.get("team_id", Long.class), row.get("name", String.class)), teamId);
+    }
+
+    public Mono<Long> countByTeamId(long teamId) {
+        return client.queryOne("SELECT COUNT(*) AS cnt FROM member WHERE team_id = $1",
+                row -> row.get("cnt", Long.class), teamId);
+    }
+
+    private static MemberView member(Readable row) {
+        return new MemberView(row.get("member_id", Long.class), row.get("username", String.class),
+                row.get("team_id", Long.class), null);
+    }
+
+    private static MemberView memberWithTeam(Readable row) {
+        return new MemberView(row.get("member_id", Long.class), row.get("username", String.class),
+                row.get("team_id", Long.class), row.get("team_name", String.class));
+    }
+}
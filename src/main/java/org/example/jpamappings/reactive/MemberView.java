@@ -0,0 +1,11 @@
+package org.example.jpamappings.reactive;
+
+/**
+ * 멤버 읽기 전용 DTO (MEMBER 테이블, 팀 이름은 조인한 경우에만 채워짐)
+ * @param memberId 멤버 ID
+ * @param username 사용자명
+ * @param teamId 소속 팀 ID
+ * @param teamName 소속 팀 이름 (조인하지 않았으면 null)
+ */
+public record MemberView(Long memberId, String username, Long teamId, String teamName) {
+}
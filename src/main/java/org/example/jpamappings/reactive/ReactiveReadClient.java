@@ -0,0 +1,87 @@
+package org.example.jpamappings.reactive;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Function;
+
+/**
+ * R2DBC 읽기 전용 쿼리 실행기
+ * - 구독마다 커넥션을 얻고, 결과 스트림이 끝나거나 취소/오류가 나면 반드시 닫음 (usingWhen)
+ * - 동시에 열린 커넥션은 최대 maxConnections개 (ConnectionPermits)
+ *   r2dbc-pool이 없어 커넥션을 재사용하지 않으므로, 제한이 없으면 부하가 몰릴 때 구독 수만큼 물리 커넥션이 열려
+ *   DB의 max_connections를 소진함 → 넘치는 구독은 스레드를 막지 않고 허가를 기다림
+ * - 행은 구독자의 요청(demand)만큼만 읽어 내려보냄 → 큰 결과도 메모리에 모으지 않고 배압을 지키며 스트리밍
+ * - 바인드 파라미터는 $1, $2 ... (H2, PostgreSQL R2DBC 드라이버 공통)
+ * - H2 R2DBC 드라이버는 내부적으로 JDBC를 호출하는 블로킹 구현이므로 boundedElastic에서 실행,
+ *   PostgreSQL 드라이버는 Netty 이벤트 루프에서 논블로킹으로 동작하므로 그대로 실행
+ */
+public class ReactiveReadClient {
+
+    private final ConnectionFactory connectionFactory;
+    private final int fetchSize;
+    private final ConnectionPermits permits;
+    private final Scheduler scheduler;
+
+    public ReactiveReadClient(ConnectionFactory connectionFactory, int fetchSize, int maxConnections) {
+        this.connectionFactory = connectionFactory;
+        this.fetchSize = fetchSize;
+        this.permits = new ConnectionPermits(maxConnections);
+        this.scheduler = "H2".equalsIgnoreCase(connectionFactory.getMetadata().getName())
+                ? Schedulers.boundedElastic()
+                : Schedulers.immediate();
+    }
+
+    /**
+     * 여러 행 조회
+     * @param sql SQL ($n 바인드)
+     * @param mapper 행 → DTO
+     * @param parameters 바인드 값 (순서대로 $1, $2 ...)
+     */
+    public <T> Flux<T> query(String sql, Function<Readable, T> mapper, Object... parameters) {
+        return Flux.usingWhen(
+                        permits.acquire(),
+                        permit -> Flux.usingWhen(
+                                connectionFactory.create(),
+                                connection -> Flux.from(statement(connection, sql, parameters).execute())
+                                        .concatMap(result -> result.map(mapper)),
+                                Connection::close),
+                        permit -> Mono.fromRunnable(permit::release))
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * 지금 열 수 있는 커넥션 수 (maxConnections - 사용 중)
+     */
+    public int availableConnections() {
+        return permits.available();
+    }
+
+    /**
+     * 커넥션 허가를 기다리는 구독 수
+     */
+    public int waitingSubscribers() {
+        return permits.waiting();
+    }
+
+    /**
+     * 한 행 조회 (없으면 빈 Mono)
+     */
+    public <T> Mono<T> queryOne(String sql, Function<Readable, T> mapper, Object... parameters) {
+        return query(sql, mapper, parameters).next();
+    }
+
+    private Statement statement(Connection connection, String sql, Object... parameters) {
+        Statement statement = connection.createStatement(sql).fetchSize(fetchSize);
+        for (int i = 0; i < parameters.length; i++) {
+            statement.bind(i, parameters[i]);
+        }
+        return statement;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.jpamappings.reactive;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+@Configuration
+@EnableConfigurationProperties(ReactiveReadProperties.class)
+@ConditionalOnProperty(prefix = "r2dbc.read", name = "enabled", havingValue = "true")
+/**
+ * R2DBC 읽기 경로 설정
+ * - ConnectionFactory는 빈으로 등록하지 않음: ConnectionFactory 빈이 있으면 스프링 부트가
+ *   JDBC DataSource 자동 설정을 건너뛰어 JPA 쓰기 경로가 사라지기 때문
+ *   (같은 이유로 JpamappingsApplication에서 R2dbcAutoConfiguration을 제외)
+ * - 저장소 빈만 노출하고, JPA 트랜잭션과는 무관하게 동작 (읽기 전용)
+ */
+public class ReactiveReadConfig {
+
+    @Bean
+    public ReactiveReadClient reactiveReadClient(ReactiveReadProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (StringUtils.hasText(properties.getUsername())) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+        return new ReactiveReadClient(connectionFactory, properties.getFetchSize(), properties.getMaxConnections());
+    }
+
+    @Bean
+    public MemberReadRepository memberReadRepository(ReactiveReadClient client) {
+        return new MemberReadRepository(client);
+    }
+
+    @Bean
+    public EmployeeReadRepository employeeReadRepository(ReactiveReadClient client) {
+        return new EmployeeReadRepository(client);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.jpamappings.reactive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "r2dbc.read")
+/**
+ * R2DBC 읽기 경로 설정 (r2dbc.read.*)
+ * - url: 로컬은 r2dbc:h2:mem:///..., 운영은 r2dbc:postgresql://...
+ *   (r2dbc-pool은 의존성에 없으므로 r2dbc:pool:... URL은 쓸 수 없음, 구독마다 새 커넥션)
+ * - fetchSize: 큰 결과를 스트리밍할 때 한 번에 가져오는 행 수 (드라이버 힌트)
+ * - maxConnections: 동시에 열 수 있는 커넥션 수 (DB의 max_connections에서 JDBC 풀 몫을 뺀 범위 안에서)
+ */
+public class ReactiveReadProperties {
+
+    private boolean enabled;
+    private String url;
+    private String username;
+    private String password;
+    private int fetchSize = 256;
+    private int maxConnections = 16;
+}
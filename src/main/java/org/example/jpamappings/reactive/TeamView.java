@@ -0,0 +1,9 @@
+package org.example.jpamappings.reactive;
+
+/**
+ * 팀 읽기 전용 DTO (TEAM 테이블)
+ * @param teamId 팀 ID
+ * @param name 팀 이름
+ */
+public record TeamView(Long teamId, String name) {
+}
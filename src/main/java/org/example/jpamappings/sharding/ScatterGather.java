@@ -0,0 +1,124 @@
+package org.example.jpamappings.sharding;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 샤드 전체에 같은 쿼리를 병렬로 보내고 결과를 합치는 실행기
+ * - 각 샤드는 이미 정렬된 상위 limit개만 돌려주고, 여기서 k-way 병합으로 전체 상위 limit개를 만듦
+ *   (샤드 쿼리는 병합 기준과 같은 ORDER BY와 LIMIT ?를 가져야 함)
+ * - OFFSET은 샤드마다 offset+limit개를 읽어야 하므로 지원하지 않음 → 마지막 행 기준 키셋 조건으로 다음 페이지 조회
+ * - 한 샤드라도 실패하거나 timeout 안에 끝나지 않으면 나머지를 취소하고 예외 (부분 결과를 돌려주지 않음)
+ */
+public class ScatterGather implements Closeable {
+
+    private final ShardRouter router;
+    private final ExecutorService executor;
+    private final Duration timeout;
+
+    public ScatterGather(ShardRouter router, int threads, Duration timeout) {
+        this.router = router;
+        this.timeout = timeout;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "shard-query-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 모든 샤드에서 정렬된 결과를 받아 병합
+     * @param sql 샤드 쿼리 (마지막 파라미터가 LIMIT ?)
+     * @param order 샤드 쿼리의 ORDER BY와 같은 순서
+     * @param limit 전체 결과 최대 개수
+     */
+    public <T> List<T> query(String sql, RowMapper<T> rowMapper, Comparator<? super T> order, int limit,
+                             Object... args) {
+        Object[] shardArgs = new Object[args.length + 1];
+        System.arraycopy(args, 0, shardArgs, 0, args.length);
+        shardArgs[args.length] = limit;
+        List<List<T>> results = forEachShard(shard -> shard.jdbcTemplate().query(sql, rowMapper, shardArgs));
+        return merge(results, order, limit);
+    }
+
+    /**
+     * 모든 샤드에 병렬로 작업을 실행하고 샤드 순서대로 결과를 모음
+     */
+    public <R> List<R> forEachShard(Function<Shard, R> work) {
+        List<Shard> shards = router.shards();
+        List<Future<R>> futures = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            futures.add(executor.submit(() -> work.apply(shard)));
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<R> results = new ArrayList<>(shards.size());
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("shard query did not finish within " + timeout.toMillis() + " ms", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("shard query failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("interrupted while waiting for shard queries");
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * 각자 정렬된 목록들을 k-way 병합하여 앞에서부터 limit개
+     */
+    static <T> List<T> merge(List<List<T>> sorted, Comparator<? super T> order, int limit) {
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>((a, b) -> order.compare(a.head(), b.head()));
+        for (List<T> list : sorted) {
+            if (!list.isEmpty()) {
+                heads.add(new Cursor<>(list, 0));
+            }
+        }
+        List<T> merged = new ArrayList<>(Math.min(limit, sorted.stream().mapToInt(List::size).sum()));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Cursor<T> cursor = heads.poll();
+            merged.add(cursor.head());
+            if (cursor.position() + 1 < cursor.list().size()) {
+                heads.add(new Cursor<>(cursor.list(), cursor.position() + 1));
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private record Cursor<T>(List<T> list, int position) {
+
+        T head() {
+            return list.get(position);
+        }
+    }
+}
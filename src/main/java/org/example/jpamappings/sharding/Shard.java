@@ -0,0 +1,22 @@
+package org.example.jpamappings.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * 샤드 하나 (MEMBER/TEAM 테이블을 가진 독립 데이터베이스)
+ * - 트랜잭션은 샤드 안에서만 걸 수 있음 (샤드 간 분산 트랜잭션 없음)
+ * @param index ShardRouter의 버킷 번호
+ * @param name 로그/지표용 이름 (예: shard-0)
+ */
+public record Shard(int index, String name, DataSource dataSource, JdbcTemplate jdbcTemplate,
+                    TransactionTemplate tx) {
+
+    public static Shard of(int index, String name, DataSource dataSource) {
+        return new Shard(index, name, dataSource, new JdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+}
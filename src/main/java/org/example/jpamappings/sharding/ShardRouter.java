@@ -0,0 +1,58 @@
+package org.example.jpamappings.sharding;
+
+import java.util.List;
+
+/**
+ * teamId → 샤드 라우팅
+ * - 팀과 그 팀의 멤버는 항상 같은 샤드에 저장 (팀 단위 조회/조인/트랜잭션이 샤드 하나에서 끝남)
+ * - 점프 일관 해시(Lamping & Veach): 샤드를 N → N+1개로 늘리면 팀의 약 1/(N+1)만 새 샤드로 옮겨지면 됨
+ *   (teamId % N은 거의 모든 팀이 옮겨져야 함)
+ * - Snowflake ID는 하위 비트(순번)가 대부분 0이므로 해시 전에 비트를 섞음
+ * - 샤드 목록의 순서가 곧 버킷 번호이므로 샤드를 추가할 때는 항상 끝에 붙여야 함
+ */
+public class ShardRouter {
+
+    private final List<Shard> shards;
+
+    public ShardRouter(List<Shard> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("at least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+    }
+
+    public Shard shardFor(long teamId) {
+        return shards.get(bucket(teamId, shards.size()));
+    }
+
+    public List<Shard> shards() {
+        return shards;
+    }
+
+    /**
+     * 점프 일관 해시 - 키를 [0, buckets) 버킷에 배정
+     */
+    static int bucket(long key, int buckets) {
+        long hash = mix(key);
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            hash = hash * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((hash >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+
+    /**
+     * MurmurHash3 fmix64 - 입력 비트 하나가 바뀌면 출력 비트 절반이 바뀌도록 섞음
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
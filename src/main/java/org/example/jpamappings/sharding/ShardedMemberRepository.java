@@ -0,0 +1,181 @@
+package org.example.jpamappings.sharding;
+
+import org.example.jpamappings.idmapping.IdMappingMember;
+import org.example.jpamappings.idmapping.IdMappingTeam;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 샤딩된 MEMBER/TEAM 저장소 (unidirect/idmapping 엔티티를 샤드 DB에 저장하고 조회)
+ * - 팀은 teamId로 샤드를 고르고, 멤버는 소속 팀과 같은 샤드에 저장 (ShardRouter)
+ * - ID는 SnowflakeIdGenerator로 애플리케이션에서 만듦 (샤드 테이블에는 IDENTITY 없음, db/shard/schema.sql)
+ * - teamId가 있는 조회/저장은 샤드 하나에서 직접 실행, 팀을 모르는 조회(memberId, username)는 모든 샤드에 병렬 실행 후 병합
+ * - 돌려주는 엔티티는 영속성 컨텍스트와 무관한 새 객체 (JPA로 수정해도 샤드에 반영되지 않음)
+ * - 멤버의 팀 변경은 지원하지 않음 (샤드가 바뀌면 샤드 간 이동이 필요)
+ */
+public class ShardedMemberRepository {
+
+    private static final String INSERT_TEAM_SQL = "INSERT INTO team (team_id, name) VALUES (?, ?)";
+    private static final String INSERT_MEMBER_SQL = "INSERT INTO member (member_id, username, team_id) VALUES (?, ?, ?)";
+    private static final String SELECT_TEAM_SQL = "SELECT team_id, name FROM team WHERE team_id = ?";
+    private static final String MEMBER_COLUMNS = "SELECT member_id, username, team_id FROM member ";
+    private static final String SELECT_MEMBERS_BY_TEAM_SQL = MEMBER_COLUMNS + "WHERE team_id = ? ORDER BY member_id";
+    private static final String SELECT_MEMBER_SQL = MEMBER_COLUMNS + "WHERE member_id = ?";
+    private static final String SELECT_MEMBERS_WITH_TEAM_SQL =
+            "SELECT m.member_id, m.username, t.team_id, t.name FROM member m JOIN team t ON t.team_id = m.team_id "
+                    + "WHERE m.team_id = ? ORDER BY m.member_id";
+    private static final String SELECT_BY_USERNAME_SQL =
+            MEMBER_COLUMNS + "WHERE username = ? ORDER BY member_id LIMIT ?";
+    private static final String SELECT_BY_USERNAME_PREFIX_SQL =
+            MEMBER_COLUMNS + "WHERE username LIKE ? ORDER BY username, member_id LIMIT ?";
+
+    private static final RowMapper<IdMappingMember> MEMBER_MAPPER = (rs, rowNum) -> {
+        IdMappingMember member = new IdMappingMember(rs.getString("username"), rs.getLong("team_id"));
+        member.setMemberId(rs.getLong("member_id"));
+        return member;
+    };
+
+    private static final RowMapper<IdMappingTeam> TEAM_MAPPER = (rs, rowNum) -> {
+        IdMappingTeam team = new IdMappingTeam(rs.getString("name"));
+        team.setTeamId(rs.getLong("team_id"));
+        return team;
+    };
+
+    private static final Comparator<IdMappingMember> BY_MEMBER_ID = Comparator.comparing(IdMappingMember::getMemberId);
+
+    /**
+     * 샤드 쿼리의 ORDER BY username, member_id와 같은 순서
+     * - String.compareTo는 H2와 PostgreSQL "C" 정렬 규칙의 순서와 같음
+     *   (PostgreSQL 샤드는 db/shard/postgresql/schema.sql로 username을 COLLATE "C"로 만들고 ShardingConfig가 기동 시 확인)
+     */
+    private static final Comparator<IdMappingMember> BY_USERNAME =
+            Comparator.comparing(IdMappingMember::getUsername).thenComparing(IdMappingMember::getMemberId);
+
+    private final ShardRouter router;
+    private final ScatterGather scatterGather;
+    private final SnowflakeIdGenerator idGenerator;
+
+    public ShardedMemberRepository(ShardRouter router, ScatterGather scatterGather, SnowflakeIdGenerator idGenerator) {
+        this.router = router;
+        this.scatterGather = scatterGather;
+        this.idGenerator = idGenerator;
+    }
+
+    public IdMappingTeam saveTeam(String name) {
+        IdMappingTeam team = new IdMappingTeam(name);
+        team.setTeamId(idGenerator.nextId());
+        router.shardFor(team.getTeamId()).jdbcTemplate().update(INSERT_TEAM_SQL, team.getTeamId(), name);
+        return team;
+    }
+
+    public IdMappingMember saveMember(String username, long teamId) {
+        return saveMembers(teamId, List.of(username)).get(0);
+    }
+
+    /**
+     * 팀의 샤드에 멤버 여러 명을 한 트랜잭션으로 저장 (팀이 없으면 샤드의 외래키 제약으로 실패)
+     */
+    public List<IdMappingMember> saveMembers(long teamId, List<String> usernames) {
+        List<IdMappingMember> members = new ArrayList<>(usernames.size());
+        List<Object[]> rows = new ArrayList<>(usernames.size());
+        for (String username : usernames) {
+            IdMappingMember member = new IdMappingMember(username, teamId);
+            member.setMemberId(idGenerator.nextId());
+            members.add(member);
+            rows.add(new Object[]{member.getMemberId(), username, teamId});
+        }
+        Shard shard = router.shardFor(teamId);
+        shard.tx().executeWithoutResult(status -> shard.jdbcTemplate().batchUpdate(INSERT_MEMBER_SQL, rows));
+        return members;
+    }
+
+    /**
+     * 팀 조회 (샤드 하나)
+     */
+    public Optional<IdMappingTeam> findTeam(long teamId) {
+        return router.shardFor(teamId).jdbcTemplate().query(SELECT_TEAM_SQL, TEAM_MAPPER, teamId).stream().findFirst();
+    }
+
+    /**
+     * 팀 소속 멤버 (샤드 하나, 멤버 ID 순 = 대략 가입 순)
+     */
+    public List<IdMappingMember> findMembersByTeam(long teamId) {
+        return router.shardFor(teamId).jdbcTemplate().query(SELECT_MEMBERS_BY_TEAM_SQL, MEMBER_MAPPER, teamId);
+    }
+
+    /**
+     * 팀 소속 멤버를 팀과 함께 조회 (팀과 멤버가 같은 샤드에 있으므로 샤드 안에서 조인, 팀 객체는 하나를 공유)
+     */
+    public List<UnidirectMember> findMembersWithTeam(long teamId) {
+        Map<Long, UnidirectTeam> teams = new HashMap<>();
+        return router.shardFor(teamId).jdbcTemplate().query(SELECT_MEMBERS_WITH_TEAM_SQL, (rs, rowNum) -> {
+            UnidirectTeam team = teams.computeIfAbsent(rs.getLong("team_id"), id -> {
+                UnidirectTeam created = new UnidirectTeam();
+                created.setTeamId(id);
+                return created;
+            });
+            team.setName(rs.getString("name"));
+            UnidirectMember member = new UnidirectMember(rs.getString("username"));
+            member.setMemberId(rs.getLong("member_id"));
+            member.setUnidirectTeam(team);
+            return member;
+        }, teamId);
+    }
+
+    /**
+     * 팀을 모를 때의 멤버 조회 (모든 샤드에 병렬로 기본키 조회)
+     */
+    public Optional<IdMappingMember> findMember(long memberId) {
+        return scatterGather.forEachShard(shard -> shard.jdbcTemplate().query(SELECT_MEMBER_SQL, MEMBER_MAPPER, memberId))
+                .stream()
+                .flatMap(List::stream)
+                .findFirst();
+    }
+
+    /**
+     * 사용자명이 같은 멤버 (모든 샤드, 멤버 ID 순으로 최대 limit명)
+     */
+    public List<IdMappingMember> findByUsername(String username, int limit) {
+        return scatterGather.query(SELECT_BY_USERNAME_SQL, MEMBER_MAPPER, BY_MEMBER_ID, limit, username);
+    }
+
+    /**
+     * 사용자명이 prefix로 시작하는 멤버 (모든 샤드, 사용자명 → 멤버 ID 순으로 최대 limit명)
+     */
+    public List<IdMappingMember> findByUsernamePrefix(String prefix, int limit) {
+        String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return scatterGather.query(SELECT_BY_USERNAME_PREFIX_SQL, MEMBER_MAPPER, BY_USERNAME, limit, pattern);
+    }
+
+    /**
+     * 전체 멤버 수 (모든 샤드의 합)
+     */
+    public long countMembers() {
+        return scatterGather.forEachShard(shard -> shard.jdbcTemplate()
+                        .queryForObject("SELECT COUNT(*) FROM member", Long.class))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * 팀과 소속 멤버 삭제 (팀의 샤드 한 곳에서 한 트랜잭션)
+     * @return 삭제한 멤버 수
+     */
+    public int deleteTeam(long teamId) {
+        Shard shard = router.shardFor(teamId);
+        return shard.tx().execute(status -> {
+            int members = shard.jdbcTemplate().update("DELETE FROM member WHERE team_id = ?", teamId);
+            shard.jdbcTemplate().update("DELETE FROM team WHERE team_id = ?", teamId);
+            return members;
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.jpamappings.sharding;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+/**
+ * MEMBER/TEAM 샤딩 설정
+ * - 샤드마다 Hikari 풀(shard-0, shard-1, …)을 만들되 DataSource 빈으로 등록하지 않음
+ *   → 기본 DataSource/JPA 자동 설정과 타입 주입에 영향을 주지 않음
+ * - 기본 DB의 JPA 엔티티(IDENTITY)는 그대로이며, 샤드 데이터는 ShardedMemberRepository로만 접근
+ * - sharding.node-id가 없으면 기동 실패 (인스턴스끼리 Snowflake ID가 겹치지 않도록 기본값을 두지 않음)
+ * - 샤드 스키마는 DB 종류별 (H2: db/shard/schema.sql, PostgreSQL: db/shard/postgresql/schema.sql)
+ * - PostgreSQL 샤드는 기동 시 member.username의 정렬 규칙이 C인지 확인하고 아니면 기동 실패
+ *   (이미 있던 테이블에는 CREATE TABLE IF NOT EXISTS가 적용되지 않으므로 스크립트만으로는 보장되지 않음)
+ */
+public class ShardingConfig {
+
+    /**
+     * member.username 컬럼의 정렬 규칙 (컬럼에 지정이 없으면 데이터베이스 기본값)
+     */
+    private static final String USERNAME_COLLATION_SQL =
+            "SELECT COALESCE(NULLIF(co.collname, 'default'), d.datcollate) "
+                    + "FROM pg_attribute a JOIN pg_collation co ON co.oid = a.attcollation "
+                    + "JOIN pg_database d ON d.datname = current_database() "
+                    + "WHERE a.attrelid = 'member'::regclass AND a.attname = 'username'";
+
+    @Bean(destroyMethod = "close")
+    public ShardPools shardPools(ShardingProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("sharding.enabled=true requires at least one sharding.shards[n].url");
+        }
+        if (properties.getNodeId() == null) {
+            throw new IllegalStateException(
+                    "sharding.enabled=true requires sharding.node-id (0~1023, unique per instance)");
+        }
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            ShardingProperties.Shard shard = properties.getShards().get(i);
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("shard-" + i);
+            config.setJdbcUrl(shard.getUrl());
+            config.setUsername(shard.getUsername());
+            config.setPassword(shard.getPassword());
+            config.setMaximumPoolSize(shard.getMaximumPoolSize());
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.add(new HikariDataSource(config));
+        }
+        ShardPools shardPools = new ShardPools(pools);
+        try {
+            for (HikariDataSource pool : pools) {
+                if (properties.isInitializeSchema()) {
+                    new ResourceDatabasePopulator(schema(pool)).execute(pool);
+                }
+                verifyUsernameCollation(pool);
+            }
+        } catch (RuntimeException e) {
+            shardPools.close();
+            throw e;
+        }
+        return shardPools;
+    }
+
+    @Bean
+    public ShardRouter shardRouter(ShardPools pools) {
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < pools.pools().size(); i++) {
+            HikariDataSource pool = pools.pools().get(i);
+            shards.add(Shard.of(i, pool.getPoolName(), pool));
+        }
+        return new ShardRouter(shards);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ScatterGather shardScatterGather(ShardRouter router, ShardingProperties properties) {
+        int threads = properties.getQueryThreads() > 0 ? properties.getQueryThreads() : router.shards().size();
+        return new ScatterGather(router, threads, properties.getQueryTimeout());
+    }
+
+    @Bean
+    public ShardedMemberRepository shardedMemberRepository(ShardRouter router, ScatterGather scatterGather,
+                                                           ShardingProperties properties) {
+        return new ShardedMemberRepository(router, scatterGather, new SnowflakeIdGenerator(properties.getNodeId()));
+    }
+
+    static ClassPathResource schema(DataSource dataSource) {
+        return isPostgreSql(dataSource)
+                ? new ClassPathResource("db/shard/postgresql/schema.sql")
+                : new ClassPathResource("db/shard/schema.sql");
+    }
+
+    /**
+     * 샤드별 ORDER BY username 결과를 String 순서로 병합하므로 PostgreSQL 샤드의 username은 C(또는 POSIX) 정렬이어야 함
+     */
+    static void verifyUsernameCollation(DataSource dataSource) {
+        if (!isPostgreSql(dataSource)) {
+            return;
+        }
+        String collation = new JdbcTemplate(dataSource).queryForObject(USERNAME_COLLATION_SQL, String.class);
+        if (!"C".equals(collation) && !"POSIX".equals(collation)) {
+            throw new IllegalStateException("shard member.username must be declared COLLATE \"C\" but uses "
+                    + collation + " (see db/shard/postgresql/schema.sql)");
+        }
+    }
+
+    private static boolean isPostgreSql(DataSource dataSource) {
+        return Boolean.TRUE.equals(new JdbcTemplate(dataSource).execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().startsWith("PostgreSQL")));
+    }
+
+    /**
+     * 샤드 풀 묶음 (컨텍스트 종료 시 함께 닫음)
+     */
+    public record ShardPools(List<HikariDataSource> pools) implements Closeable {
+
+        @Override
+        public void close() {
+            pools.forEach(HikariDataSource::close);
+        }
+    }
+}
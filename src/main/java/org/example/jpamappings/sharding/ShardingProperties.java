@@ -0,0 +1,61 @@
+package org.example.jpamappings.sharding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sharding")
+/**
+ * MEMBER/TEAM 샤딩 설정 (sharding.*)
+ * - enabled=true 일 때만 ShardingConfig가 샤드 풀과 ShardedMemberRepository를 만듦
+ * - shards 순서가 라우팅 버킷 번호이므로 샤드는 끝에만 추가 (순서를 바꾸면 팀이 다른 샤드로 라우팅됨)
+ */
+public class ShardingProperties {
+
+    /**
+     * 샤딩 사용 여부
+     */
+    private boolean enabled;
+
+    /**
+     * 이 애플리케이션 인스턴스의 Snowflake 노드 번호 (0~1023, 인스턴스마다 달라야 함)
+     * - 기본값 없음: 모든 인스턴스가 같은 번호를 쓰면 같은 밀리초에 같은 ID가 만들어지므로 enabled=true면 필수
+     */
+    private Integer nodeId;
+
+    /**
+     * 샤드 DB 목록
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * 기동 시 각 샤드에 샤드 스키마 적용 여부 (H2: db/shard/schema.sql, PostgreSQL: db/shard/postgresql/schema.sql)
+     */
+    private boolean initializeSchema = true;
+
+    /**
+     * 모든 샤드 조회용 스레드 수 (0이면 샤드 수)
+     */
+    private int queryThreads;
+
+    /**
+     * 모든 샤드 조회의 최대 대기 시간
+     */
+    private Duration queryTimeout = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
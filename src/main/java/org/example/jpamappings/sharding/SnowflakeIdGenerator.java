@@ -0,0 +1,86 @@
+package org.example.jpamappings.sharding;
+
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식의 전역 고유 ID 생성기 (IDENTITY/시퀀스 없이 샤드 어디에 저장해도 충돌하지 않음)
+ * - 64비트 = 부호 1 + 기준 시각(2024-01-01) 이후 밀리초 41 (약 69년) + 노드 10 + 밀리초 내 순번 12
+ * - 노드 번호는 애플리케이션 인스턴스마다 달라야 함 (sharding.node-id, 0~1023)
+ * - 같은 노드에서는 단조 증가하므로 ID 순서가 대략 생성 시각 순서
+ * - 밀리초당 4096개를 넘으면 다음 밀리초까지 기다림
+ * - 시계가 뒤로 가면 maxClockBackwardsMillis까지는 따라잡을 때까지 기다리고, 그 이상이면 예외 (중복 ID 방지)
+ */
+public class SnowflakeIdGenerator {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final long MAX_CLOCK_BACKWARDS_MILLIS = 50;
+
+    private final long node;
+    private final LongSupplier clock;
+
+    private long lastMillis = -1;
+    private long sequence;
+
+    public SnowflakeIdGenerator(int node) {
+        this(node, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("node must be between 0 and " + MAX_NODE + ": " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    public synchronized long nextId() {
+        long now = clock.getAsLong();
+        if (now < lastMillis) {
+            if (lastMillis - now > MAX_CLOCK_BACKWARDS_MILLIS) {
+                throw new IllegalStateException("clock moved backwards by " + (lastMillis - now)
+                        + " ms, refusing to generate ids");
+            }
+            now = waitUntil(lastMillis);
+        }
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                now = waitUntil(lastMillis + 1); // 이번 밀리초의 순번 소진
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * ID에 들어 있는 생성 시각
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    /**
+     * ID를 만든 노드 번호
+     */
+    public static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE);
+    }
+
+    private long waitUntil(long millis) {
+        long now = clock.getAsLong();
+        while (now < millis) {
+            Thread.onSpinWait();
+            now = clock.getAsLong();
+        }
+        return now;
+    }
+}
@@ -4,12 +4,22 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.example.jpamappings.cdc.CaptureChanges;
 
 @Setter
 @Getter
 @NoArgsConstructor
 @Entity
+@CaptureChanges
 @Table(name = "MEMBER")
+@NamedQueries({
+        @NamedQuery(name = UnidirectMember.FIND_ALL,
+                query = "SELECT m FROM UnidirectMember m"),
+        @NamedQuery(name = UnidirectMember.FIND_ALL_WITH_TEAM,
+                query = "SELECT m FROM UnidirectMember m JOIN FETCH m.unidirectTeam"),
+        @NamedQuery(name = UnidirectMember.FIND_BY_TEAM_ID,
+                query = "SELECT m FROM UnidirectMember m WHERE m.unidirectTeam.teamId = :teamId")
+})
 /**
  * 단방향 다대일(N:1) 연관관계를 나타내는 Member 엔티티
  * - 여러 명의 멤버가 하나의 팀에 소속될 수 있음
@@ -17,6 +27,15 @@ import lombok.Setter;
  */
 public class UnidirectMember {
 
+    /**
+     * 이름 있는 쿼리 (부팅 시 검증되고 SQM으로 미리 파싱됨)
+     * - FIND_ALL_WITH_TEAM: N+1 문제를 피하기 위한 Fetch Join 조회
+     * - FIND_BY_TEAM_ID: 단방향 매핑에서 Team의 Member 목록 조회 (파라미터: teamId)
+     */
+    public static final String FIND_ALL = "UnidirectMember.findAll";
+    public static final String FIND_ALL_WITH_TEAM = "UnidirectMember.findAllWithTeam";
+    public static final String FIND_BY_TEAM_ID = "UnidirectMember.findByTeamId";
+
     /**
      * 멤버의 기본키 (Primary Key)
      * - IDENTITY 전략으로 데이터베이스가 자동으로 ID 생성
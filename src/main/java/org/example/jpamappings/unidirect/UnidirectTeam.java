@@ -5,11 +5,13 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.example.jpamappings.cdc.CaptureChanges;
 
 @Setter
 @Getter
 @NoArgsConstructor
 @Entity
+@CaptureChanges
 @Table(name = "TEAM")
 /**
  * 단방향 다대일(N:1) 연관관계에서 "One" 쪽을 담당하는 Team 엔티티
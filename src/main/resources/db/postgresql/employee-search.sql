@@ -0,0 +1,10 @@
+-- 직원 이름/이메일 검색용 트라이그램 인덱스 (hr.search.engine=postgres)
+-- GIN(gin_trgm_ops)은 LIKE '%x%', ILIKE, % (similarity) 연산자를 모두 인덱스로 처리함
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS employees_first_name_trgm ON employees USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS employees_last_name_trgm ON employees USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS employees_email_trgm ON employees USING gin (lower(email) gin_trgm_ops);
+
+-- 오타 허용 검색의 유사도 하한 (기본 0.3)
+-- SET pg_trgm.similarity_threshold = 0.3;
@@ -0,0 +1,9 @@
+-- HR CSV 재동기화 (HrCsvSync) 준비
+-- 행 해시 테이블
+-- (외래키는 그대로 즉시 검사, 동기화가 관리자 컬럼을 두 단계로 반영하므로 DEFERRABLE로 바꿀 필요 없음)
+CREATE TABLE IF NOT EXISTS hr_row_hash (
+    table_name VARCHAR(30) NOT NULL,
+    row_key VARCHAR(100) NOT NULL,
+    row_hash BIGINT NOT NULL,
+    PRIMARY KEY (table_name, row_key)
+);
@@ -0,0 +1,74 @@
+-- JOB_HISTORY를 START_DATE 범위 파티션 테이블로 전환 (PostgreSQL 12+)
+-- - 조회는 start_date >= :from AND start_date < :to 형태라 필요한 파티션만 읽음 (파티션 프루닝)
+-- - 파티션 테이블의 기본키/유니크 키에는 파티션 키가 포함돼야 함 → (employee_id, start_date) 그대로 사용 가능
+-- - 다른 테이블이 job_history를 참조하지 않으므로 이름만 바꿔 교체함
+BEGIN;
+
+CREATE TABLE job_history_partitioned (
+    employee_id INTEGER NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    job_id VARCHAR(10) NOT NULL,
+    department_id INTEGER,
+    PRIMARY KEY (employee_id, start_date),
+    CONSTRAINT jhist_date_interval CHECK (end_date > start_date),
+    CONSTRAINT jhist_emp_fk FOREIGN KEY (employee_id)
+        REFERENCES employees (employee_id) DEFERRABLE INITIALLY IMMEDIATE,
+    CONSTRAINT jhist_dept_fk FOREIGN KEY (department_id)
+        REFERENCES departments (department_id) DEFERRABLE INITIALLY IMMEDIATE
+) PARTITION BY RANGE (start_date);
+
+CREATE INDEX jhist_start_date_ix ON job_history_partitioned (start_date);
+
+-- 연도별 파티션 (1990 ~ 내년), 범위 밖의 행은 기본 파티션으로
+DO $$
+DECLARE
+    y INTEGER;
+BEGIN
+    FOR y IN 1990 .. EXTRACT(YEAR FROM CURRENT_DATE)::INTEGER + 1 LOOP
+        EXECUTE format('CREATE TABLE job_history_y%s PARTITION OF job_history_partitioned '
+                           || 'FOR VALUES FROM (%L) TO (%L)',
+                       y, make_date(y, 1, 1), make_date(y + 1, 1, 1));
+    END LOOP;
+END $$;
+CREATE TABLE job_history_default PARTITION OF job_history_partitioned DEFAULT;
+
+INSERT INTO job_history_partitioned SELECT * FROM job_history;
+
+ALTER TABLE job_history RENAME TO job_history_unpartitioned;
+ALTER TABLE job_history_partitioned RENAME TO job_history;
+DROP TABLE job_history_unpartitioned;
+
+-- 보관 테이블 (JobHistoryArchiver가 종료된 오래된 구간을 옮김, 추가 전용이라 fillfactor 100, 보조 인덱스 없음)
+CREATE TABLE IF NOT EXISTS job_history_archive (
+    employee_id INTEGER NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    job_id VARCHAR(10) NOT NULL,
+    department_id INTEGER,
+    PRIMARY KEY (employee_id, start_date)
+) WITH (fillfactor = 100);
+
+-- 보관 경계 (한 행, 보관된 행의 END_DATE 상한 - 모든 노드가 조회마다 읽음)
+CREATE TABLE IF NOT EXISTS job_history_archive_boundary (
+    id INTEGER NOT NULL CHECK (id = 1),
+    archived_through DATE,
+    PRIMARY KEY (id)
+);
+INSERT INTO job_history_archive_boundary (id, archived_through)
+SELECT 1, MAX(end_date) FROM job_history_archive
+ON CONFLICT (id) DO NOTHING;
+
+CREATE OR REPLACE VIEW job_history_all AS
+SELECT employee_id, start_date, end_date, job_id, department_id FROM job_history
+UNION ALL
+SELECT employee_id, start_date, end_date, job_id, department_id FROM job_history_archive;
+
+COMMIT;
+
+-- 매년 다음 해 파티션을 미리 추가 (기본 파티션에 해당 연도 행이 있으면 먼저 옮겨야 함)
+-- CREATE TABLE job_history_y2027 PARTITION OF job_history FOR VALUES FROM ('2027-01-01') TO ('2028-01-01');
+
+-- 보관 후 비어 있는 오래된 파티션은 분리 후 삭제 (행 단위 DELETE보다 훨씬 가벼움)
+-- ALTER TABLE job_history DETACH PARTITION job_history_y1995;
+-- DROP TABLE job_history_y1995;
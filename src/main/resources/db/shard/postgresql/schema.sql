@@ -0,0 +1,26 @@
+-- PostgreSQL 샤드 스키마 (ShardingConfig가 샤드 DB 종류에 따라 db/shard/schema.sql 대신 실행)
+-- ID는 애플리케이션이 Snowflake 방식으로 만들므로 IDENTITY/시퀀스 없음
+-- 팀과 소속 멤버는 같은 샤드에 있으므로 외래키를 샤드 안에서 유지
+-- username은 COLLATE "C" (바이트 순 정렬): 샤드별 ORDER BY username 결과를 애플리케이션이 String 순서로 병합하므로
+-- 데이터베이스 기본 정렬 규칙(en_US.UTF-8 등)을 쓰면 병합 결과 순서가 틀어짐
+
+CREATE TABLE IF NOT EXISTS team (
+                                    team_id BIGINT NOT NULL,
+                                    name VARCHAR(255),
+                                    PRIMARY KEY (team_id)
+);
+
+CREATE TABLE IF NOT EXISTS member (
+                                      member_id BIGINT NOT NULL,
+                                      username VARCHAR(255) COLLATE "C",
+                                      team_id BIGINT NOT NULL,
+                                      PRIMARY KEY (member_id),
+                                      CONSTRAINT shard_member_team_fk FOREIGN KEY (team_id)
+                                          REFERENCES team (team_id)
+);
+
+-- 팀 단위 조회 (샤드 하나)
+CREATE INDEX IF NOT EXISTS shard_member_team_ix ON member (team_id, member_id);
+
+-- 사용자명 조회 (모든 샤드, 각 샤드는 정렬된 상위 N개만 읽음, 컬럼의 C 정렬 규칙을 따르므로 LIKE 'prefix%'에도 사용)
+CREATE INDEX IF NOT EXISTS shard_member_username_ix ON member (username, member_id);
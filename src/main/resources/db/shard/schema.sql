@@ -0,0 +1,25 @@
+-- 샤드 스키마 (H2, ShardingConfig가 sharding.initialize-schema=true일 때 기동 시 실행)
+-- ID는 애플리케이션이 Snowflake 방식으로 만들므로 IDENTITY/시퀀스 없음
+-- 팀과 소속 멤버는 같은 샤드에 있으므로 외래키를 샤드 안에서 유지
+-- H2의 문자열 비교는 Java String 순서와 같음 (PostgreSQL 샤드는 db/shard/postgresql/schema.sql, username COLLATE "C")
+
+CREATE TABLE IF NOT EXISTS team (
+                                    team_id BIGINT NOT NULL,
+                                    name VARCHAR(255),
+                                    PRIMARY KEY (team_id)
+);
+
+CREATE TABLE IF NOT EXISTS member (
+                                      member_id BIGINT NOT NULL,
+                                      username VARCHAR(255),
+                                      team_id BIGINT NOT NULL,
+                                      PRIMARY KEY (member_id),
+                                      CONSTRAINT shard_member_team_fk FOREIGN KEY (team_id)
+                                          REFERENCES team (team_id)
+);
+
+-- 팀 단위 조회 (샤드 하나)
+CREATE INDEX IF NOT EXISTS shard_member_team_ix ON member (team_id, member_id);
+
+-- 사용자명 조회 (모든 샤드, 각 샤드는 정렬된 상위 N개만 읽음)
+CREATE INDEX IF NOT EXISTS shard_member_username_ix ON member (username, member_id);
@@ -1,7 +1,12 @@
+DROP VIEW IF EXISTS job_history_all;
+DROP TABLE IF EXISTS employee_detail;
+DROP TABLE IF EXISTS job_history_archive;
+DROP TABLE IF EXISTS job_history_archive_boundary;
 DROP TABLE IF EXISTS job_history CASCADE;
 DROP TABLE IF EXISTS employees CASCADE;
 DROP TABLE IF EXISTS departments CASCADE;
 DROP TABLE IF EXISTS locations CASCADE;
+DROP TABLE IF EXISTS hr_row_hash;
 
 CREATE TABLE locations (
                            location_id INTEGER,
@@ -47,6 +52,34 @@ ALTER TABLE departments
     ADD CONSTRAINT dept_mgr_fk
         FOREIGN KEY (manager_id) REFERENCES employees (employee_id);
 
+-- 직원 상세 읽기 모델 (EMPLOYEES + DEPARTMENTS + LOCATIONS + 관리자 이름, EmployeeDetailProjector가 CDC로 갱신)
+-- 원본 테이블과 함께 초기화되므로 기동 시 비어 있으면 프로젝터가 다시 채움, 외래키 없음
+CREATE TABLE employee_detail (
+                                 employee_id INTEGER,
+                                 first_name VARCHAR(20),
+                                 last_name VARCHAR(25) NOT NULL,
+                                 email VARCHAR(25) NOT NULL,
+                                 phone_number VARCHAR(20),
+                                 hire_date DATE NOT NULL,
+                                 job_id VARCHAR(10) NOT NULL,
+                                 salary DECIMAL(8,2),
+                                 department_id INTEGER,
+                                 department_name VARCHAR(30),
+                                 location_id INTEGER,
+                                 city VARCHAR(30),
+                                 state_province VARCHAR(25),
+                                 country_id CHAR(2),
+                                 manager_id INTEGER,
+                                 manager_first_name VARCHAR(20),
+                                 manager_last_name VARCHAR(25),
+                                 PRIMARY KEY (employee_id)
+);
+
+-- 부서/위치/관리자 변경 시 영향받는 행을 한 번에 갱신하기 위한 인덱스
+CREATE INDEX emp_detail_dept_ix ON employee_detail (department_id);
+CREATE INDEX emp_detail_loc_ix ON employee_detail (location_id);
+CREATE INDEX emp_detail_mgr_ix ON employee_detail (manager_id);
+
 CREATE TABLE job_history (
                              employee_id INTEGER NOT NULL,
                              start_date DATE NOT NULL,
@@ -60,3 +93,93 @@ CREATE TABLE job_history (
                              CONSTRAINT jhist_dept_fk FOREIGN KEY (department_id)
                                  REFERENCES departments (department_id)
 );
+
+-- 최근 구간 조회용 (START_DATE 범위 검색)
+CREATE INDEX jhist_start_date_ix ON job_history (start_date);
+
+-- 보관된 종료 구간 (JobHistoryArchiver가 END_DATE 기준으로 job_history에서 옮김, 추가만 하므로 보조 인덱스 없음)
+-- PostgreSQL에서는 db/postgresql/job-history-partitioning.sql의 START_DATE 범위 파티션 사용
+CREATE TABLE job_history_archive (
+                                     employee_id INTEGER NOT NULL,
+                                     start_date DATE NOT NULL,
+                                     end_date DATE NOT NULL,
+                                     job_id VARCHAR(10) NOT NULL,
+                                     department_id INTEGER,
+                                     PRIMARY KEY (employee_id, start_date)
+);
+
+-- 보관 경계 (한 행, 보관된 행의 END_DATE 상한 - JobHistoryArchiver가 옮기기 전에 올리고 JobHistoryRepository가 조회마다 읽음)
+CREATE TABLE job_history_archive_boundary (
+                                              id INTEGER NOT NULL CHECK (id = 1),
+                                              archived_through DATE,
+                                              PRIMARY KEY (id)
+);
+INSERT INTO job_history_archive_boundary (id, archived_through) VALUES (1, NULL);
+
+-- 현재 + 보관 구간 전체
+CREATE VIEW job_history_all AS
+SELECT employee_id, start_date, end_date, job_id, department_id FROM job_history
+UNION ALL
+SELECT employee_id, start_date, end_date, job_id, department_id FROM job_history_archive;
+
+-- HR CSV 재동기화용 행 해시 (hr 테이블과 함께 초기화)
+CREATE TABLE hr_row_hash (
+                             table_name VARCHAR(30) NOT NULL,
+                             row_key VARCHAR(100) NOT NULL,
+                             row_hash BIGINT NOT NULL,
+                             PRIMARY KEY (table_name, row_key)
+);
+
+-- CDC outbox (재시작 시 미전달 레코드를 보존하기 위해 DROP 하지 않음)
+CREATE TABLE IF NOT EXISTS outbox_event (
+                                            id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+                                            entity_name VARCHAR(100) NOT NULL,
+                                            entity_id VARCHAR(100) NOT NULL,
+                                            operation VARCHAR(6) NOT NULL,
+                                            changed_columns VARCHAR(2000),
+                                            created_at TIMESTAMP NOT NULL,
+                                            PRIMARY KEY (id)
+);
+-- 전달 실패 횟수와 마지막 오류 (기존 outbox에도 추가)
+ALTER TABLE outbox_event ADD COLUMN IF NOT EXISTS attempts INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE outbox_event ADD COLUMN IF NOT EXISTS last_error VARCHAR(2000);
+
+-- cdc.relay.max-attempts번 전달에 실패해 릴레이가 건너뛴 레코드 (원인 해결 후 수동 재처리)
+CREATE TABLE IF NOT EXISTS outbox_dead_letter (
+                                                  id BIGINT,
+                                                  entity_name VARCHAR(100) NOT NULL,
+                                                  entity_id VARCHAR(100) NOT NULL,
+                                                  operation VARCHAR(6) NOT NULL,
+                                                  changed_columns VARCHAR(2000),
+                                                  created_at TIMESTAMP NOT NULL,
+                                                  attempts INTEGER NOT NULL,
+                                                  last_error VARCHAR(2000),
+                                                  failed_at TIMESTAMP NOT NULL,
+                                                  PRIMARY KEY (id)
+);
+
+-- 팀/멤버 (unidirect, idmapping, bidirect 엔티티가 같은 테이블을 공유, 데이터 보존을 위해 DROP 하지 않음)
+CREATE TABLE IF NOT EXISTS team (
+                                    team_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+                                    name VARCHAR(255),
+                                    PRIMARY KEY (team_id)
+);
+
+CREATE TABLE IF NOT EXISTS member (
+                                      member_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+                                      username VARCHAR(255),
+                                      team_id BIGINT,
+                                      PRIMARY KEY (member_id),
+                                      CONSTRAINT member_team_fk FOREIGN KEY (team_id)
+                                          REFERENCES team (team_id)
+);
+
+-- bidirect: 비정규화 멤버 수 (다른 엔티티의 INSERT는 기본값 0 사용, 갱신은 MemberCountListener의 원자적 UPDATE)
+-- member_count는 처음 추가될 때 기존 팀이 null이므로 실제 멤버 수로 한 번만 채움 (이후 기동에서는 null인 행이 없음)
+ALTER TABLE team ADD COLUMN IF NOT EXISTS member_count BIGINT;
+UPDATE team SET member_count = (SELECT COUNT(*) FROM member m WHERE m.team_id = team.team_id)
+WHERE member_count IS NULL;
+ALTER TABLE team ALTER COLUMN member_count SET DEFAULT 0;
+ALTER TABLE team ALTER COLUMN member_count SET NOT NULL;
+-- 예전 낙관적 락 버전 컬럼 (더 이상 쓰지 않음)
+ALTER TABLE team DROP COLUMN IF EXISTS version;
@@ -0,0 +1,306 @@
+package org.example.jpamappings.bidirect;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+/**
+ * JPA 양방향 일대다(1:N) 연관매핑 테스트 클래스
+ * - 편의 메서드가 양쪽 참조와 비정규화 멤버 수를 함께 맞추는지 확인
+ * - EXTRA 지연 컬렉션의 size()/contains()가 컬렉션을 초기화하지 않고 SQL 한 번으로 처리되는지 검증
+ * - 같은 팀에 동시에 멤버를 추가해도 충돌 없이 MEMBER_COUNT가 모두 반영되는지 확인
+ * - 기존 TEAM 테이블에 MEMBER_COUNT를 추가하는 schema.sql이 실제 멤버 수를 한 번만 채우는지 확인
+ */
+class BidirectMappingTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("양방향 매핑 - 편의 메서드로 양쪽 참조와 멤버 수 동기화")
+    void testAddMemberKeepsBothSidesInSync() {
+        BidirectTeam team = new BidirectTeam("개발팀");
+        em.persist(team);
+        BidirectMember member = new BidirectMember("홍길동");
+        team.addMember(member);
+        em.persist(member);
+
+        assertThat(member.getBidirectTeam()).isSameAs(team);
+        assertThat(team.getMembers()).containsExactly(member);
+        assertThat(team.getMemberCount()).isEqualTo(1);
+
+        em.flush();
+        em.clear();
+
+        BidirectTeam found = em.find(BidirectTeam.class, team.getTeamId());
+        assertThat(found.getMemberCount()).isEqualTo(1);
+        assertThat(found.getMembers()).extracting(BidirectMember::getUsername).containsExactly("홍길동");
+    }
+
+    @Test
+    @DisplayName("양방향 매핑 - EXTRA 지연 컬렉션의 size()는 COUNT 쿼리 한 번")
+    void testExtraLazySize() {
+        Long teamId = teamWithMembers(30);
+
+        BidirectTeam team = em.find(BidirectTeam.class, teamId);
+        long before = statistics.getPrepareStatementCount();
+        int size = team.countMembers();
+
+        assertThat(size).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount() - before).isEqualTo(1);
+        assertThat(isMembersLoaded(team)).isFalse();
+
+        // 비정규화 컬럼은 추가 SQL 없음
+        before = statistics.getPrepareStatementCount();
+        assertThat(team.getMemberCount()).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount() - before).isZero();
+    }
+
+    @Test
+    @DisplayName("양방향 매핑 - EXTRA 지연 컬렉션의 contains()는 존재 확인 쿼리 한 번")
+    void testExtraLazyContains() {
+        Long teamId = teamWithMembers(30);
+        BidirectMember outsider = new BidirectMember("외부인");
+        BidirectTeam otherTeam = new BidirectTeam("다른팀");
+        em.persist(otherTeam);
+        otherTeam.addMember(outsider);
+        em.persist(outsider);
+        em.flush();
+        em.clear();
+
+        BidirectTeam team = em.find(BidirectTeam.class, teamId);
+        BidirectMember insider = em.createQuery(
+                        "SELECT m FROM BidirectMember m WHERE m.bidirectTeam.teamId = :teamId", BidirectMember.class)
+                .setParameter("teamId", teamId)
+                .setMaxResults(1)
+                .getSingleResult();
+        BidirectMember other = em.find(BidirectMember.class, outsider.getMemberId());
+
+        long before = statistics.getPrepareStatementCount();
+        assertThat(team.hasMember(insider)).isTrue();
+        assertThat(team.hasMember(other)).isFalse();
+        assertThat(statistics.getPrepareStatementCount() - before).isEqualTo(2);
+        assertThat(isMembersLoaded(team)).isFalse();
+    }
+
+    @Test
+    @DisplayName("양방향 매핑 - 제거와 팀 이동은 컬렉션을 초기화하지 않음")
+    void testRemoveAndMove() {
+        Long teamId = teamWithMembers(10);
+        BidirectTeam team = em.find(BidirectTeam.class, teamId);
+        BidirectTeam newTeam = new BidirectTeam("새팀");
+        em.persist(newTeam);
+        BidirectMember member = em.createQuery(
+                        "SELECT m FROM BidirectMember m WHERE m.bidirectTeam.teamId = :teamId", BidirectMember.class)
+                .setParameter("teamId", teamId)
+                .setMaxResults(1)
+                .getSingleResult();
+
+        newTeam.addMember(member);
+
+        assertThat(isMembersLoaded(team)).isFalse();
+        assertThat(team.getMemberCount()).isEqualTo(9);
+        assertThat(newTeam.getMemberCount()).isEqualTo(1);
+        em.flush();
+        assertThat(team.countMembers()).isEqualTo(9);
+        assertThat(newTeam.countMembers()).isEqualTo(1);
+
+        newTeam.removeMember(member);
+        em.flush();
+        em.clear();
+        assertThat(em.find(BidirectMember.class, member.getMemberId()).getBidirectTeam()).isNull();
+        assertThat(em.find(BidirectTeam.class, newTeam.getTeamId()).getMemberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("양방향 매핑 - 멤버를 먼저 로딩해 팀이 프록시여도 이동/제거가 멤버 수에 반영")
+    void testMoveAndRemoveThroughTeamProxy() {
+        Long teamId = teamWithMembers(1);
+        BidirectTeam newTeam = new BidirectTeam("프록시팀");
+        em.persist(newTeam);
+        em.flush();
+        Long newTeamId = newTeam.getTeamId();
+        Long memberId = em.createQuery(
+                        "SELECT m.memberId FROM BidirectMember m WHERE m.bidirectTeam.teamId = :teamId", Long.class)
+                .setParameter("teamId", teamId)
+                .getSingleResult();
+        em.clear();
+
+        // 멤버만 로딩 → 팀 참조는 초기화되지 않은 프록시
+        BidirectMember member = em.find(BidirectMember.class, memberId);
+        assertThat(Hibernate.isInitialized(member.getBidirectTeam())).isFalse();
+        em.find(BidirectTeam.class, newTeamId).addMember(member);
+        em.flush();
+        em.clear();
+
+        assertThat(em.find(BidirectTeam.class, teamId).getMemberCount()).isZero();
+        assertThat(em.find(BidirectTeam.class, newTeamId).getMemberCount()).isEqualTo(1);
+        em.clear();
+
+        // 멤버의 지연 팀 프록시를 통해 제거
+        member = em.find(BidirectMember.class, memberId);
+        member.getBidirectTeam().removeMember(member);
+        em.flush();
+        em.clear();
+
+        assertThat(em.find(BidirectMember.class, memberId).getBidirectTeam()).isNull();
+        assertThat(em.find(BidirectTeam.class, newTeamId).getMemberCount()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("양방향 매핑 - 같은 팀에 동시에 멤버를 추가해도 충돌 없이 멤버 수에 모두 반영")
+    void testConcurrentAddsToSameTeam() {
+        EntityManager setup = entityManagerFactory.createEntityManager();
+        setup.getTransaction().begin();
+        BidirectTeam created = new BidirectTeam("동시팀");
+        setup.persist(created);
+        setup.getTransaction().commit();
+        setup.close();
+        Long teamId = created.getTeamId();
+
+        // 두 트랜잭션이 같은 버전의 팀을 읽은 뒤 각각 멤버 추가
+        EntityManager first = entityManagerFactory.createEntityManager();
+        EntityManager second = entityManagerFactory.createEntityManager();
+        try {
+            first.getTransaction().begin();
+            second.getTransaction().begin();
+            BidirectTeam firstTeam = first.find(BidirectTeam.class, teamId);
+            BidirectTeam secondTeam = second.find(BidirectTeam.class, teamId);
+            BidirectMember a = new BidirectMember("동시-1");
+            firstTeam.addMember(a);
+            first.persist(a);
+            first.getTransaction().commit();
+
+            // 두 번째 트랜잭션의 팀은 이미 낡은 상태지만 멤버 수는 DB에서 원자적으로 증가
+            BidirectMember b = new BidirectMember("동시-2");
+            secondTeam.addMember(b);
+            second.persist(b);
+            second.getTransaction().commit();
+        } finally {
+            first.close();
+            second.close();
+        }
+
+        EntityManager check = entityManagerFactory.createEntityManager();
+        try {
+            assertThat(check.find(BidirectTeam.class, teamId).getMemberCount()).isEqualTo(2);
+        } finally {
+            check.close();
+        }
+    }
+
+    @Test
+    @DisplayName("양방향 매핑 - 편의 메서드 없이 삭제한 멤버도 멤버 수에 반영")
+    void testRemoveWithoutHelperUpdatesCount() {
+        Long teamId = teamWithMembers(3);
+        BidirectMember member = em.createQuery(
+                        "SELECT m FROM BidirectMember m WHERE m.bidirectTeam.teamId = :teamId", BidirectMember.class)
+                .setParameter("teamId", teamId)
+                .setMaxResults(1)
+                .getSingleResult();
+
+        em.remove(member);
+        em.flush();
+        em.clear();
+
+        assertThat(em.find(BidirectTeam.class, teamId).getMemberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("양방향 매핑 - 다른 매핑으로 바뀐 멤버 수를 벌크 UPDATE로 재계산")
+    void testRecountMembers() {
+        Long teamId = teamWithMembers(5);
+        em.createNativeQuery("UPDATE team SET member_count = 0 WHERE team_id = :teamId")
+                .setParameter("teamId", teamId)
+                .executeUpdate();
+
+        em.createNamedQuery(BidirectTeam.RECOUNT_MEMBERS).executeUpdate();
+        em.clear();
+
+        assertThat(em.find(BidirectTeam.class, teamId).getMemberCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("양방향 매핑 - 기존 팀의 MEMBER_COUNT는 컬럼 추가 시 실제 멤버 수로 한 번만 채움")
+    void testSchemaBackfillsMemberCount() {
+        // Given - MEMBER_COUNT가 없던 시절의 TEAM/MEMBER에 팀 하나와 멤버 3명 (파일 DB에 남아 있던 데이터)
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:team-backfill-" + System.nanoTime() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE team (team_id BIGINT GENERATED BY DEFAULT AS IDENTITY, "
+                + "name VARCHAR(255), PRIMARY KEY (team_id))");
+        jdbcTemplate.execute("CREATE TABLE member (member_id BIGINT GENERATED BY DEFAULT AS IDENTITY, "
+                + "username VARCHAR(255), team_id BIGINT, PRIMARY KEY (member_id), "
+                + "CONSTRAINT member_team_fk FOREIGN KEY (team_id) REFERENCES team (team_id))");
+        jdbcTemplate.update("INSERT INTO team (team_id, name) VALUES (1, '기존팀')");
+        jdbcTemplate.batchUpdate("INSERT INTO member (username, team_id) VALUES (?, 1)",
+                List.of(new Object[]{"a"}, new Object[]{"b"}, new Object[]{"c"}));
+        ResourceDatabasePopulator schema = new ResourceDatabasePopulator(new ClassPathResource("schema.sql"));
+
+        // When - 기동 시 스크립트 적용
+        schema.execute(dataSource);
+
+        // Then - 기존 팀은 실제 멤버 수, 이후 추가한 팀은 기본값 0
+        assertThat(jdbcTemplate.queryForObject("SELECT member_count FROM team WHERE team_id = 1", Long.class))
+                .isEqualTo(3);
+        jdbcTemplate.update("INSERT INTO team (team_id, name) VALUES (2, '새팀')");
+        assertThat(jdbcTemplate.queryForObject("SELECT member_count FROM team WHERE team_id = 2", Long.class))
+                .isZero();
+
+        // 다시 기동해도 값을 덮어쓰지 않음 (한 번만 채움)
+        jdbcTemplate.update("UPDATE team SET member_count = 7 WHERE team_id = 1");
+        schema.execute(dataSource);
+        assertThat(jdbcTemplate.queryForObject("SELECT member_count FROM team WHERE team_id = 1", Long.class))
+                .isEqualTo(7);
+    }
+
+    // getMembers()는 읽기 전용 래퍼를 반환하므로 영속성 유닛 기준으로 초기화 여부 확인
+    private boolean isMembersLoaded(BidirectTeam team) {
+        return entityManagerFactory.getPersistenceUnitUtil().isLoaded(team, "members");
+    }
+
+    private Long teamWithMembers(int count) {
+        BidirectTeam team = new BidirectTeam("팀-" + count);
+        em.persist(team);
+        for (int i = 0; i < count; i++) {
+            BidirectMember member = new BidirectMember("멤버-" + i);
+            team.addMember(member);
+            em.persist(member);
+        }
+        em.flush();
+        em.clear();
+        return team.getTeamId();
+    }
+}
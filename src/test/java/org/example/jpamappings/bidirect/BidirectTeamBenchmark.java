@@ -0,0 +1,114 @@
+package org.example.jpamappings.bidirect;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.JpamappingsApplication;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대형 팀(기본 100,000명)의 멤버 수/소속 확인 JMH 벤치마크
+ * - loadAllSize: 컬렉션을 순회하여 전부 로딩한 뒤 개수 (EXTRA 없이 일반 지연 컬렉션을 쓸 때와 같음)
+ * - extraLazySize: EXTRA 지연 컬렉션의 size() → COUNT SQL 한 번
+ * - denormalizedCount: MEMBER_COUNT 컬럼 → 팀 조회 외 SQL 없음
+ * - extraLazyContains: EXTRA 지연 컬렉션의 contains() → 존재 확인 SQL 한 번
+ * - 매 호출마다 새 트랜잭션/영속성 컨텍스트에서 팀을 다시 조회함
+ * - 실행: mvn test-compile 후 main() 실행 (테스트 단계에서는 실행되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidirectTeamBenchmark {
+
+    @Param("100000")
+    private int memberCount;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager em;
+    private TransactionTemplate readOnlyTx;
+    private Long teamId;
+    private Long probeMemberId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JpamappingsApplication.class)
+                .profiles("test")
+                .properties("spring.jpa.show-sql=false", "jpa.diagnostics.enabled=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false", "logging.level.root=WARN")
+                .run();
+        em = context.getBean(EntityManager.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        teamId = new TransactionTemplate(transactionManager).execute(status -> {
+            BidirectTeam team = new BidirectTeam("benchmark-team");
+            em.persist(team);
+            return team.getTeamId();
+        });
+        // 멤버는 JDBC 배치로 넣고 MEMBER_COUNT는 벌크 UPDATE로 맞춤
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<Object[]> rows = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            rows.add(new Object[]{"bench-member-" + i, teamId});
+        }
+        jdbc.batchUpdate("INSERT INTO member (username, team_id) VALUES (?, ?)", rows);
+        probeMemberId = jdbc.queryForObject("SELECT MAX(member_id) FROM member WHERE team_id = ?", Long.class, teamId);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                em.createNamedQuery(BidirectTeam.RECOUNT_MEMBERS).executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int loadAllSize() {
+        // EXTRA 컬렉션의 size()는 COUNT로 처리되므로 순회로 전체 초기화를 강제
+        return readOnlyTx.execute(status -> {
+            int size = 0;
+            for (BidirectMember ignored : em.find(BidirectTeam.class, teamId).getMembers()) {
+                size++;
+            }
+            return size;
+        });
+    }
+
+    @Benchmark
+    public int extraLazySize() {
+        return readOnlyTx.execute(status -> em.find(BidirectTeam.class, teamId).countMembers());
+    }
+
+    @Benchmark
+    public long denormalizedCount() {
+        return readOnlyTx.execute(status -> em.find(BidirectTeam.class, teamId).getMemberCount());
+    }
+
+    @Benchmark
+    public boolean extraLazyContains() {
+        return readOnlyTx.execute(status -> {
+            BidirectTeam team = em.find(BidirectTeam.class, teamId);
+            return team.hasMember(em.getReference(BidirectMember.class, probeMemberId));
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BidirectTeamBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.jpamappings.bulk;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.JpamappingsApplication;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팀 삭제 JMH 벤치마크 - 엔티티 단위 삭제 vs 벌크 삭제 (기본 멤버 100,000명)
+ * - entityByEntity: 멤버를 전부 로딩하여 em.remove() 후 팀 삭제 (영속성 전이 없는 매핑의 일반적인 방법)
+ * - bulk: BulkRemover.removeTeam() (outbox INSERT … SELECT 2 + DELETE 2)
+ * - 두 방식 모두 CDC outbox 행을 남김
+ * - 반복마다 JDBC 배치로 팀/멤버를 다시 넣고 한 번씩 측정 (SingleShotTime)
+ * - 실행: mvn test-compile 후 main() 실행 (테스트 단계에서는 실행되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class BulkRemoveBenchmark {
+
+    @Param("100000")
+    private int memberCount;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager em;
+    private TransactionTemplate tx;
+    private JdbcTemplate jdbc;
+    private BulkRemover bulkRemover;
+    private Long teamId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(JpamappingsApplication.class)
+                .profiles("test")
+                .properties("spring.jpa.show-sql=false", "jpa.diagnostics.enabled=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false", "logging.level.root=WARN")
+                .run();
+        em = context.getBean(EntityManager.class);
+        tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbc = context.getBean(JdbcTemplate.class);
+        bulkRemover = context.getBean(BulkRemover.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void seed() {
+        teamId = tx.execute(status -> {
+            UnidirectTeam team = new UnidirectTeam("benchmark-team");
+            em.persist(team);
+            return team.getTeamId();
+        });
+        List<Object[]> rows = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            rows.add(new Object[]{"bench-member-" + i, teamId});
+        }
+        jdbc.batchUpdate("INSERT INTO member (username, team_id) VALUES (?, ?)", rows);
+        jdbc.update("DELETE FROM outbox_event");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int entityByEntity() {
+        return tx.execute(status -> {
+            List<UnidirectMember> members = em.createNamedQuery(UnidirectMember.FIND_BY_TEAM_ID, UnidirectMember.class)
+                    .setParameter("teamId", teamId)
+                    .getResultList();
+            members.forEach(em::remove);
+            em.remove(em.find(UnidirectTeam.class, teamId));
+            return members.size();
+        });
+    }
+
+    @Benchmark
+    public int bulk() {
+        return bulkRemover.removeTeam(teamId).membersDeleted();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BulkRemoveBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
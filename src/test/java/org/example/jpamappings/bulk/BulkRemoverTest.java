@@ -0,0 +1,176 @@
+package org.example.jpamappings.bulk;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.jpamappings.hr.Department;
+import org.example.jpamappings.hr.Employees;
+import org.example.jpamappings.hr.JobHistory;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+/**
+ * 일괄 삭제 테스트 클래스
+ * - 외래키 순서대로 벌크 SQL이 실행되어 팀/부서와 딸린 행이 정리되는지 확인
+ * - 영속성 컨텍스트의 관리 엔티티가 detach되고 outbox에 변경이 기록되는지 확인
+ */
+class BulkRemoverTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BulkRemover bulkRemover;
+
+    @Test
+    @DisplayName("일괄 삭제 - 팀과 소속 멤버를 벌크 DELETE로 삭제")
+    void testRemoveTeam() {
+        UnidirectTeam team = new UnidirectTeam("삭제팀");
+        UnidirectTeam other = new UnidirectTeam("유지팀");
+        em.persist(team);
+        em.persist(other);
+        List<UnidirectMember> members = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            UnidirectMember member = new UnidirectMember("멤버-" + i);
+            member.setUnidirectTeam(i < 40 ? team : other);
+            em.persist(member);
+            members.add(member);
+        }
+
+        TeamRemoval removal = bulkRemover.removeTeam(team.getTeamId());
+
+        assertThat(removal.teamDeleted()).isTrue();
+        assertThat(removal.membersDeleted()).isEqualTo(40);
+        assertThat(em.contains(team)).isFalse();
+        assertThat(em.contains(members.get(0))).isFalse();
+        assertThat(em.contains(members.get(45))).isTrue();
+
+        em.clear();
+        assertThat(em.find(UnidirectTeam.class, team.getTeamId())).isNull();
+        assertThat(em.find(UnidirectTeam.class, other.getTeamId())).isNotNull();
+        assertThat(em.createNamedQuery(UnidirectMember.FIND_BY_TEAM_ID, UnidirectMember.class)
+                .setParameter("teamId", other.getTeamId())
+                .getResultList()).hasSize(10);
+        assertThat(outboxCount("UnidirectMember", "DELETE")).isEqualTo(40);
+        assertThat(outboxCount("UnidirectTeam", "DELETE")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 팀 삭제 SQL 수는 멤버 수와 무관")
+    void testRemoveTeamStatementCountIsConstant() {
+        UnidirectTeam team = new UnidirectTeam("대형팀");
+        em.persist(team);
+        for (int i = 0; i < 500; i++) {
+            UnidirectMember member = new UnidirectMember("멤버-" + i);
+            member.setUnidirectTeam(team);
+            em.persist(member);
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        TeamRemoval removal = bulkRemover.removeTeam(team.getTeamId());
+
+        assertThat(removal.membersDeleted()).isEqualTo(500);
+        // outbox INSERT … SELECT 2 + DELETE 2
+        assertThat(statistics.getPrepareStatementCount() - before).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 부서 삭제 시 직원 재배치, JOB_HISTORY 삭제")
+    void testRemoveDepartment() {
+        em.persist(department(9100, "폐지부서"));
+        em.persist(department(9200, "인수부서"));
+        Employees kept = employee(9101, 9100);
+        em.persist(kept);
+        em.persist(employee(9102, 9100));
+        em.persist(employee(9201, 9200));
+        em.persist(jobHistory(9101, 9100));
+        em.persist(jobHistory(9201, 9100));
+        em.persist(jobHistory(9201, 9200));
+
+        DepartmentRemoval removal = bulkRemover.removeDepartment(9100, 9200);
+
+        assertThat(removal.departmentDeleted()).isTrue();
+        assertThat(removal.employeesReassigned()).isEqualTo(2);
+        assertThat(removal.jobHistoryDeleted()).isEqualTo(2);
+        assertThat(em.contains(kept)).isFalse();
+
+        em.clear();
+        assertThat(em.find(Department.class, 9100)).isNull();
+        assertThat(em.find(Employees.class, 9101).getDepartmentId()).isEqualTo(9200);
+        assertThat(em.createQuery("SELECT COUNT(j) FROM JobHistory j WHERE j.departmentId = 9200", Long.class)
+                .getSingleResult()).isEqualTo(1);
+        assertThat(outboxCount("Employees", "UPDATE")).isEqualTo(2);
+        assertThat(outboxCount("Department", "DELETE")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 잘못된 재배치 대상은 거부")
+    void testRemoveDepartmentRejectsInvalidTarget() {
+        em.persist(department(9300, "부서"));
+
+        assertThatThrownBy(() -> bulkRemover.removeDepartment(9300, 9300))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bulkRemover.removeDepartment(9300, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(em.find(Department.class, 9300)).isNotNull();
+    }
+
+    private long outboxCount(String entityName, String operation) {
+        return ((Number) em.createNativeQuery(
+                        "SELECT COUNT(*) FROM outbox_event WHERE entity_name = :entityName AND operation = :operation")
+                .setParameter("entityName", entityName)
+                .setParameter("operation", operation)
+                .getSingleResult()).longValue();
+    }
+
+    private static Department department(int id, String name) {
+        Department department = new Department();
+        department.setDepartmentId(id);
+        department.setDepartmentName(name);
+        return department;
+    }
+
+    private static Employees employee(int id, int departmentId) {
+        Employees employee = new Employees();
+        employee.setEmployeeId(id);
+        employee.setLastName("Employee" + id);
+        employee.setEmail("E" + id);
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employee.setJobId("SA_REP");
+        employee.setDepartmentId(departmentId);
+        return employee;
+    }
+
+    private static JobHistory jobHistory(int employeeId, int departmentId) {
+        JobHistory jobHistory = new JobHistory();
+        jobHistory.setEmployeeId(employeeId);
+        jobHistory.setStartDate(LocalDate.of(2019, 1, 1).plusDays(departmentId));
+        jobHistory.setEndDate(LocalDate.of(2022, 1, 1));
+        jobHistory.setJobId("J1");
+        jobHistory.setDepartmentId(departmentId);
+        return jobHistory;
+    }
+}
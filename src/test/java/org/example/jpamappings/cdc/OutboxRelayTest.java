@@ -0,0 +1,192 @@
+package org.example.jpamappings.cdc;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+/**
+ * CDC outbox 테스트 클래스
+ * - 엔티티 변경이 같은 트랜잭션에서 outbox에 기록되는지 확인
+ * - 릴레이의 배치 전달, 실패 시 재전달(at-least-once) 동작 검증
+ * - 계속 실패하는 레코드가 max-attempts 후 dead letter로 옮겨지고 뒤의 레코드가 전달되는지 확인
+ */
+class OutboxRelayTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private RecordingSubscriber subscriber;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        subscriber.failing.set(false);
+        subscriber.poisonIds.clear();
+        while (relay.relayBatch() > 0) {
+            // 이전 테스트가 남긴 레코드 비우기
+        }
+        subscriber.records.clear();
+    }
+
+    /**
+     * INSERT/UPDATE/DELETE가 순서대로 전달되고 변경 컬럼이 기록되는지 확인
+     */
+    @Test
+    @DisplayName("CDC - 엔티티 변경이 outbox를 거쳐 구독자에게 전달")
+    void testChangesAreRelayed() {
+        // Given - Team, Member 저장 후 Member 이름 변경 및 삭제
+        Long memberId = tx.execute(status -> {
+            UnidirectTeam team = new UnidirectTeam("개발팀");
+            em.persist(team);
+            UnidirectMember member = new UnidirectMember("홍길동");
+            member.setUnidirectTeam(team);
+            em.persist(member);
+            return member.getMemberId();
+        });
+        tx.executeWithoutResult(status -> em.find(UnidirectMember.class, memberId).setUsername("김철수"));
+        tx.executeWithoutResult(status -> em.remove(em.find(UnidirectMember.class, memberId)));
+
+        // When - 릴레이 실행
+        int delivered = relay.relayBatch();
+
+        // Then - 4건이 순서대로 전달되고 outbox는 비어 있음
+        assertThat(delivered).isEqualTo(4);
+        assertThat(relay.getPending()).isZero();
+
+        List<ChangeRecord> records = subscriber.records;
+        assertThat(records).extracting(ChangeRecord::entityName)
+                .containsExactly("UnidirectTeam", "UnidirectMember", "UnidirectMember", "UnidirectMember");
+        assertThat(records).extracting(ChangeRecord::operation)
+                .containsExactly(ChangeOperation.INSERT, ChangeOperation.INSERT,
+                        ChangeOperation.UPDATE, ChangeOperation.DELETE);
+        assertThat(records.get(2).entityId()).isEqualTo(String.valueOf(memberId));
+        assertThat(records.get(2).changedColumns()).containsExactly("username");
+    }
+
+    /**
+     * 롤백된 트랜잭션의 변경은 outbox에도 남지 않아야 함
+     */
+    @Test
+    @DisplayName("CDC - 롤백된 변경은 기록되지 않음")
+    void testRollbackIsNotCaptured() {
+        tx.executeWithoutResult(status -> {
+            em.persist(new UnidirectTeam("롤백팀"));
+            em.flush();
+            status.setRollbackOnly();
+        });
+
+        assertThat(relay.relayBatch()).isZero();
+        assertThat(subscriber.records).isEmpty();
+    }
+
+    /**
+     * 구독자 실패 시 레코드가 삭제되지 않고 다음 폴링에서 재전달되는지 확인
+     */
+    @Test
+    @DisplayName("CDC - 구독자 실패 시 재전달")
+    void testRedeliveryAfterFailure() {
+        tx.executeWithoutResult(status -> em.persist(new UnidirectTeam("재시도팀")));
+
+        subscriber.failing.set(true);
+        assertThat(relay.relayBatch()).isZero();
+        assertThat(relay.getPending()).isEqualTo(1);
+
+        subscriber.failing.set(false);
+        subscriber.poisonIds.clear();
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(relay.getPending()).isZero();
+        assertThat(subscriber.records).hasSize(1);
+    }
+
+    /**
+     * 계속 실패하는 레코드가 뒤의 레코드를 막지 않는지 확인 (테스트 프로필 max-attempts=3)
+     */
+    @Test
+    @DisplayName("CDC - max-attempts번 실패한 레코드는 dead letter로 옮기고 다음 레코드 전달")
+    void testPoisonRecordIsDeadLettered() {
+        // Given - 항상 실패하는 팀 변경 뒤에 정상 팀 변경
+        Long poisonId = tx.execute(status -> {
+            UnidirectTeam team = new UnidirectTeam("독팀");
+            em.persist(team);
+            return team.getTeamId();
+        });
+        tx.executeWithoutResult(status -> em.persist(new UnidirectTeam("정상팀")));
+        subscriber.poisonIds.add(String.valueOf(poisonId));
+
+        // When - 두 번은 실패 횟수만 올리고 멈춤
+        assertThat(relay.relayBatch()).isZero();
+        assertThat(relay.relayBatch()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM outbox_event WHERE entity_id = ?",
+                Integer.class, String.valueOf(poisonId))).isEqualTo(2);
+
+        // Then - 세 번째 실패에서 dead letter로 옮기고 같은 배치에서 정상 레코드 전달
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(relay.getPending()).isZero();
+        assertThat(subscriber.records).extracting(ChangeRecord::entityName).containsExactly("UnidirectTeam");
+        assertThat(jdbcTemplate.queryForMap("SELECT entity_name, attempts, last_error FROM outbox_dead_letter "
+                + "WHERE entity_id = ?", String.valueOf(poisonId)))
+                .containsEntry("ENTITY_NAME", "UnidirectTeam")
+                .containsEntry("ATTEMPTS", 3)
+                .hasEntrySatisfying("LAST_ERROR", error -> assertThat((String) error).contains("poison record"));
+    }
+
+    @TestConfiguration
+    static class SubscriberConfig {
+
+        @Bean
+        RecordingSubscriber recordingSubscriber() {
+            return new RecordingSubscriber();
+        }
+    }
+
+    static class RecordingSubscriber implements ChangeSubscriber {
+
+        final List<ChangeRecord> records = new CopyOnWriteArrayList<>();
+        final AtomicBoolean failing = new AtomicBoolean();
+        final Set<String> poisonIds = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void onChange(ChangeRecord record) {
+            if (failing.get()) {
+                throw new IllegalStateException("subscriber down");
+            }
+            if (poisonIds.contains(record.entityId())) {
+                throw new IllegalArgumentException("poison record " + record.entityId());
+            }
+            records.add(record);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.jpamappings.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 분리 라우팅 테스트 클래스
+ * - 두 개의 인메모리 H2 DB를 primary/replica 대용으로 사용
+ * - 각 DB의 ROUTE_MARKER 값으로 실제 어느 DB에서 쿼리가 실행됐는지 확인
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private ReplicationRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        primary = pool("primary", false);
+        replica = pool("replica", true);
+        new JdbcTemplate(primary).execute("CREATE TABLE route_marker (name VARCHAR(10))");
+        new JdbcTemplate(primary).execute("INSERT INTO route_marker VALUES ('primary')");
+        new JdbcTemplate(replica).execute("CREATE TABLE route_marker (name VARCHAR(10))");
+        new JdbcTemplate(replica).execute("INSERT INTO route_marker VALUES ('replica')");
+        // replica의 복제 지연 값을 테이블로 흉내냄
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (seconds DOUBLE)");
+        new JdbcTemplate(replica).execute("INSERT INTO replica_lag VALUES (0)");
+
+        lagMonitor = new ReplicaLagMonitor(replica, "SELECT seconds FROM replica_lag",
+                Duration.ofSeconds(5), meterRegistry);
+        routing = new ReplicationRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    @DisplayName("라우팅 - readOnly 트랜잭션은 replica, 나머지는 primary")
+    void testRoutingByReadOnly() {
+        // LazyConnectionDataSourceProxy가 기본 커넥션 속성 확인용으로 한 번 요청하므로 차이로 비교
+        assertThat(readMarker(false)).isEqualTo("primary");
+        long primaryBefore = routing.routedCount(DataSourceRoute.PRIMARY);
+        long replicaBefore = routing.routedCount(DataSourceRoute.REPLICA);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(readMarker(true)).isEqualTo("replica");
+        }
+        assertThat(readMarker(false)).isEqualTo("primary");
+
+        assertThat(routing.routedCount(DataSourceRoute.REPLICA) - replicaBefore).isEqualTo(3);
+        assertThat(routing.routedCount(DataSourceRoute.PRIMARY) - primaryBefore).isEqualTo(1);
+        assertThat(meterRegistry.get("datasource.route").tag("route", "replica").counter().count())
+                .isEqualTo(3.0 + replicaBefore);
+    }
+
+    @Test
+    @DisplayName("라우팅 - 복제 지연이 허용치를 넘으면 읽기도 primary로")
+    void testFallbackOnReplicaLag() {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 30");
+        lagMonitor.check();
+
+        assertThat(lagMonitor.getAsBoolean()).isFalse();
+        assertThat(readMarker(true)).isEqualTo("primary");
+
+        // 지연이 해소되면 다시 replica 사용
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 0.5");
+        lagMonitor.check();
+        assertThat(readMarker(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("라우팅 - 지연 조회 실패 시 primary로")
+    void testFallbackOnLagCheckFailure() {
+        new JdbcTemplate(replica).execute("DROP TABLE replica_lag");
+        lagMonitor.check();
+
+        assertThat(lagMonitor.getAsBoolean()).isFalse();
+        assertThat(readMarker(true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("라우팅 - 트랜잭션 밖의 쿼리는 primary")
+    void testNoTransactionGoesToPrimary() {
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM route_marker", String.class))
+                .isEqualTo("primary");
+    }
+
+    private String readMarker(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM route_marker", String.class));
+    }
+
+    private HikariDataSource pool(String name, boolean readOnly) {
+        RoutingDataSourceProperties.Pool pool = new RoutingDataSourceProperties.Pool();
+        pool.setUrl("jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setPassword("");
+        pool.setMaximumPoolSize(4);
+        return RoutingDataSourceConfig.pool(name, pool, readOnly, meterRegistry);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.jpamappings.datasource.pool;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.JpamappingsApplication;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 획득 시 호출 경로 추적(datasource.pool.track-callers) 비용 JMH 벤치마크
+ * - trackCallers=false/true로 같은 요청(읽기 전용 트랜잭션에서 em.find 한 번 = 커넥션 획득 한 번)을 비교
+ * - 커넥션은 JpaTransactionManager.doBegin에서 얻으므로 스택 탐색이 실제 스프링/Hibernate 프레임을 지남
+ * - 실행: mvn test-compile 후 main() 실행 (테스트 단계에서는 실행되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CallerTrackingBenchmark {
+
+    @Param({"false", "true"})
+    private boolean trackCallers;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager em;
+    private TransactionTemplate readOnlyTx;
+    private Long teamId;
+
+    @Setup
+    public void setUp() {
+        // 기본 속성(properties())은 application*.properties보다 우선순위가 낮으므로 명령행 인자로 덮어씀
+        context = new SpringApplicationBuilder(JpamappingsApplication.class)
+                .profiles("test")
+                .run("--spring.jpa.show-sql=false", "--jpa.diagnostics.enabled=false",
+                        "--jpa.statistics.enabled=false", "--datasource.pool.enabled=true",
+                        "--datasource.pool.track-callers=" + trackCallers, "--logging.level.root=WARN");
+        em = context.getBean(EntityManager.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        teamId = new TransactionTemplate(transactionManager).execute(status -> {
+            UnidirectTeam team = new UnidirectTeam("caller-tracking-team");
+            em.persist(team);
+            return team.getTeamId();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String findTeam() {
+        return readOnlyTx.execute(status -> em.find(UnidirectTeam.class, teamId).getName());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CallerTrackingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.jpamappings.datasource.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커넥션 풀 관측/자동 크기 조절 테스트 클래스
+ * - 인메모리 H2 + Hikari 풀을 ObservedDataSource로 감싸서 사용 (호출 경로 추적을 켜고 확인)
+ * - 커넥션을 일정 시간 붙잡는 합성 동시 부하로 획득 대기 p99가 자동 조절 후 줄어드는지 확인
+ */
+class PoolObservabilityTest {
+
+    private static final int THREADS = 16;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PoolObservabilityProperties properties = new PoolObservabilityProperties();
+
+    private HikariDataSource pool;
+    private ObservedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool = new HikariDataSource();
+        pool.setPoolName("test");
+        pool.setJdbcUrl("jdbc:h2:mem:pool-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setPassword("");
+        pool.setMaximumPoolSize(2);
+        pool.setMinimumIdle(0);
+        pool.getConnection().close(); // 풀 시작 시간이 측정에 섞이지 않도록 미리 시작
+        properties.setTrackCallers(true);
+        properties.setLeakThreshold(Duration.ofMillis(200));
+        properties.getAdaptive().setMinSize(2);
+        properties.getAdaptive().setMaxSize(THREADS);
+        properties.getAdaptive().setTargetWait(Duration.ofMillis(2));
+        dataSource = new ObservedDataSource(pool, "test", properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("풀 관측 - 획득 대기와 호출 경로별 점유 시간 기록")
+    void testRecordsAcquireAndHoldPerCaller() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = dataSource.getConnection()) {
+                Thread.sleep(5);
+            }
+        }
+
+        assertThat(meterRegistry.get("datasource.pool.acquire").tag("pool", "test").timer().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("datasource.pool.hold")
+                .tags("pool", "test", "caller", "PoolObservabilityTest.testRecordsAcquireAndHoldPerCaller")
+                .timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(15);
+        assertThat(dataSource.openLeaseCallers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("풀 관측 - 호출 경로 추적은 기본으로 꺼져 있어 스택을 훑지 않음")
+    void testCallerTrackingOffByDefault() throws Exception {
+        ObservedDataSource untracked = new ObservedDataSource(pool, "untracked", new PoolObservabilityProperties(),
+                meterRegistry);
+        try (Connection connection = untracked.getConnection()) {
+            assertThat(untracked.openLeaseCallers()).containsExactly("unknown");
+        }
+        assertThat(meterRegistry.get("datasource.pool.hold").tags("pool", "untracked", "caller", "unknown")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("풀 관측 - 오래 반환되지 않은 커넥션은 호출 경로와 함께 한 번만 누수로 보고")
+    void testDetectsLeakOnce() throws Exception {
+        Connection leaked = dataSource.getConnection();
+        try (Connection returned = dataSource.getConnection()) {
+            assertThat(dataSource.detectLeaks()).isZero();
+        }
+        Thread.sleep(250);
+
+        assertThat(dataSource.detectLeaks()).isEqualTo(1);
+        assertThat(dataSource.detectLeaks()).isZero();
+        assertThat(dataSource.openLeaseCallers()).containsExactly("PoolObservabilityTest.testDetectsLeakOnce");
+        assertThat(meterRegistry.get("datasource.pool.leaks")
+                .tag("caller", "PoolObservabilityTest.testDetectsLeakOnce").counter().count()).isEqualTo(1);
+
+        leaked.close();
+        leaked.close();
+        assertThat(dataSource.openLeaseCallers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자동 크기 조절 - 커넥션이 모자라면 풀을 키워 획득 대기 p99가 줄어듦")
+    void testAdaptiveSizingReducesAcquireP99() throws Exception {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(() -> List.of(dataSource), properties.getAdaptive());
+
+        long before = runWorkload();
+        for (int round = 0; round < 8; round++) {
+            sizer.adjust(dataSource);
+            runWorkload();
+        }
+        sizer.adjust(dataSource);
+        long after = runWorkload();
+
+        assertThat(pool.getMaximumPoolSize()).isGreaterThan(2).isLessThanOrEqualTo(THREADS);
+        assertThat(after).isLessThan(before / 2);
+    }
+
+    @Test
+    @DisplayName("자동 크기 조절 - 점유 시간이 늘어나면(DB 포화) 대기가 길어도 키우지 않음")
+    void testDoesNotGrowWhenDatabaseSaturated() {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(List::of, properties.getAdaptive());
+
+        assertThat(sizer.decide("db", usage(20, 5, 8), 8)).isEqualTo(12);
+        assertThat(sizer.decide("db", usage(20, 20, 12), 12)).isEqualTo(11);
+        // 대기가 거의 없고 절반 이상 놀면 줄임, 최소 크기 아래로는 안 내려감
+        assertThat(sizer.decide("db", usage(0, 5, 2), 11)).isEqualTo(10);
+        assertThat(sizer.decide("db", usage(0, 5, 0), 2)).isEqualTo(2);
+    }
+
+    /**
+     * THREADS개 스레드가 각자 10번씩 커넥션을 얻어 SELECT 1 후 5ms 붙잡음
+     * @return 이번 부하의 획득 대기 p99 (ns, ObservedDataSource와 별개로 측정)
+     */
+    private long runWorkload() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                List<Long> waits = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    long started = System.nanoTime();
+                    try (Connection connection = dataSource.getConnection();
+                         Statement statement = connection.createStatement()) {
+                        waits.add(System.nanoTime() - started);
+                        statement.execute("SELECT 1");
+                        Thread.sleep(5);
+                    }
+                }
+                return waits;
+            }));
+        }
+        List<Long> waits = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            waits.addAll(future.get());
+        }
+        executor.shutdown();
+        Collections.sort(waits);
+        return waits.get((int) Math.ceil(waits.size() * 0.99) - 1);
+    }
+
+    private static PoolUsage usage(long waitMillis, long holdMillis, int peakLeased) {
+        return new PoolUsage(100, Duration.ofMillis(waitMillis), Duration.ofMillis(holdMillis), peakLeased);
+    }
+}
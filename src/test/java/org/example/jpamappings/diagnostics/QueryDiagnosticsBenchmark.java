@@ -0,0 +1,89 @@
+package org.example.jpamappings.diagnostics;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.JpamappingsApplication;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * N+1 / 느린 쿼리 탐지기 샘플링 비율별 비용 JMH 벤치마크
+ * - disabled(탐지기 미등록) / 0 / 0.05 / 1.0으로 같은 요청을 비교
+ *   (읽기 전용 트랜잭션에서 팀 조회 + 이름 있는 쿼리로 멤버 10명 조회 → 세션 1개, SQL 2번)
+ * - 0이면 세션마다 샘플링 판단만, 1.0이면 모든 세션에서 SQL 형태 정규화, 실행 시간 측정, 종료 시 보고까지 함
+ * - 실행: mvn test-compile 후 main() 실행 (테스트 단계에서는 실행되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryDiagnosticsBenchmark {
+
+    @Param({"disabled", "0", "0.05", "1.0"})
+    private String sampleRate;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager em;
+    private TransactionTemplate readOnlyTx;
+    private Long teamId;
+
+    @Setup
+    public void setUp() {
+        boolean enabled = !"disabled".equals(sampleRate);
+        // 기본 속성(properties())은 application*.properties보다 우선순위가 낮으므로 명령행 인자로 덮어씀
+        context = new SpringApplicationBuilder(JpamappingsApplication.class)
+                .profiles("test")
+                .run("--spring.jpa.show-sql=false", "--jpa.statistics.enabled=false",
+                        "--jpa.diagnostics.enabled=" + enabled,
+                        "--jpa.diagnostics.sample-rate=" + (enabled ? sampleRate : "0"),
+                        "--logging.level.root=WARN");
+        em = context.getBean(EntityManager.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        teamId = new TransactionTemplate(transactionManager).execute(status -> {
+            UnidirectTeam team = new UnidirectTeam("diagnostics-team");
+            em.persist(team);
+            for (int i = 0; i < 10; i++) {
+                UnidirectMember member = new UnidirectMember("diagnostics-member-" + i);
+                member.setUnidirectTeam(team);
+                em.persist(member);
+            }
+            return team.getTeamId();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int findTeamMembers() {
+        return readOnlyTx.execute(status -> {
+            em.find(UnidirectTeam.class, teamId);
+            return em.createNamedQuery(UnidirectMember.FIND_BY_TEAM_ID, UnidirectMember.class)
+                    .setParameter("teamId", teamId)
+                    .getResultList()
+                    .size();
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(QueryDiagnosticsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.jpamappings.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "jpa.diagnostics.sample-rate=1.0")
+@ActiveProfiles("test")
+/**
+ * N+1 / 느린 쿼리 탐지기 테스트 클래스
+ * - 반복 지연 로딩(UnidirectMember.unidirectTeam)이 엔티티/연관관계 이름과 함께 보고되는지 확인
+ * - Fetch Join으로 해결한 경우 보고되지 않는지 확인
+ * - SQL 형태 정규화와 세션 단위 판정 로직 검증
+ */
+class QueryDiagnosticsTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("탐지기 - 루프 안의 지연 로딩을 N+1로 보고")
+    void testDetectsLazyLoadingInLoop() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<Long> memberIds = tx.execute(status -> {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 1; i <= 6; i++) {
+                UnidirectTeam team = new UnidirectTeam("탐지팀" + i);
+                em.persist(team);
+                UnidirectMember member = new UnidirectMember("탐지회원" + i);
+                member.setUnidirectTeam(team);
+                em.persist(member);
+                ids.add(member.getMemberId());
+            }
+            return ids;
+        });
+
+        double before = lazyLoads();
+
+        // When - 세션(트랜잭션) 하나에서 멤버마다 팀 프록시 초기화 (N+1)
+        tx.executeWithoutResult(status -> em.createQuery(
+                        "SELECT m FROM UnidirectMember m WHERE m.memberId IN :ids", UnidirectMember.class)
+                .setParameter("ids", memberIds)
+                .getResultList()
+                .forEach(m -> m.getUnidirectTeam().getName()));
+
+        // Then - 6번의 지연 로딩이 연관관계 이름과 함께 집계됨
+        assertThat(lazyLoads() - before).isEqualTo(6.0);
+
+        // Fetch Join으로 조회하면 지연 로딩이 없으므로 추가 보고 없음
+        double afterNPlusOne = lazyLoads();
+        tx.executeWithoutResult(status -> em.createNamedQuery(UnidirectMember.FIND_ALL_WITH_TEAM, UnidirectMember.class)
+                .getResultList()
+                .forEach(m -> m.getUnidirectTeam().getName()));
+        assertThat(lazyLoads()).isEqualTo(afterNPlusOne);
+    }
+
+    @Test
+    @DisplayName("탐지기 - SQL 형태 정규화")
+    void testQueryShape() {
+        assertThat(QueryShape.normalize("select * from team t where t.team_id=42 and t.name='A''B'"))
+                .isEqualTo("select * from team t where t.team_id=? and t.name=?");
+        assertThat(QueryShape.normalize("select * from member where team_id in (?, ?,?)"))
+                .isEqualTo(QueryShape.normalize("select * from member where team_id in (?)"));
+        assertThat(QueryShape.table("select t1_0.team_id from team t1_0 where t1_0.team_id=?")).isEqualTo("team");
+    }
+
+    @Test
+    @DisplayName("탐지기 - 임계값 기준 판정")
+    void testFindingsThresholds() {
+        QueryDiagnosticsProperties properties = new QueryDiagnosticsProperties();
+        properties.setRepeatThreshold(3);
+        properties.setLazyLoadThreshold(3);
+        properties.setSlowQueryThreshold(Duration.ZERO);
+
+        DiagnosticsSession session = new DiagnosticsSession(null, true);
+        for (int i = 0; i < 3; i++) {
+            session.statementPrepared("select * from team where team_id=" + i);
+            session.lazyLoaded("UnidirectTeam", "UnidirectMember.unidirectTeam");
+        }
+        session.statementPrepared("insert into member values (1)");
+        session.statementPrepared("insert into member values (2)");
+        session.statementPrepared("insert into member values (3)");
+        session.statementPrepared("select * from member");
+        session.executeStarted();
+        session.executeEnded(0);
+
+        assertThat(session.findings(properties))
+                .extracting(Finding::type, Finding::entity, Finding::association, Finding::count)
+                .containsExactlyInAnyOrder(
+                        tuple(Finding.Type.REPEATED_STATEMENT, "team", null, 3),
+                        tuple(Finding.Type.SLOW_STATEMENT, "member", null, 1),
+                        tuple(Finding.Type.LAZY_LOAD, "UnidirectTeam",
+                                "UnidirectMember.unidirectTeam", 3));
+
+        // 비활성(샘플 제외) 세션은 아무것도 기록하지 않음
+        DiagnosticsSession inactive = new DiagnosticsSession(session, false);
+        inactive.statementPrepared("select 1");
+        assertThat(inactive.findings(properties)).isEmpty();
+    }
+
+    private double lazyLoads() {
+        var counter = meterRegistry.find("jpa.diagnostics.lazy.loads")
+                .tag("entity", "UnidirectTeam")
+                .tag("association", "UnidirectMember.unidirectTeam")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
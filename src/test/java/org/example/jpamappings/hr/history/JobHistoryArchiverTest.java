@@ -0,0 +1,136 @@
+package org.example.jpamappings.hr.history;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.hr.JobHistory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+/**
+ * JOB_HISTORY 구간 조회와 보관 테스트 클래스
+ * - [from, to) 범위 조회, 종료된 오래된 구간의 보관 이동, 보관 후에도 과거 구간 조회가 가능한지 확인
+ */
+class JobHistoryArchiverTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JobHistoryRepository repository;
+
+    @Autowired
+    private JobHistoryArchiver archiver;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        // 직원 9501: 오래전에 끝난 구간 2개 + 최근 구간 1개, 직원 9502: 오래전에 시작해 최근에 끝난 구간
+        em.persist(history(9501, today.minusYears(20), today.minusYears(18)));
+        em.persist(history(9501, today.minusYears(18), today.minusYears(12)));
+        em.persist(history(9501, today.minusDays(30), today.minusDays(1)));
+        em.persist(history(9502, today.minusYears(15), today.minusMonths(2)));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("JobHistory 조회 - 시작일 반열린 구간 [from, to)")
+    void testFindStartedBetween() {
+        assertThat(repository.findStartedBetween(today.minusYears(20), today.minusYears(18)))
+                .extracting(JobHistory::getStartDate)
+                .containsExactly(today.minusYears(20));
+        assertThat(repository.findByEmployeeStartedBetween(9501, today.minusYears(30), today.plusDays(1)))
+                .hasSize(3);
+        assertThat(repository.findRecent(Period.ofDays(90)))
+                .extracting(JobHistory::getEmployeeId)
+                .contains(9501);
+    }
+
+    @Test
+    @DisplayName("JobHistory 보관 - 종료된 오래된 구간만 보관 테이블로 이동")
+    void testArchiveMovesClosedIntervals() {
+        int moved = archiver.archive(today.minusYears(10));
+
+        assertThat(moved).isEqualTo(2);
+        assertThat(count("job_history_archive")).isEqualTo(2);
+        assertThat(em.createNamedQuery(JobHistory.FIND_BY_EMPLOYEE_STARTED_BETWEEN, JobHistory.class)
+                .setParameter("employeeId", 9501)
+                .setParameter("from", today.minusYears(30))
+                .setParameter("to", today.plusDays(1))
+                .getResultList())
+                .extracting(JobHistory::getStartDate)
+                .containsExactly(today.minusDays(30));
+
+        // 10년 전에 시작했어도 아직 끝나지 않은 구간(9502)은 남음
+        assertThat(repository.findStartedBetween(today.minusYears(16), today.minusYears(14)))
+                .extracting(JobHistory::getEmployeeId)
+                .containsExactly(9502);
+        // 보관 경계 이후 조회는 현재 테이블만
+        assertThat(repository.findRecent(Period.ofDays(90)))
+                .extracting(JobHistory::getStartDate)
+                .contains(today.minusDays(30));
+    }
+
+    @Test
+    @DisplayName("JobHistory 보관 - 보관 후에도 과거 구간 조회에 포함")
+    void testArchivedRowsStillQueryable() {
+        archiver.archive(today.minusYears(10));
+
+        assertThat(repository.findByEmployeeStartedBetween(9501, today.minusYears(30), today.plusDays(1)))
+                .extracting(JobHistory::getStartDate)
+                .containsExactly(today.minusYears(20), today.minusYears(18), today.minusDays(30));
+        assertThat(repository.findStartedBetween(today.minusYears(19), today.minusYears(17)))
+                .extracting(JobHistory::getEndDate)
+                .containsExactly(today.minusYears(12));
+
+        // 다시 실행해도 옮길 행이 없음
+        assertThat(archiver.archive(today.minusYears(10))).isZero();
+    }
+
+    @Test
+    @DisplayName("JobHistory 보관 - 다른 노드의 저장소도 보관 후 바로 보관 구간을 함께 조회")
+    void testBoundarySharedAcrossNodes() {
+        // 같은 DB를 쓰는 다른 노드 (보관 전에 먼저 조회해 둠)
+        JobHistoryRepository otherNode = new JobHistoryRepository(em, transactionManager);
+        assertThat(otherNode.findByEmployeeStartedBetween(9501, today.minusYears(30), today.plusDays(1))).hasSize(3);
+
+        archiver.archive(today.minusYears(10));
+
+        assertThat(otherNode.findByEmployeeStartedBetween(9501, today.minusYears(30), today.plusDays(1)))
+                .extracting(JobHistory::getStartDate)
+                .containsExactly(today.minusYears(20), today.minusYears(18), today.minusDays(30));
+        assertThat(em.createNativeQuery("SELECT archived_through FROM job_history_archive_boundary", LocalDate.class)
+                .getSingleResult()).isEqualTo(today.minusYears(10).minusDays(1));
+    }
+
+    private long count(String table) {
+        return ((Number) em.createNativeQuery("SELECT COUNT(*) FROM " + table).getSingleResult()).longValue();
+    }
+
+    private static JobHistory history(int employeeId, LocalDate start, LocalDate end) {
+        JobHistory history = new JobHistory();
+        history.setEmployeeId(employeeId);
+        history.setStartDate(start);
+        history.setEndDate(end);
+        history.setJobId("IT_PROG");
+        history.setDepartmentId(60);
+        return history;
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.jpamappings.hr.history;
+
+import org.example.jpamappings.JpamappingsApplication;
+import org.example.jpamappings.hr.JobHistory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 구간 JOB_HISTORY 조회 JMH 벤치마크 (기본 1,000,000행, 직원 50,000명 × 약 20구간, 1995년부터 현재까지)
+ * - original: START_DATE 인덱스 없음, 보관 없음 (변경 전)
+ * - indexed: START_DATE 인덱스, 보관 없음
+ * - archived: START_DATE 인덱스 + 2년 전에 끝난 구간을 job_history_archive로 보관
+ * - recentWindow: 최근 7일에 시작한 구간 / employeeRecent: 직원 한 명의 최근 2년 구간
+ * - 실행: mvn test-compile 후 main() 실행 (테스트 단계에서는 실행되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobHistoryBenchmark {
+
+    @Param({"original", "indexed", "archived"})
+    private String layout;
+
+    @Param("50000")
+    private int employees;
+
+    private ConfigurableApplicationContext context;
+    private JobHistoryRepository repository;
+    private final Random random = new Random(5);
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JpamappingsApplication.class)
+                .profiles("test")
+                .properties("spring.jpa.show-sql=false", "jpa.diagnostics.enabled=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false", "logging.level.root=WARN")
+                .run();
+        repository = context.getBean(JobHistoryRepository.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+        LocalDate today = LocalDate.now();
+        List<Object[]> batch = new ArrayList<>(10_000);
+        Random seed = new Random(3);
+        for (int employeeId = 1; employeeId <= employees; employeeId++) {
+            LocalDate start = LocalDate.of(1995, 1, 1).plusDays(seed.nextInt(365));
+            while (start.isBefore(today)) {
+                LocalDate end = start.plusDays(200 + seed.nextInt(700));
+                batch.add(new Object[]{employeeId, Date.valueOf(start), Date.valueOf(end), "IT_PROG", 60});
+                if (batch.size() == 10_000) {
+                    insert(jdbc, batch);
+                }
+                start = end;
+            }
+        }
+        insert(jdbc, batch);
+
+        if (layout.equals("original")) {
+            jdbc.execute("DROP INDEX IF EXISTS jhist_start_date_ix");
+        }
+        if (layout.equals("archived")) {
+            context.getBean(JobHistoryArchiver.class).archive(today.minusYears(2));
+        }
+        jdbc.execute("ANALYZE");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<JobHistory> recentWindow() {
+        return repository.findRecent(Period.ofDays(7));
+    }
+
+    @Benchmark
+    public List<JobHistory> employeeRecent() {
+        LocalDate today = LocalDate.now();
+        return repository.findByEmployeeStartedBetween(1 + random.nextInt(employees), today.minusYears(2),
+                today.plusDays(1));
+    }
+
+    private static void insert(JdbcTemplate jdbc, List<Object[]> batch) {
+        jdbc.batchUpdate("INSERT INTO job_history (employee_id, start_date, end_date, job_id, department_id) "
+                + "VALUES (?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JobHistoryBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
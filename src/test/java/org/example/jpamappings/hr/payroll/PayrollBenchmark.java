@@ -0,0 +1,82 @@
+package org.example.jpamappings.hr.payroll;
+
+import org.example.jpamappings.hr.Employees;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 급여 합계 계산 JMH 벤치마크 - BigDecimal 방식 vs Money(long) 방식
+ * - 실행: mvn test-compile 후 main() 실행 (GC 프로파일러로 op당 할당량 함께 출력)
+ * - 테스트 단계에서는 실행되지 않음 (JUnit 테스트가 아님)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayrollBenchmark {
+
+    @Param("10000")
+    private int employeeCount;
+
+    private BigDecimal[] decimalSalaries;
+    private BigDecimal[] decimalCommissions;
+    private List<Employees> employees;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        decimalSalaries = new BigDecimal[employeeCount];
+        decimalCommissions = new BigDecimal[employeeCount];
+        employees = new ArrayList<>(employeeCount);
+        for (int i = 0; i < employeeCount; i++) {
+            BigDecimal salary = BigDecimal.valueOf(random.nextInt(200_000, 2_500_000), 2);
+            BigDecimal commission = random.nextInt(3) == 0 ? BigDecimal.valueOf(random.nextInt(5, 41), 2) : null;
+            decimalSalaries[i] = salary;
+            decimalCommissions[i] = commission;
+
+            Employees employee = new Employees();
+            employee.setDepartmentId(random.nextInt(10, 120));
+            employee.setSalary(Money.of(salary));
+            employee.setCommissionPct(commission == null ? null : BasisPoints.ofFraction(commission));
+            employees.add(employee);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < decimalSalaries.length; i++) {
+            BigDecimal salary = decimalSalaries[i];
+            BigDecimal commission = decimalCommissions[i];
+            BigDecimal pay = commission == null
+                    ? salary
+                    : salary.add(salary.multiply(commission).setScale(2, RoundingMode.HALF_EVEN));
+            total = total.add(pay);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money moneyTotal() {
+        return Payroll.total(employees);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PayrollBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.jpamappings.hr.payroll;
+
+import org.example.jpamappings.hr.Employees;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * long 기반 급여 계산 테스트 클래스
+ * - Money/BasisPoints 연산이 BigDecimal HALF_EVEN 계산과 같은 결과를 내는지 검증
+ * - 컨버터의 정밀도 보호 및 부서별 합계 확인
+ */
+class PayrollTest {
+
+    @Test
+    @DisplayName("Money - HALF_EVEN 반올림이 BigDecimal과 일치")
+    void testRoundingMatchesBigDecimal() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long cents = random.nextLong(-10_000_000_000L, 10_000_000_000L);
+            int bp = random.nextInt(-10_000, 10_001);
+
+            BigDecimal expected = BigDecimal.valueOf(cents, 2)
+                    .multiply(BigDecimal.valueOf(bp, 4))
+                    .setScale(2, RoundingMode.HALF_EVEN);
+
+            assertThat(Money.ofCents(cents).times(BasisPoints.of(bp)).toBigDecimal()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Money - 정확히 절반인 경우 짝수 쪽으로 반올림")
+    void testHalfEvenTies() {
+        // 0.25 × 50% = 0.125 → 0.12, 0.35 × 50% = 0.175 → 0.18
+        assertThat(Money.parse("0.25").times(BasisPoints.of(5000))).isEqualTo(Money.parse("0.12"));
+        assertThat(Money.parse("0.35").times(BasisPoints.of(5000))).isEqualTo(Money.parse("0.18"));
+        assertThat(Money.parse("-0.25").times(BasisPoints.of(5000))).isEqualTo(Money.parse("-0.12"));
+        assertThat(Money.parse("1.00").dividedBy(8)).isEqualTo(Money.parse("0.12"));
+    }
+
+    @Test
+    @DisplayName("Money - 정밀도 손실 및 오버플로 시 예외")
+    void testPrecisionAndOverflowGuards() {
+        assertThrows(ArithmeticException.class, () -> Money.parse("1.005"));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class,
+                () -> new BasisPointsConverter().convertToDatabaseColumn(BasisPoints.of(2050)));
+    }
+
+    @Test
+    @DisplayName("컨버터 - DECIMAL 컬럼 값과 양방향 변환")
+    void testConverters() {
+        MoneyConverter money = new MoneyConverter();
+        BasisPointsConverter rate = new BasisPointsConverter();
+
+        assertThat(money.convertToEntityAttribute(new BigDecimal("24000.00"))).isEqualTo(Money.ofCents(2_400_000));
+        assertThat(money.convertToDatabaseColumn(Money.ofCents(290_050))).isEqualByComparingTo("2900.50");
+        assertThat(rate.convertToEntityAttribute(new BigDecimal("0.20"))).isEqualTo(BasisPoints.of(2000));
+        assertThat(rate.convertToDatabaseColumn(BasisPoints.of(2000))).isEqualTo(new BigDecimal("0.20"));
+        assertThat(money.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("급여 계산 - 커미션 포함 월 지급액 및 부서별 합계")
+    void testPayroll() {
+        Employees king = employee(90, "24000", null);
+        Employees russell = employee(80, "14000", "0.40");
+        Employees partners = employee(80, "13500", "0.30");
+        Employees grant = employee(null, "7000", "0.15");
+
+        assertThat(Payroll.monthlyPay(king)).isEqualTo(Money.parse("24000"));
+        assertThat(Payroll.monthlyPay(russell)).isEqualTo(Money.parse("19600"));
+        assertThat(Payroll.monthlyPay(grant)).isEqualTo(Money.parse("8050"));
+
+        Map<Integer, Money> byDepartment = Payroll.totalByDepartment(List.of(king, russell, partners, grant));
+        assertThat(byDepartment.get(80)).isEqualTo(Money.parse("37150"));
+        assertThat(byDepartment.get(null)).isEqualTo(Money.parse("8050"));
+        assertThat(Payroll.total(List.of(king, russell, partners, grant))).isEqualTo(Money.parse("69200"));
+
+        assertThat(Payroll.raise(Money.parse("2500.00"), BasisPoints.of(333))).isEqualTo(Money.parse("2583.25"));
+    }
+
+    private Employees employee(Integer departmentId, String salary, String commission) {
+        Employees employee = new Employees();
+        employee.setDepartmentId(departmentId);
+        employee.setSalary(Money.parse(salary));
+        employee.setCommissionPct(commission == null ? null : BasisPoints.ofFraction(new BigDecimal(commission)));
+        return employee;
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.jpamappings.hr.readmodel;
+
+import org.example.jpamappings.JpamappingsApplication;
+import org.example.jpamappings.cdc.ChangeOperation;
+import org.example.jpamappings.cdc.ChangeRecord;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 직원 상세 화면 조회 JMH 벤치마크 (기본 직원 100,000명, 부서 1,000개, 위치 100곳)
+ * - liveJoin: EMPLOYEES → DEPARTMENTS → LOCATIONS + 관리자 EMPLOYEES 4개 테이블 조인
+ * - readModel: EMPLOYEE_DETAIL 한 테이블
+ * - byEmployee: 직원 한 명 / byDepartment: 부서 하나의 직원 전체 (평균 100명)
+ * - cityChange: 위치 하나의 도시 변경 비용 (readModel은 읽기 모델의 일괄 갱신 포함, 평균 1,000행)
+ * - 실행: mvn test-compile 후 main() 실행 (테스트 단계에서는 실행되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeDetailBenchmark {
+
+    private static final String LIVE_JOIN =
+            "SELECT e.employee_id, e.first_name, e.last_name, e.email, e.phone_number, e.hire_date, e.job_id, "
+                    + "e.salary, e.department_id, d.department_name, d.location_id, l.city, l.state_province, "
+                    + "l.country_id, e.manager_id, m.first_name AS manager_first_name, "
+                    + "m.last_name AS manager_last_name "
+                    + "FROM employees e "
+                    + "LEFT JOIN departments d ON d.department_id = e.department_id "
+                    + "LEFT JOIN locations l ON l.location_id = d.location_id "
+                    + "LEFT JOIN employees m ON m.employee_id = e.manager_id ";
+
+    private static final String READ_MODEL = "SELECT * FROM employee_detail ";
+
+    @Param({"liveJoin", "readModel"})
+    private String source;
+
+    @Param("100000")
+    private int employees;
+
+    private static final int DEPARTMENTS = 1_000;
+    private static final int LOCATIONS = 100;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbc;
+    private EmployeeDetailProjector projector;
+    private String byEmployeeSql;
+    private String byDepartmentSql;
+    private final Random random = new Random(5);
+    private long cityVersion;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JpamappingsApplication.class)
+                .profiles("test")
+                .properties("spring.jpa.show-sql=false", "jpa.diagnostics.enabled=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false", "logging.level.root=WARN")
+                .run();
+        jdbc = context.getBean(JdbcTemplate.class);
+        projector = context.getBean(EmployeeDetailProjector.class);
+
+        List<Object[]> locations = new ArrayList<>();
+        for (int id = 1; id <= LOCATIONS; id++) {
+            locations.add(new Object[]{id, "City" + id, "State" + (id % 10), "C" + (id % 10)});
+        }
+        jdbc.batchUpdate("INSERT INTO locations (location_id, city, state_province, country_id) VALUES (?, ?, ?, ?)",
+                locations);
+        List<Object[]> departments = new ArrayList<>();
+        for (int id = 1; id <= DEPARTMENTS; id++) {
+            departments.add(new Object[]{id, "Dept" + id, 1 + id % LOCATIONS});
+        }
+        jdbc.batchUpdate("INSERT INTO departments (department_id, department_name, location_id) VALUES (?, ?, ?)",
+                departments);
+
+        Random seed = new Random(3);
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int id = 1; id <= employees; id++) {
+            Integer managerId = id == 1 ? null : 1 + (id - 2) / 8; // 관리자 한 명당 8명
+            batch.add(new Object[]{id, "First" + id, "Last" + id, "E" + id, Date.valueOf(LocalDate.of(2010, 1, 1)),
+                    managerId == null ? "AD_PRES" : "SA_REP", BigDecimal.valueOf(3000 + seed.nextInt(10_000)), managerId, 1 + seed.nextInt(DEPARTMENTS)});
+            if (batch.size() == 10_000) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+        // H2는 외래키에 인덱스를 만들지만 테스트 프로필 스키마(Hibernate 생성)에는 외래키가 없으므로 직접 추가
+        jdbc.execute("CREATE INDEX IF NOT EXISTS emp_dept_ix ON employees (department_id)");
+        projector.rebuild();
+        jdbc.execute("ANALYZE");
+
+        String sql = source.equals("liveJoin") ? LIVE_JOIN : READ_MODEL;
+        String prefix = source.equals("liveJoin") ? "e." : "";
+        byEmployeeSql = sql + "WHERE " + prefix + "employee_id = ?";
+        byDepartmentSql = sql + "WHERE " + prefix + "department_id = ? ORDER BY " + prefix + "employee_id";
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> byEmployee() {
+        return jdbc.queryForList(byEmployeeSql, 1 + random.nextInt(employees));
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> byDepartment() {
+        return jdbc.queryForList(byDepartmentSql, 1 + random.nextInt(DEPARTMENTS));
+    }
+
+    @Benchmark
+    public int cityChange() {
+        int locationId = 1 + random.nextInt(LOCATIONS);
+        int rows = jdbc.update("UPDATE locations SET city = ? WHERE location_id = ?",
+                "City" + locationId + "-" + cityVersion++, locationId);
+        if (source.equals("readModel")) {
+            projector.onChange(new ChangeRecord(0, "Location", String.valueOf(locationId), ChangeOperation.UPDATE,
+                    List.of("CITY"), Instant.now()));
+        }
+        return rows;
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbc.batchUpdate("INSERT INTO employees (employee_id, first_name, last_name, email, hire_date, job_id, salary, "
+                + "manager_id, department_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmployeeDetailBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.jpamappings.hr.readmodel;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.cdc.OutboxRelay;
+import org.example.jpamappings.hr.Department;
+import org.example.jpamappings.hr.Employees;
+import org.example.jpamappings.hr.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+/**
+ * 직원 상세 읽기 모델 테스트 클래스
+ * - hr 엔티티 변경이 outbox 릴레이를 거쳐 EMPLOYEE_DETAIL에 반영되는지 확인
+ * - 위치의 도시 변경이 그 위치의 모든 부서 소속 행에 한 번에 반영되는지 확인
+ * - 재구축 결과가 원본 4개 테이블 조인과 같은지 확인
+ * - 배치 중간에 갱신이 실패해도 앞선 레코드의 전달이 커밋되는지 확인
+ */
+class EmployeeDetailProjectorTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private EmployeeDetailProjector projector;
+
+    @Autowired
+    private EmployeeDetailRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        relayAll(); // 이전 테스트가 남긴 레코드 비우기
+    }
+
+    @Test
+    @DisplayName("읽기 모델 - 직원/부서/위치/관리자 변경이 릴레이 후 반영")
+    void testFollowsChanges() {
+        // Given - 위치 1곳, 부서 2곳, 관리자 1명과 직원 2명
+        tx.executeWithoutResult(status -> {
+            em.persist(location(9100, "Lisbon"));
+            em.persist(department(9101, "Tiles", 9100));
+            em.persist(department(9102, "Fado", 9100));
+            em.persist(employee(9110, "Inês", "Quaresma", null, 9101));
+            em.persist(employee(9111, "Tomé", "Valadares", 9110, 9101));
+            em.persist(employee(9112, "Leonor", "Brites", 9110, 9102));
+        });
+        relayAll();
+
+        EmployeeDetail detail = repository.findById(9111).orElseThrow();
+        assertThat(detail.getDepartmentName()).isEqualTo("Tiles");
+        assertThat(detail.getCity()).isEqualTo("Lisbon");
+        assertThat(detail.getManagerName()).isEqualTo("Inês Quaresma");
+        assertThat(detail.getJobId()).isEqualTo("ST_CLERK");
+
+        // When - 위치의 도시 변경 → 두 부서 소속 행 모두 갱신
+        tx.executeWithoutResult(status -> em.find(Location.class, 9100).setCity("Porto"));
+        relayAll();
+        assertThat(repository.findByCity("Porto"))
+                .extracting(EmployeeDetail::getEmployeeId)
+                .containsExactly(9110, 9111, 9112);
+        assertThat(repository.findByCity("Lisbon")).isEmpty();
+
+        // 부서명 변경, 관리자 이름 변경, 직원의 부서 이동
+        tx.executeWithoutResult(status -> {
+            em.find(Department.class, 9102).setDepartmentName("Guitarra");
+            em.find(Employees.class, 9110).setLastName("Quaresma-Lobo");
+            em.find(Employees.class, 9111).setDepartmentId(9102);
+        });
+        relayAll();
+        assertThat(repository.findByDepartment(9102))
+                .extracting(EmployeeDetail::getEmployeeId, EmployeeDetail::getDepartmentName,
+                        EmployeeDetail::getManagerName)
+                .containsExactly(
+                        tuple(9111, "Guitarra", "Inês Quaresma-Lobo"),
+                        tuple(9112, "Guitarra", "Inês Quaresma-Lobo"));
+
+        // 직원 삭제
+        tx.executeWithoutResult(status -> em.remove(em.find(Employees.class, 9112)));
+        relayAll();
+        assertThat(repository.findById(9112)).isEmpty();
+
+        // 증분 갱신 결과가 원본 조인과 같음
+        assertThat(liveJoinMismatches()).isZero();
+    }
+
+    @Test
+    @DisplayName("읽기 모델 - 재구축 결과가 원본 조인과 같음")
+    void testRebuildMatchesLiveJoin() {
+        tx.executeWithoutResult(status -> {
+            em.persist(location(9200, "Bergen"));
+            em.persist(department(9201, "Fjords", 9200));
+            em.persist(employee(9210, "Solveig", "Haugland", null, 9201));
+            em.persist(employee(9211, "Eirik", "Brekke", 9210, 9201));
+            em.persist(employee(9212, "Ragna", "Tveit", null, null));
+        });
+        // 릴레이를 거치지 않고 원본만 바꾼 상태 (예: 스크립트로 직접 적재)
+        jdbcTemplate.update("UPDATE locations SET city = 'Stavanger' WHERE location_id = 9200");
+
+        int rows = projector.rebuild();
+
+        assertThat(rows).isEqualTo(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Integer.class));
+        assertThat(repository.findById(9211).orElseThrow())
+                .extracting(EmployeeDetail::getCity, EmployeeDetail::getManagerName, EmployeeDetail::getJobId)
+                .containsExactly("Stavanger", "Solveig Haugland", "ST_CLERK");
+        assertThat(repository.findById(9212).orElseThrow().getDepartmentName()).isNull();
+        assertThat(liveJoinMismatches()).isZero();
+        relayAll();
+    }
+
+    @Test
+    @DisplayName("읽기 모델 - 배치 중간의 갱신 실패는 그 레코드만 되돌리고 앞선 레코드는 커밋")
+    void testFailureMidBatchKeepsEarlierRecords() {
+        // Given - 위치, 실패할 직원, 그 뒤의 직원 순서로 outbox에 기록
+        tx.executeWithoutResult(status -> em.persist(location(9300, "Tromsø")));
+        tx.executeWithoutResult(status -> {
+            em.persist(department(9301, "Aurora", 9300));
+            em.persist(employee(9310, "Bjørn", "Poison", null, 9301));
+        });
+        tx.executeWithoutResult(status -> em.persist(employee(9311, "Sigrid", "Lunde", 9310, 9301)));
+        // 읽기 모델 쪽 제약으로 9310 행의 INSERT만 실패하게 함 (트랜잭션 안에서 실패)
+        jdbcTemplate.execute("ALTER TABLE employee_detail ADD CONSTRAINT emp_detail_poison_ck "
+                + "CHECK (last_name <> 'Poison')");
+        long pendingBefore = pendingRecords();
+        try {
+            // When - 배치 하나 전달
+            int delivered = relay.relayBatch();
+
+            // Then - 위치/부서 레코드까지 전달되어 outbox에서 삭제되고, 실패한 레코드부터는 남음
+            assertThat(delivered).isEqualTo(2);
+            assertThat(pendingRecords()).isEqualTo(pendingBefore - 2);
+            assertThat(repository.findById(9310)).isEmpty();
+            assertThat(repository.findById(9311)).isEmpty();
+
+            // 같은 레코드를 다시 전달해도 같은 지점에서 멈춤 (앞선 레코드를 다시 전달하지 않음)
+            assertThat(relay.relayBatch()).isZero();
+            assertThat(pendingRecords()).isEqualTo(pendingBefore - 2);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE employee_detail DROP CONSTRAINT emp_detail_poison_ck");
+        }
+
+        // 원인이 해결되면 나머지가 전달됨
+        relayAll();
+        assertThat(repository.findById(9311).orElseThrow().getManagerName()).isEqualTo("Bjørn Poison");
+        assertThat(liveJoinMismatches()).isZero();
+    }
+
+    private long pendingRecords() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Long.class);
+    }
+
+    /**
+     * 읽기 모델과 원본 4개 테이블 조인이 다른 행 수 (양방향 EXCEPT)
+     */
+    private int liveJoinMismatches() {
+        String readModel = "SELECT employee_id, last_name, job_id, department_name, city, manager_last_name "
+                + "FROM employee_detail";
+        String liveJoin = "SELECT e.employee_id, e.last_name, e.job_id, d.department_name, l.city, m.last_name "
+                + "FROM employees e "
+                + "LEFT JOIN departments d ON d.department_id = e.department_id "
+                + "LEFT JOIN locations l ON l.location_id = d.location_id "
+                + "LEFT JOIN employees m ON m.employee_id = e.manager_id";
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ((" + readModel + " EXCEPT " + liveJoin + ") "
+                + "UNION ALL (" + liveJoin + " EXCEPT " + readModel + ")) diff", Integer.class);
+    }
+
+    private void relayAll() {
+        while (relay.relayBatch() > 0) {
+            // 밀린 레코드가 없을 때까지
+        }
+    }
+
+    private static Location location(int id, String city) {
+        Location location = new Location();
+        location.setLocationId(id);
+        location.setCity(city);
+        location.setCountryId("PT");
+        return location;
+    }
+
+    private static Department department(int id, String name, Integer locationId) {
+        Department department = new Department();
+        department.setDepartmentId(id);
+        department.setDepartmentName(name);
+        department.setLocationId(locationId);
+        return department;
+    }
+
+    private static Employees employee(int id, String firstName, String lastName, Integer managerId,
+                                      Integer departmentId) {
+        Employees employee = new Employees();
+        employee.setEmployeeId(id);
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail(lastName.toUpperCase());
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employee.setJobId(managerId == null ? "ST_MAN" : "ST_CLERK");
+        employee.setManagerId(managerId);
+        employee.setDepartmentId(departmentId);
+        return employee;
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.jpamappings.hr.search;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 직원 검색 색인 JMH 벤치마크 (1M 직원)
+ * - 이름/성은 소수가 대부분을 차지하는 치우친 분포, 이메일은 직원마다 고유
+ * - 실행: mvn test-compile 후 main() 실행 (색인 구축에 힙 2GB 이상 필요)
+ * - 테스트 단계에서는 실행되지 않음 (JUnit 테스트가 아님)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+public class EmployeeSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+            "james", "mary", "john", "patricia", "robert", "jennifer", "michael", "linda", "david", "elizabeth",
+            "william", "barbara", "richard", "susan", "joseph", "jessica", "thomas", "sarah", "charles", "karen"};
+
+    private static final String[] SYLLABLES = {
+            "ka", "lo", "mi", "ren", "sta", "vo", "dra", "shi", "ton", "ber", "qui", "zel", "mar", "nov", "ash", "el",
+            "gu", "per", "tin", "wal", "son", "ric", "hel", "dun", "bra", "fo", "ley", "ham", "cor", "ste", "vik", "ol"};
+
+    @Param("1000000")
+    private int employeeCount;
+
+    private EmployeeSearchIndex index;
+    private String exactQuery;
+    private String prefixQuery;
+    private String infixQuery;
+    private String fuzzyQuery;
+    private String twoWordQuery;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        // 성 5만 개, 드문 이름 5천 개를 만들어 두고 치우친 분포로 뽑음 (앞쪽 몇 개가 대부분을 차지)
+        String[] surnames = new String[50_000];
+        for (int i = 0; i < surnames.length; i++) {
+            surnames[i] = word(random, random.nextInt(2, 5));
+        }
+        String[] rareFirstNames = new String[5_000];
+        for (int i = 0; i < rareFirstNames.length; i++) {
+            rareFirstNames[i] = word(random, random.nextInt(2, 4));
+        }
+        index = new EmployeeSearchIndex();
+        for (int i = 0; i < employeeCount; i++) {
+            String firstName = random.nextInt(10) < 7
+                    ? FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]
+                    : rareFirstNames[skewed(random, rareFirstNames.length)];
+            String lastName = surnames[skewed(random, surnames.length)];
+            index.put(i + 1, firstName, lastName, (firstName.charAt(0) + lastName + i).toUpperCase());
+            if (i == employeeCount / 2) {
+                // 실제로 존재하는 직원 한 명의 성으로 검색어를 만듦 (접두어, 부분 문자열, 인접 문자 교환 오타)
+                exactQuery = lastName;
+                prefixQuery = lastName.substring(0, 4);
+                infixQuery = lastName.substring(1, 5);
+                fuzzyQuery = lastName.substring(0, 2) + lastName.charAt(3) + lastName.charAt(2) + lastName.substring(4);
+                twoWordQuery = firstName + " " + lastName.substring(0, 4);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeMatch> exact() {
+        return index.search(exactQuery, 10);
+    }
+
+    @Benchmark
+    public List<EmployeeMatch> prefix() {
+        return index.search(prefixQuery, 10);
+    }
+
+    @Benchmark
+    public List<EmployeeMatch> infix() {
+        return index.search(infixQuery, 10);
+    }
+
+    @Benchmark
+    public List<EmployeeMatch> fuzzy() {
+        return index.search(fuzzyQuery, 10);
+    }
+
+    @Benchmark
+    public List<EmployeeMatch> twoWords() {
+        return index.search(twoWordQuery, 10);
+    }
+
+    private static int skewed(Random random, int size) {
+        return (int) (size * Math.pow(random.nextDouble(), 3));
+    }
+
+    private static String word(Random random, int syllables) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmployeeSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
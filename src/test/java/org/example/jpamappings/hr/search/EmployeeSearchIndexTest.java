@@ -0,0 +1,104 @@
+package org.example.jpamappings.hr.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로세스 내 직원 검색 색인 테스트 클래스
+ * - 정확 일치/접두어/부분 문자열/오타 허용 검색과 순위 확인
+ * - 색인 교체/삭제가 검색 결과에 바로 반영되는지 확인
+ */
+class EmployeeSearchIndexTest {
+
+    private EmployeeSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeSearchIndex();
+        index.put(100, "Steven", "King", "SKING");
+        index.put(101, "Neena", "Kochhar", "NKOCHHAR");
+        index.put(102, "Lex", "De Haan", "LDEHAAN");
+        index.put(103, "Alexander", "Hunold", "AHUNOLD");
+        index.put(104, "Bruce", "Ernst", "BERNST");
+        index.put(205, "Shelley", "Higgins", "shiggins@example.com");
+    }
+
+    @Test
+    @DisplayName("검색 - 정확 일치가 접두어보다 먼저")
+    void testExactBeforePrefix() {
+        index.put(106, "Kingsley", "Amis", "KAMIS");
+
+        List<EmployeeMatch> matches = index.search("king", 10);
+
+        assertThat(ids(matches)).startsWith(100, 106);
+        assertThat(matches.get(0).score()).isEqualTo(EmployeeSearchIndex.EXACT);
+    }
+
+    @Test
+    @DisplayName("검색 - 접두어, 부분 문자열, 이메일 로컬 파트")
+    void testPrefixAndInfix() {
+        assertThat(ids(index.search("koch", 10))).containsExactly(101);
+        assertThat(ids(index.search("xand", 10))).containsExactly(103);
+        assertThat(ids(index.search("lex", 10))).containsExactly(102, 103);
+        assertThat(ids(index.search("shiggins", 10))).containsExactly(205);
+        assertThat(ids(index.search("STEVEN", 10))).containsExactly(100);
+    }
+
+    @Test
+    @DisplayName("검색 - 편집 거리 이내의 오타 허용")
+    void testFuzzy() {
+        assertThat(ids(index.search("stevne", 10))).containsExactly(100);
+        assertThat(ids(index.search("kochar", 10))).containsExactly(101);
+        assertThat(ids(index.search("alexandre", 10))).containsExactly(103);
+        // 3자 이하는 오타 허용 안 함
+        assertThat(index.search("kng", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 - 여러 단어는 모두 일치해야 함")
+    void testMultipleWords() {
+        assertThat(ids(index.search("steven king", 10))).containsExactly(100);
+        assertThat(index.search("steven kochhar", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 - top-k 제한과 동점 시 ID 순")
+    void testTopK() {
+        for (int i = 0; i < 50; i++) {
+            index.put(1000 + i, "Peter", "Tucker" + i, "PTUCKER" + i);
+        }
+
+        List<EmployeeMatch> matches = index.search("peter", 5);
+
+        assertThat(ids(matches)).containsExactly(1000, 1001, 1002, 1003, 1004);
+    }
+
+    @Test
+    @DisplayName("색인 - 교체와 삭제 반영")
+    void testReplaceAndRemove() {
+        index.put(100, "Steven", "Kingston", "SKINGSTON");
+        assertThat(index.search("king", 10).get(0).score()).isLessThan(EmployeeSearchIndex.EXACT);
+
+        index.remove(100);
+        assertThat(index.search("steven", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("편집 거리 - 한도 초과 시 조기 종료")
+    void testBoundedDistance() {
+        assertThat(EmployeeSearchIndex.boundedDistance("kitten", "sitting", 3)).isEqualTo(3);
+        assertThat(EmployeeSearchIndex.boundedDistance("kitten", "sitting", 1)).isEqualTo(2);
+        assertThat(EmployeeSearchIndex.boundedDistance("abc", "abcdef", 2)).isEqualTo(3);
+        assertThat(EmployeeSearchIndex.boundedDistance("stevne", "steven", 1)).isEqualTo(1);
+    }
+
+    private static List<Integer> ids(List<EmployeeMatch> matches) {
+        return matches.stream().map(EmployeeMatch::employeeId).toList();
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.jpamappings.hr.search;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.cdc.OutboxRelay;
+import org.example.jpamappings.hr.Employees;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+/**
+ * 직원 검색 색인 갱신 테스트 클래스
+ * - Employees 변경이 outbox 릴레이를 거쳐 색인에 반영되는지 확인
+ */
+class EmployeeSearchIndexUpdaterTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private EmployeeSearch search;
+
+    @Autowired
+    private EmployeeSearchIndexUpdater updater;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        while (relay.relayBatch() > 0) {
+            // 이전 테스트가 남긴 레코드 비우기
+        }
+    }
+
+    @Test
+    @DisplayName("검색 색인 - INSERT/UPDATE/DELETE가 릴레이 후 반영")
+    void testIndexFollowsChanges() {
+        tx.executeWithoutResult(status -> em.persist(employee(9001, "Gwendolyn", "Marchetti", "GMARCHETTI")));
+        relay.relayBatch();
+        assertThat(search.search("marchet", 5)).extracting(EmployeeMatch::employeeId).containsExactly(9001);
+
+        tx.executeWithoutResult(status -> {
+            Employees employee = em.find(Employees.class, 9001);
+            employee.setLastName("Okonkwo");
+            employee.setEmail("GOKONKWO");
+        });
+        relay.relayBatch();
+        assertThat(search.search("marchet", 5)).isEmpty();
+        assertThat(search.search("okonkwo", 5)).extracting(EmployeeMatch::employeeId).containsExactly(9001);
+
+        tx.executeWithoutResult(status -> em.remove(em.find(Employees.class, 9001)));
+        relay.relayBatch();
+        assertThat(search.search("gwendolyn", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 색인 - 전체 재구축")
+    void testRebuild() {
+        tx.executeWithoutResult(status -> em.persist(employee(9002, "Thaddeus", "Vanterpool", "TVANTERPOOL")));
+
+        updater.rebuild();
+
+        assertThat(search.search("vanterpol", 5)).extracting(EmployeeMatch::employeeId).containsExactly(9002);
+    }
+
+    @Test
+    @DisplayName("검색 색인 - 재구축 도중 릴레이된 삭제/추가가 색인 교체 후에도 유지")
+    void testChangesDuringRebuildSurviveSwap() {
+        tx.executeWithoutResult(status -> em.persist(employee(9003, "Ottoline", "Quarshie", "OQUARSHIE")));
+        relay.relayBatch();
+
+        updater.rebuild(() -> {
+            // 새 색인에는 9003이 들어간 뒤, 교체 전에 삭제와 추가가 릴레이됨
+            tx.executeWithoutResult(status -> {
+                em.remove(em.find(Employees.class, 9003));
+                em.persist(employee(9004, "Perpetua", "Wolstenholme", "PWOLSTENHOLME"));
+            });
+            relay.relayBatch();
+        });
+
+        assertThat(search.search("quarshie", 5)).isEmpty();
+        assertThat(search.search("wolstenholme", 5)).extracting(EmployeeMatch::employeeId).containsExactly(9004);
+
+        tx.executeWithoutResult(status -> em.remove(em.find(Employees.class, 9004)));
+        relay.relayBatch();
+    }
+
+    private static Employees employee(int id, String firstName, String lastName, String email) {
+        Employees employee = new Employees();
+        employee.setEmployeeId(id);
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail(email);
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employee.setJobId("IT_PROG");
+        return employee;
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.jpamappings.hr.sync;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * 전체 재적재 vs 증분 재동기화 비교 (기본 EMPLOYEES 1,000,000행)
+ * - 전체 재적재: data.sql과 같은 방식 (TRUNCATE 후 CSVREAD로 INSERT)
+ * - 증분 재동기화: HrCsvSync (처음 한 번은 행 해시를 채우기 위해 전체 UPSERT)
+ * - 이후 1% 행(기본)의 급여를 바꾼 CSV로 다시 동기화하여 시간 비교
+ * - 임시 디렉터리의 H2 파일 DB 사용
+ * - 실행: mvn test-compile 후 main() 실행 (인자: 행 수, 변경 비율 % / 테스트 단계에서는 실행되지 않음)
+ */
+public class HrCsvSyncComparison {
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        double changedPercent = args.length > 1 ? Double.parseDouble(args[1]) : 1.0;
+
+        Path directory = Files.createTempDirectory("hr-sync");
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            // 1,000,000행과 outbox/해시를 모두 힙에 두지 않도록 파일 DB 사용
+            dataSource.setJdbcUrl("jdbc:h2:file:" + directory.resolve("hr") + ";MODE=PostgreSQL");
+            dataSource.setUsername("sa");
+            dataSource.setPassword("");
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            HrCsvSync sync = new HrCsvSync(jdbcTemplate, new DataSourceTransactionManager(dataSource), 1000, "");
+
+            for (HrTable table : new HrTable[]{HrTable.LOCATIONS, HrTable.DEPARTMENTS}) {
+                try (InputStream in = new ClassPathResource("hr/" + table.fileName()).getInputStream()) {
+                    Files.copy(in, directory.resolve(table.fileName()));
+                }
+            }
+            Path employees = directory.resolve(HrTable.EMPLOYEES.fileName());
+            writeEmployees(employees, rows, 0, new Random(11));
+
+            long started = System.nanoTime();
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            jdbcTemplate.execute("TRUNCATE TABLE employees");
+            jdbcTemplate.execute("INSERT INTO employees SELECT * FROM CSVREAD('" + employees
+                    + "', null, 'fieldSeparator=,')");
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+            print("full reload (CSVREAD)", System.nanoTime() - started, null);
+
+            print("initial sync (no hashes)", 0, sync.sync(directory));
+            print("sync, no changes", 0, sync.sync(directory));
+
+            writeEmployees(employees, rows, changedPercent / 100, new Random(11));
+            print("sync, " + changedPercent + "% changed", 0, sync.sync(directory));
+        } finally {
+            try (var files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * 합성 EMPLOYEES.csv 작성 (같은 seed면 같은 데이터, changedFraction 비율의 행은 급여만 다름)
+     */
+    private static void writeEmployees(Path file, int rows, double changedFraction, Random random)
+            throws IOException {
+        int[] departments = {10, 20, 30, 40, 50, 60, 70, 80, 90, 100, 110};
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            out.write("EMPLOYEE_ID,FIRST_NAME,LAST_NAME,EMAIL,PHONE_NUMBER,HIRE_DATE,JOB_ID,SALARY,"
+                    + "COMMISSION_PCT,MANAGER_ID,DEPARTMENT_ID");
+            out.newLine();
+            LocalDate base = LocalDate.of(2000, 1, 1);
+            for (int id = 1; id <= rows; id++) {
+                int salary = 2000 + random.nextInt(20_000);
+                boolean changed = random.nextDouble() < changedFraction;
+                String commission = random.nextInt(4) == 0 ? "0." + (10 + random.nextInt(30)) : "";
+                out.write(id + ",First" + id + ",Last" + id + ",E" + id + ",515.123." + (id % 10_000) + ","
+                        + base.plusDays(id % 8000) + ",IT_PROG," + (changed ? salary + 1 : salary) + ","
+                        + commission + "," + (id == 1 ? "" : "1") + ","
+                        + departments[id % departments.length]);
+                out.newLine();
+            }
+        }
+    }
+
+    private static void print(String label, long nanos, SyncReport report) {
+        if (report == null) {
+            System.out.printf("%-28s %8d ms%n", label, nanos / 1_000_000);
+        } else {
+            System.out.printf("%-28s %8d ms  inserted=%d updated=%d deleted=%d unchanged=%d%n", label,
+                    report.elapsed().toMillis(), report.inserted(), report.updated(), report.deleted(),
+                    report.unchanged());
+        }
+    }
+}
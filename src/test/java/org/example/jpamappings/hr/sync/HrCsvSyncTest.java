@@ -0,0 +1,199 @@
+package org.example.jpamappings.hr.sync;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * HR CSV 증분 재동기화 테스트 클래스
+ * - schema.sql로 만든 인메모리 H2 DB에 hr/*.csv 사본을 동기화
+ * - 행 해시 비교로 바뀐 행만 반영되는지, 반복 실행해도 결과가 같은지 확인
+ */
+class HrCsvSyncTest {
+
+    @TempDir
+    Path directory;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private HrCsvSync sync;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:hr-sync-" + System.nanoTime() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        sync = new HrCsvSync(jdbcTemplate, new DataSourceTransactionManager(dataSource), 16, "");
+
+        for (HrTable table : HrTable.values()) {
+            try (InputStream in = new ClassPathResource("hr/" + table.fileName()).getInputStream()) {
+                Files.copy(in, directory.resolve(table.fileName()));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("CSV 동기화 - 빈 DB에 전체 적재 후 재실행하면 변경 없음")
+    void testInitialSyncThenNoChanges() {
+        SyncReport initial = sync.sync(directory);
+
+        assertThat(initial.table(HrTable.LOCATIONS).inserted()).isEqualTo(23);
+        assertThat(initial.table(HrTable.DEPARTMENTS).inserted()).isEqualTo(27);
+        assertThat(initial.table(HrTable.EMPLOYEES).inserted()).isEqualTo(107);
+        assertThat(initial.table(HrTable.JOB_HISTORY).inserted()).isEqualTo(10);
+        assertThat(count("employees")).isEqualTo(107);
+        // 따옴표 안의 쉼표
+        assertThat(jdbcTemplate.queryForObject("SELECT city FROM locations WHERE location_id = 3200", String.class))
+                .isEqualTo("Mexico City,Distrito Federal");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT commission_pct FROM employees WHERE employee_id = 100", BigDecimal.class)).isNull();
+
+        SyncReport again = sync.sync(directory);
+
+        assertThat(again.changed()).isZero();
+        assertThat(again.unchanged()).isEqualTo(23 + 27 + 107 + 10);
+    }
+
+    @Test
+    @DisplayName("CSV 동기화 - 추가/수정/삭제된 행만 반영하고 outbox에 기록")
+    void testAppliesOnlyChangedRows() throws IOException {
+        sync.sync(directory);
+        jdbcTemplate.update("DELETE FROM outbox_event");
+
+        rewrite(HrTable.EMPLOYEES, lines -> lines.replaceAll(line -> line.startsWith("100,")
+                ? line.replace(",24000,", ",25000,") : line));
+        rewrite(HrTable.LOCATIONS, lines -> lines.add("3300,1 Sync Street,00000,Seoul,,KR"));
+        rewrite(HrTable.JOB_HISTORY, lines -> lines.removeIf(line -> line.startsWith("102,")));
+
+        SyncReport report = sync.sync(directory);
+
+        assertThat(report.table(HrTable.EMPLOYEES).updated()).isEqualTo(1);
+        assertThat(report.table(HrTable.LOCATIONS).inserted()).isEqualTo(1);
+        assertThat(report.table(HrTable.JOB_HISTORY).deleted()).isEqualTo(1);
+        assertThat(report.changed()).isEqualTo(3);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT salary FROM employees WHERE employee_id = 100",
+                BigDecimal.class)).isEqualByComparingTo("25000");
+        assertThat(jdbcTemplate.queryForObject("SELECT city FROM locations WHERE location_id = 3300",
+                String.class)).isEqualTo("Seoul");
+        assertThat(count("job_history")).isEqualTo(9);
+        assertThat(jdbcTemplate.queryForList("SELECT entity_name || ':' || entity_id || ':' || operation "
+                + "FROM outbox_event ORDER BY id", String.class))
+                .containsExactly("Location:3300:INSERT", "Employees:100:UPDATE");
+    }
+
+    @Test
+    @DisplayName("CSV 동기화 - data.sql로 이미 적재된 DB에 적용해도 행이 늘지 않음")
+    void testIdempotentOverExistingLoad() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        for (HrTable table : HrTable.values()) {
+            jdbcTemplate.execute("INSERT INTO " + table.tableName() + " SELECT * FROM CSVREAD('"
+                    + directory.resolve(table.fileName()) + "', null, 'fieldSeparator=,')");
+        }
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+
+        SyncReport report = sync.sync(directory);
+
+        assertThat(report.inserted()).isEqualTo(23 + 27 + 107 + 10);
+        assertThat(count("locations")).isEqualTo(23);
+        assertThat(count("employees")).isEqualTo(107);
+        assertThat(count("job_history")).isEqualTo(10);
+        assertThat(sync.sync(directory).changed()).isZero();
+    }
+
+    @Test
+    @DisplayName("CSV 동기화 - 중간에 외래키 위반으로 실패하면 앞선 테이블의 변경까지 모두 롤백")
+    void testFailureMidwayPersistsNothing() throws IOException {
+        sync.sync(directory);
+        jdbcTemplate.update("DELETE FROM outbox_event");
+
+        rewrite(HrTable.LOCATIONS, lines -> lines.add("3300,1 Sync Street,00000,Seoul,,KR"));
+        rewrite(HrTable.EMPLOYEES, lines -> lines.replaceAll(line -> line.startsWith("100,")
+                ? line.replace(",24000,", ",25000,") : line));
+        // 없는 직원의 이력 → 마지막 테이블에서 실패
+        rewrite(HrTable.JOB_HISTORY, lines -> lines.add("999,2001-01-01,2002-01-01,IT_PROG,60"));
+
+        assertThatThrownBy(() -> sync.sync(directory)).isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(count("locations")).isEqualTo(23);
+        assertThat(jdbcTemplate.queryForObject("SELECT salary FROM employees WHERE employee_id = 100",
+                BigDecimal.class)).isEqualByComparingTo("24000");
+        assertThat(count("job_history")).isEqualTo(10);
+        assertThat(count("outbox_event")).isZero();
+        assertThat(count("hr_row_hash")).isEqualTo(23 + 27 + 107 + 10);
+        // 외래키 검사가 켜진 채로 남아 있음
+        assertThatThrownBy(() -> jdbcTemplate.update("UPDATE employees SET manager_id = 999 WHERE employee_id = 101"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        rewrite(HrTable.JOB_HISTORY, lines -> lines.removeIf(line -> line.startsWith("999,")));
+        assertThat(sync.sync(directory).changed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("CSV 동기화 - 새 부서와 새 관리자가 서로를 가리키거나 관리자가 파일 뒤쪽에 있어도 외래키 검사를 통과")
+    void testCircularManagersWithImmediateConstraints() throws IOException {
+        sync.sync(directory);
+
+        rewrite(HrTable.DEPARTMENTS, lines -> lines.add("280,Sync,300,1700"));
+        rewrite(HrTable.EMPLOYEES, lines -> {
+            lines.add("300,Ann,Lee,ALEE,515.000.0300,2020-01-01,IT_PROG,5000,,301,280");
+            lines.add("301,Bob,Kim,BKIM,515.000.0301,2020-01-01,IT_PROG,6000,,100,280");
+        });
+
+        SyncReport added = sync.sync(directory);
+
+        assertThat(added.inserted()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT manager_id FROM departments WHERE department_id = 280",
+                Integer.class)).isEqualTo(300);
+        assertThat(jdbcTemplate.queryForObject("SELECT manager_id FROM employees WHERE employee_id = 300",
+                Integer.class)).isEqualTo(301);
+
+        rewrite(HrTable.DEPARTMENTS, lines -> lines.removeIf(line -> line.startsWith("280,")));
+        rewrite(HrTable.EMPLOYEES, lines -> lines.removeIf(line -> line.startsWith("300,") || line.startsWith("301,")));
+
+        SyncReport removed = sync.sync(directory);
+
+        assertThat(removed.deleted()).isEqualTo(3);
+        assertThat(count("employees")).isEqualTo(107);
+        assertThat(count("departments")).isEqualTo(27);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private void rewrite(HrTable table, Consumer<List<String>> edit) throws IOException {
+        Path file = directory.resolve(table.fileName());
+        List<String> lines = new ArrayList<>(Files.readAllLines(file));
+        edit.accept(lines);
+        Files.write(file, lines);
+    }
+}
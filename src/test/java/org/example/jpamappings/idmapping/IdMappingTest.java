@@ -222,8 +222,7 @@ public class IdMappingTest {
 
         // When - JPQL로 특정 팀의 모든 멤버 조회
         System.out.println("=== JPQL로 팀의 멤버들 조회 ===");
-        List<IdMappingMember> members = em.createQuery(
-                        "SELECT m FROM IdMappingMember m WHERE m.teamId = :teamId", IdMappingMember.class)
+        List<IdMappingMember> members = em.createNamedQuery(IdMappingMember.FIND_BY_TEAM_ID, IdMappingMember.class)
                 .setParameter("teamId", team.getTeamId())
                 .getResultList();
 
@@ -304,8 +303,7 @@ public class IdMappingTest {
 
         // When - 모든 멤버 조회 (N+1 문제 발생하지 않음)
         System.out.println("=== ID 매핑: N+1 문제 없음 ===");
-        List<IdMappingMember> allMembers = em.createQuery(
-                        "SELECT m FROM IdMappingMember m", IdMappingMember.class)
+        List<IdMappingMember> allMembers = em.createNamedQuery(IdMappingMember.FIND_ALL, IdMappingMember.class)
                 .getResultList();
 
         // Team 정보가 필요한 경우에만 별도 조회 (개발자가 제어)
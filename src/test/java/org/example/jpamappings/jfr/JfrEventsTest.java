@@ -0,0 +1,91 @@
+package org.example.jpamappings.jfr;
+
+import jakarta.persistence.EntityManager;
+import jdk.jfr.Recording;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+/**
+ * JFR 사용자 정의 이벤트 테스트 클래스
+ * - 기록 중에 엔티티 로딩(출처별), 지연 로딩, flush가 이벤트로 남는지 확인
+ * - 기록 파일을 JfrHotList로 요약하여 엔티티별 집계 확인
+ */
+class JfrEventsTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("JFR 이벤트 - 로딩 출처, 지연 로딩 연관관계, flush 문장 수를 기록")
+    void testRecordsLoadsLazyInitializationsAndFlushes() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Path file = directory.resolve("jpamappings.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EntityLoadEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(SessionFlushEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(LazyInitializationEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            // Given - 팀과 회원 저장 (IDENTITY라 persist 시점에 INSERT)
+            Long memberId = tx.execute(status -> {
+                UnidirectTeam team = new UnidirectTeam("JFR팀");
+                em.persist(team);
+                UnidirectMember member = new UnidirectMember("JFR회원");
+                member.setUnidirectTeam(team);
+                em.persist(member);
+                return member.getMemberId();
+            });
+
+            // When - 새 세션에서 DB 조회 → 같은 세션에서 재조회 → 팀 프록시 초기화 → 변경 (커밋 시 UPDATE)
+            tx.executeWithoutResult(status -> {
+                UnidirectMember member = em.find(UnidirectMember.class, memberId);
+                em.find(UnidirectMember.class, memberId);
+                member.getUnidirectTeam().getName();
+                member.setUsername("JFR회원2");
+            });
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        JfrHotList.Summary summary = JfrHotList.summarize(file);
+
+        // Then - 회원은 DB에서 한 번, 영속성 컨텍스트에서 한 번 로딩
+        JfrHotList.EntityStats member = summary.entity("UnidirectMember");
+        assertThat(member).isNotNull();
+        assertThat(member.getLoadsBySource()).contains(entry("db", 1L), entry("session", 1L));
+
+        // 팀은 프록시 초기화(지연 로딩)로 DB에서 로딩되고 후보 연관관계가 남음 (UnidirectTeam을 가리키는 to-one은 하나뿐)
+        JfrHotList.EntityStats team = summary.entity("UnidirectTeam");
+        assertThat(team).isNotNull();
+        assertThat(team.getLoadsBySource()).containsEntry("db", 1L);
+        assertThat(team.getLazyByCandidateAssociations()).containsExactly(entry("UnidirectMember.unidirectTeam", 1L));
+
+        // 변경 감지로 UPDATE를 실행한 flush가 문장 수, dirty checking한 엔티티 수와 함께 기록됨
+        assertThat(summary.flushes().getCount()).isPositive();
+        assertThat(summary.flushes().getStatements()).isPositive();
+        assertThat(summary.flushes().getEntitiesDirtyChecked()).isPositive();
+    }
+}
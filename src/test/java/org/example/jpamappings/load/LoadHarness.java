@@ -0,0 +1,75 @@
+package org.example.jpamappings.load;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.JpamappingsApplication;
+import org.example.jpamappings.load.LoadOperation.LoadContext;
+import org.example.jpamappings.load.OpenLoopDriver.LoadResult;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 영속성 계층 부하 재현 도구
+ * - test + load 프로필로 애플리케이션을 띄우고(기본 인메모리 H2), 합성 데이터를 만든 뒤
+ *   설정한 작업 비율과 요청률로 개방형 부하를 걸어 지연 시간 분포와 처리량을 보고서로 남김
+ * - 설정은 src/test/resources/application-load.properties, 실행 인자로 덮어쓰기
+ *   (예: --load.rate=5000 --load.mix.payroll-update=0 --spring.datasource.hikari.maximum-pool-size=8)
+ * - 같은 시드와 설정이면 같은 데이터와 요청열이 나오므로, 매핑 방식이나 풀/배치 설정을 바꿔 가며
+ *   보고서(summary.txt, *.hgrm)를 비교
+ * - 다른 DB에 걸려면 --spring.profiles.active=load 와 datasource 설정을 넘김 (빈 DB여야 함)
+ * - 실행: mvn test-compile 후 main() 실행 (테스트 단계에서는 실행되지 않음)
+ */
+public class LoadHarness {
+
+    /**
+     * 보고서 머리에 남기는 load.* 이외의 설정 (비교할 때 달라지는 값들)
+     */
+    private static final List<String> REPORTED_PROPERTIES = List.of(
+            "spring.datasource.url",
+            "spring.datasource.hikari.maximum-pool-size",
+            "spring.jpa.properties.hibernate.jdbc.batch_size",
+            "spring.jpa.properties.hibernate.order_updates",
+            "datasource.routing.enabled",
+            "jpa.diagnostics.enabled");
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JpamappingsApplication.class)
+                .profiles("test", "load")
+                .run(args)) {
+            Environment environment = context.getEnvironment();
+            LoadSettings settings = Binder.get(environment).bind("load", LoadSettings.class)
+                    .orElseThrow(() -> new IllegalStateException("load.* settings are missing"));
+
+            long started = System.nanoTime();
+            SyntheticDataSet data = SyntheticDataSet.generate(context.getBean(JdbcTemplate.class), settings);
+            System.out.printf("generated %d teams, %d members, %d employees in %d ms%n", settings.teams(),
+                    settings.members(), settings.employees(), (System.nanoTime() - started) / 1_000_000);
+
+            PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            LoadContext loadContext = new LoadContext(context.getBean(EntityManager.class),
+                    new TransactionTemplate(transactionManager), readOnly, data);
+
+            LoadResult result = new OpenLoopDriver(settings).run(loadContext);
+
+            Map<String, String> configuration = new LinkedHashMap<>();
+            configuration.put("load", settings.toString());
+            for (String property : REPORTED_PROPERTIES) {
+                configuration.put(property, environment.getProperty(property, "(default)"));
+            }
+            Path report = LoadReport.write(settings, configuration, result);
+            LoadReport.summary(System.out, configuration, result);
+            System.out.println("report: " + report.toAbsolutePath());
+        }
+    }
+}
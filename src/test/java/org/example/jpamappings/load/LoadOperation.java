@@ -0,0 +1,130 @@
+package org.example.jpamappings.load;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.bidirect.BidirectMember;
+import org.example.jpamappings.bidirect.BidirectTeam;
+import org.example.jpamappings.hr.Department;
+import org.example.jpamappings.hr.Employees;
+import org.example.jpamappings.hr.Location;
+import org.example.jpamappings.hr.payroll.BasisPoints;
+import org.example.jpamappings.hr.payroll.Payroll;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.SplittableRandom;
+
+/**
+ * 부하 작업 종류 (작업 하나 = 트랜잭션 하나)
+ * - 키는 SyntheticDataSet의 Zipf 분포로 고름 (재배치 대상 팀만 균등)
+ * - 읽기 작업은 readOnly 트랜잭션 (라우팅을 켜면 replica로 감)
+ */
+enum LoadOperation {
+
+    /**
+     * 멤버 단건 조회 후 지연 로딩으로 팀 이름 접근 (쿼리 2번)
+     */
+    MEMBER_FIND {
+        @Override
+        void execute(LoadContext context, SplittableRandom random) {
+            long memberId = context.data().hotMemberId(random);
+            context.readOnly().executeWithoutResult(status -> {
+                UnidirectMember member = context.em().find(UnidirectMember.class, memberId);
+                if (member != null && member.getUnidirectTeam() != null) {
+                    member.getUnidirectTeam().getName();
+                }
+            });
+        }
+    },
+
+    /**
+     * 팀 소속 멤버 첫 페이지(50명)를 Fetch Join으로 조회 (쿼리 1번)
+     */
+    TEAM_MEMBERS_FETCH_JOIN {
+        @Override
+        void execute(LoadContext context, SplittableRandom random) {
+            long teamId = context.data().hotTeamId(random);
+            context.readOnly().executeWithoutResult(status -> context.em()
+                    .createQuery("SELECT m FROM UnidirectMember m JOIN FETCH m.unidirectTeam "
+                            + "WHERE m.unidirectTeam.teamId = :teamId ORDER BY m.memberId", UnidirectMember.class)
+                    .setParameter("teamId", teamId)
+                    .setMaxResults(50)
+                    .getResultList());
+        }
+    },
+
+    /**
+     * 직원 상세 화면: 직원 → 부서 → 지역 + 관리자 (단건 조회 4번)
+     */
+    EMPLOYEE_DETAIL {
+        @Override
+        void execute(LoadContext context, SplittableRandom random) {
+            int employeeId = context.data().hotEmployeeId(random);
+            context.readOnly().executeWithoutResult(status -> {
+                EntityManager em = context.em();
+                Employees employee = em.find(Employees.class, employeeId);
+                if (employee == null) {
+                    return;
+                }
+                if (employee.getManagerId() != null) {
+                    em.find(Employees.class, employee.getManagerId());
+                }
+                if (employee.getDepartmentId() != null) {
+                    Department department = em.find(Department.class, employee.getDepartmentId());
+                    if (department != null && department.getLocationId() != null) {
+                        em.find(Location.class, department.getLocationId());
+                    }
+                }
+            });
+        }
+    },
+
+    /**
+     * 멤버를 다른 팀으로 재배치 (양방향 매핑으로 두 팀의 MEMBER_COUNT를 원자적 UPDATE, 큰 팀일수록 행 잠금 대기)
+     */
+    MEMBER_REASSIGN {
+        @Override
+        void execute(LoadContext context, SplittableRandom random) {
+            long memberId = context.data().hotMemberId(random);
+            long teamId = context.data().anyTeamId(random);
+            context.tx().executeWithoutResult(status -> {
+                BidirectMember member = context.em().find(BidirectMember.class, memberId);
+                if (member != null) {
+                    context.em().find(BidirectTeam.class, teamId).addMember(member);
+                }
+            });
+        }
+    },
+
+    /**
+     * 관리자와 직속 부하의 급여 1% 인상 (변경 감지 UPDATE + CDC outbox 기록)
+     */
+    PAYROLL_UPDATE {
+        private static final BasisPoints RAISE = BasisPoints.of(100);
+
+        @Override
+        void execute(LoadContext context, SplittableRandom random) {
+            int managerId = context.data().hotEmployeeId(random);
+            context.tx().executeWithoutResult(status -> {
+                for (Employees employee : context.em()
+                        .createQuery("SELECT e FROM Employees e WHERE e.employeeId = :id OR e.managerId = :id",
+                                Employees.class)
+                        .setParameter("id", managerId)
+                        .getResultList()) {
+                    if (employee.getSalary() != null) {
+                        employee.setSalary(Payroll.raise(employee.getSalary(), RAISE));
+                    }
+                }
+            });
+        }
+    };
+
+    abstract void execute(LoadContext context, SplittableRandom random);
+
+    /**
+     * 작업 실행에 필요한 빈과 데이터 (모든 작업 스레드가 공유)
+     * @param em 트랜잭션마다 스레드에 묶이는 공유 EntityManager 프록시
+     */
+    record LoadContext(EntityManager em, TransactionTemplate tx, TransactionTemplate readOnly,
+                       SyntheticDataSet data) {
+    }
+}
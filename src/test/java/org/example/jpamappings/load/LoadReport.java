@@ -0,0 +1,81 @@
+package org.example.jpamappings.load;
+
+import org.HdrHistogram.Histogram;
+import org.example.jpamappings.load.OpenLoopDriver.LoadResult;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 실행 보고서
+ * - 실행마다 reportDirectory/yyyyMMdd-HHmmss 디렉터리를 만들고 아래 파일을 씀
+ *   summary.txt: 설정(재현용)과 작업별 요청 수, 실패 수, 처리량, p50/p90/p99/p99.9/최대 지연 (ms)
+ *   작업이름.hgrm, total.hgrm: HdrHistogram 백분위 분포 (ms, HdrHistogram plotter로 여러 실행 비교)
+ */
+final class LoadReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private LoadReport() {
+    }
+
+    /**
+     * @param configuration 보고서 머리에 남길 설정 (load.* 외에 풀 크기 등 비교 대상 설정 포함)
+     * @return 보고서 디렉터리
+     */
+    static Path write(LoadSettings settings, Map<String, String> configuration, LoadResult result) {
+        try {
+            Path directory = settings.reportDirectory()
+                    .resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+            Files.createDirectories(directory);
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")),
+                    false, StandardCharsets.UTF_8)) {
+                summary(out, configuration, result);
+            }
+            for (Map.Entry<LoadOperation, Histogram> entry : result.latencies().entrySet()) {
+                distribution(directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm"), entry.getValue());
+            }
+            distribution(directory.resolve("total.hgrm"), result.total());
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void summary(PrintStream out, Map<String, String> configuration, LoadResult result) {
+        configuration.forEach((key, value) -> out.printf("# %s=%s%n", key, value));
+        out.printf("# measured %.1f s, issued %d, completed %d, throughput %.1f req/s, max dispatch lag %.3f ms%n",
+                result.elapsed().toNanos() / 1e9, result.issued(), result.completed(), result.throughput(),
+                result.maxDispatchLag().toNanos() / 1e6);
+        out.printf("%-24s %9s %7s %10s %10s %10s %10s %10s%n",
+                "operation", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<LoadOperation, Histogram> entry : result.latencies().entrySet()) {
+            row(out, entry.getKey().name(), entry.getValue(), result.errors().get(entry.getKey()));
+        }
+        row(out, "TOTAL", result.total(),
+                result.errors().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private static void row(PrintStream out, String name, Histogram histogram, long errors) {
+        List<Double> percentiles = List.of(50.0, 90.0, 99.0, 99.9);
+        out.printf("%-24s %9d %7d", name, histogram.getTotalCount(), errors);
+        for (double percentile : percentiles) {
+            out.printf(" %10.3f", histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+        }
+        out.printf(" %10.3f%n", histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    private static void distribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.jpamappings.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 실행 설정 (application-load.properties의 load.* / 명령행 --load.rate=… 로 덮어쓰기)
+ * @param seed 데이터 생성과 요청 순서를 정하는 시드 (같은 시드 = 같은 데이터, 같은 요청열)
+ * @param teams 팀 수
+ * @param members 멤버 수 (팀 크기는 Zipf 분포)
+ * @param locations 지역 수
+ * @param departments 부서 수 (부서 인원은 Zipf 분포)
+ * @param employees 직원 수
+ * @param skew Zipf 지수 (데이터 크기 분포와 조회 키 분포에 함께 사용, 0이면 균등)
+ * @param rate 목표 요청률 (req/s, 응답과 무관하게 일정 간격으로 발행)
+ * @param threads 요청을 처리하는 작업 스레드 수
+ * @param warmup 측정에서 제외하는 앞부분
+ * @param duration 측정 구간
+ * @param mix 작업별 가중치
+ * @param reportDirectory 보고서를 쓸 디렉터리 (실행마다 하위 디렉터리 생성)
+ */
+record LoadSettings(long seed,
+                    int teams,
+                    int members,
+                    int locations,
+                    int departments,
+                    int employees,
+                    double skew,
+                    int rate,
+                    int threads,
+                    Duration warmup,
+                    Duration duration,
+                    Map<LoadOperation, Integer> mix,
+                    Path reportDirectory) {
+
+    LoadSettings {
+        if (rate <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("load.rate and load.threads must be positive");
+        }
+        EnumMap<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        mix.forEach((operation, weight) -> {
+            if (weight > 0) {
+                weights.put(operation, weight);
+            }
+        });
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix must give at least one operation a positive weight");
+        }
+        mix = weights;
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.jpamappings.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.example.jpamappings.load.LoadOperation.LoadContext;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * 개방형(open-loop) 부하 발생기
+ * - 요청 i의 예정 시각 = 시작 + i / rate, 응답을 기다리지 않고 예정 시각에 작업 스레드 풀로 넘김
+ * - 지연 시간은 실제 시작이 아니라 예정 시각부터 잼 (DB가 느려져 큐가 쌓이면 그 대기도 지연에 포함,
+ *   닫힌 루프 부하기의 coordinated omission 방지)
+ * - 작업 종류와 키는 시드로 정해지므로 같은 설정이면 같은 요청열이 발행됨
+ * - 지연 시간은 작업별 HdrHistogram Recorder에 µs 단위로 기록 (워밍업 구간 제외), 실패는 따로 셈
+ */
+final class OpenLoopDriver {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final LoadSettings settings;
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+
+    OpenLoopDriver(LoadSettings settings) {
+        this.settings = settings;
+        this.operations = settings.mix().keySet().toArray(LoadOperation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += settings.mix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    LoadResult run(LoadContext context) throws InterruptedException {
+        return run((operation, random) -> operation.execute(context, random));
+    }
+
+    /**
+     * 작업 실행 방법을 바꿔 끼울 수 있는 실행 (테스트에서 DB 없이 지연을 흉내 낼 때 사용)
+     */
+    LoadResult run(BiConsumer<LoadOperation, SplittableRandom> executor) throws InterruptedException {
+        Map<LoadOperation, Recorder> recorders = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : operations) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(settings.threads(), runnable -> {
+            Thread thread = new Thread(runnable, "load-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        SplittableRandom sequence = new SplittableRandom(settings.seed());
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+        long issued = 0;
+        long maxDispatchLag = 0;
+        try {
+            for (long i = 0; ; i++) {
+                long intended = start + (long) (i * 1e9 / settings.rate());
+                if (intended >= end) {
+                    break;
+                }
+                long now;
+                while ((now = System.nanoTime()) < intended) {
+                    LockSupport.parkNanos(intended - now);
+                }
+                maxDispatchLag = Math.max(maxDispatchLag, now - intended);
+
+                LoadOperation operation = pick(sequence);
+                long requestSeed = sequence.nextLong();
+                boolean measured = intended >= measureFrom;
+                issued += measured ? 1 : 0;
+                workers.execute(() -> {
+                    try {
+                        executor.accept(operation, new SplittableRandom(requestSeed));
+                        if (measured) {
+                            recorders.get(operation).recordValue(
+                                    Math.min((System.nanoTime() - intended) / 1000, HIGHEST_TRACKABLE_MICROS));
+                        }
+                    } catch (RuntimeException e) {
+                        if (measured) {
+                            errors.get(operation).increment();
+                        }
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+        }
+        if (!workers.awaitTermination(settings.duration().toSeconds() + 60, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+            throw new IllegalStateException("load workers did not drain the backlog; lower load.rate");
+        }
+        long elapsed = Math.max(System.nanoTime(), end) - measureFrom;
+
+        Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, Long> errorCounts = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : operations) {
+            histograms.put(operation, recorders.get(operation).getIntervalHistogram());
+            errorCounts.put(operation, errors.get(operation).sum());
+        }
+        return new LoadResult(histograms, errorCounts, issued, Duration.ofNanos(elapsed),
+                Duration.ofNanos(maxDispatchLag));
+    }
+
+    /**
+     * 가중치 비율대로 작업 하나를 고름
+     */
+    LoadOperation pick(SplittableRandom random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    /**
+     * 측정 구간 결과
+     * @param latencies 작업별 성공 요청의 지연 시간 (µs, 예정 시각 기준)
+     * @param errors 작업별 실패 수 (잠금 대기 시간 초과 등)
+     * @param issued 측정 구간에 발행한 요청 수
+     * @param elapsed 측정 시작부터 마지막 요청 완료까지 (최소 측정 구간 길이)
+     * @param maxDispatchLag 발행 스레드가 예정 시각보다 늦게 깨어난 최대 시간 (크면 부하기 자체가 병목)
+     */
+    record LoadResult(Map<LoadOperation, Histogram> latencies, Map<LoadOperation, Long> errors, long issued,
+                      Duration elapsed, Duration maxDispatchLag) {
+
+        Histogram total() {
+            Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+            latencies.values().forEach(total::add);
+            return total;
+        }
+
+        long completed() {
+            return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        }
+
+        double throughput() {
+            return completed() / (elapsed.toNanos() / 1e9);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.jpamappings.load;
+
+import org.HdrHistogram.Histogram;
+import org.example.jpamappings.load.OpenLoopDriver.LoadResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 개방형 부하 발생기 테스트 클래스
+ * - 작업 종류가 가중치 비율대로 뽑히는지 검증
+ * - 지연 시간이 실제 시작이 아닌 예정 시각부터 재어져 밀린 대기가 포함되는지 확인 (DB 없이 sleep으로 흉내)
+ */
+class OpenLoopDriverTest {
+
+    @Test
+    @DisplayName("작업 선택 - 가중치 1:3이면 약 25%:75%, 가중치 0인 작업은 나오지 않음")
+    void testPickFollowsWeights() {
+        Map<LoadOperation, Integer> mix = new EnumMap<>(LoadOperation.class);
+        mix.put(LoadOperation.MEMBER_FIND, 1);
+        mix.put(LoadOperation.EMPLOYEE_DETAIL, 0);
+        mix.put(LoadOperation.PAYROLL_UPDATE, 3);
+        OpenLoopDriver driver = new OpenLoopDriver(settings(mix, 100, 1, Duration.ofSeconds(1)));
+
+        SplittableRandom random = new SplittableRandom(7);
+        Map<LoadOperation, Integer> counts = new EnumMap<>(LoadOperation.class);
+        int draws = 40_000;
+        for (int i = 0; i < draws; i++) {
+            counts.merge(driver.pick(random), 1, Integer::sum);
+        }
+
+        assertThat(counts).containsOnlyKeys(LoadOperation.MEMBER_FIND, LoadOperation.PAYROLL_UPDATE);
+        assertThat(counts.get(LoadOperation.MEMBER_FIND) / (double) draws).isCloseTo(0.25, within(0.02));
+    }
+
+    @Test
+    @DisplayName("지연 시간 - 처리보다 빠르게 발행하면 밀린 대기까지 예정 시각 기준으로 기록")
+    void testLatencyMeasuredFromIntendedTime() throws InterruptedException {
+        // Given - 5ms마다 발행(200 req/s), 작업 스레드 1개가 요청마다 20ms 걸림 → 요청 i는 약 15ms × i 밀림
+        OpenLoopDriver driver = new OpenLoopDriver(
+                settings(Map.of(LoadOperation.MEMBER_FIND, 1), 200, 1, Duration.ofMillis(200)));
+
+        // When
+        LoadResult result = driver.run((operation, random) -> sleep(20));
+
+        // Then - 40개 모두 성공, 가장 늦은 요청은 실행 시간(20ms)보다 훨씬 긴 밀린 대기를 포함
+        Histogram total = result.total();
+        assertThat(result.issued()).isEqualTo(40);
+        assertThat(result.completed()).isEqualTo(40);
+        assertThat(result.errors().get(LoadOperation.MEMBER_FIND)).isZero();
+        assertThat(total.getMinValue()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toMicros(19));
+        assertThat(total.getMaxValue()).isGreaterThan(TimeUnit.MILLISECONDS.toMicros(400));
+    }
+
+    private static LoadSettings settings(Map<LoadOperation, Integer> mix, int rate, int threads, Duration duration) {
+        return new LoadSettings(1L, 1, 1, 1, 1, 1, 1.0, rate, threads, Duration.ZERO, duration, mix, null);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
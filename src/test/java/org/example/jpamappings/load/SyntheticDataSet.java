@@ -0,0 +1,203 @@
+package org.example.jpamappings.load;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 합성 데이터 생성과 조회 키 선택
+ * - TEAM/MEMBER: 팀 크기가 Zipf 분포 (소수의 큰 팀과 다수의 작은 팀)
+ * - LOCATIONS/DEPARTMENTS/EMPLOYEES: 부서 인원이 Zipf 분포, 부서마다 부서장 아래 관리자당 최대 8명의 트리,
+ *   부서장은 직원 1(대표)에게 보고, 급여는 로그정규 분포 (상위 직급일수록 높음)
+ * - 엔티티를 거치지 않고 JDBC 배치로 명시적 ID를 넣은 뒤 IDENTITY 시퀀스를 그 다음 값으로 맞춤
+ * - 조회 키도 Zipf 분포로 고르되, 순위 → 키 대응을 섞어서 "큰 팀 = 자주 조회되는 팀"이 되지 않게 함
+ * - 기존 행이 있는 DB에는 쓰지 않음 (부하 실행용 빈 DB 전제)
+ */
+final class SyntheticDataSet {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int REPORTS_PER_MANAGER = 8;
+    private static final String[] CITIES = {"Seoul", "Busan", "Tokyo", "Osaka", "London", "Paris", "Berlin",
+            "Toronto", "Seattle", "Sydney", "Singapore", "Mumbai", "Sao Paulo", "Mexico City", "Munich"};
+    private static final String[] JOBS = {"AD_PRES", "AD_VP", "AD_ASST", "FI_MGR", "FI_ACCOUNT", "AC_MGR",
+            "AC_ACCOUNT", "SA_MAN", "SA_REP", "PU_MAN", "PU_CLERK", "ST_MAN", "ST_CLERK", "SH_CLERK", "IT_PROG",
+            "MK_MAN", "MK_REP", "HR_REP", "PR_REP"};
+
+    private final int teams;
+    private final int[] teamByRank;
+    private final int[] memberByRank;
+    private final int[] employeeByRank;
+    private final ZipfSampler teamAccess;
+    private final ZipfSampler memberAccess;
+    private final ZipfSampler employeeAccess;
+
+    private SyntheticDataSet(LoadSettings settings) {
+        this.teams = settings.teams();
+        SplittableRandom random = new SplittableRandom(settings.seed() ^ 0x5DEECE66DL);
+        this.teamByRank = shuffledIds(teams, random);
+        this.memberByRank = shuffledIds(settings.members(), random);
+        this.employeeByRank = shuffledIds(settings.employees(), random);
+        this.teamAccess = new ZipfSampler(teams, settings.skew());
+        this.memberAccess = new ZipfSampler(settings.members(), settings.skew());
+        this.employeeAccess = new ZipfSampler(settings.employees(), settings.skew());
+    }
+
+    /**
+     * 설정 규모대로 데이터를 만들어 넣고, 같은 규모의 키 선택기를 돌려줌
+     * @throws IllegalStateException 대상 테이블에 이미 행이 있을 때
+     */
+    static SyntheticDataSet generate(JdbcTemplate jdbcTemplate, LoadSettings settings) {
+        for (String table : List.of("team", "member", "locations", "departments", "employees")) {
+            Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+            if (rows != null && rows > 0) {
+                throw new IllegalStateException("load harness expects an empty database, " + table
+                        + " has " + rows + " rows");
+            }
+        }
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        insertTeams(jdbcTemplate, settings, random);
+        insertHr(jdbcTemplate, settings, random);
+        return new SyntheticDataSet(settings);
+    }
+
+    long hotTeamId(SplittableRandom random) {
+        return teamByRank[teamAccess.next(random)];
+    }
+
+    long anyTeamId(SplittableRandom random) {
+        return 1 + random.nextInt(teams);
+    }
+
+    long hotMemberId(SplittableRandom random) {
+        return memberByRank[memberAccess.next(random)];
+    }
+
+    int hotEmployeeId(SplittableRandom random) {
+        return employeeByRank[employeeAccess.next(random)];
+    }
+
+    private static void insertTeams(JdbcTemplate jdbcTemplate, LoadSettings settings, SplittableRandom random) {
+        int[] sizes = new ZipfSampler(settings.teams(), settings.skew()).split(settings.members());
+        List<Object[]> teamRows = new ArrayList<>(settings.teams());
+        for (int t = 0; t < sizes.length; t++) {
+            teamRows.add(new Object[]{(long) t + 1, "team-" + (t + 1), (long) sizes[t]});
+        }
+        batch(jdbcTemplate, "INSERT INTO team (team_id, name, member_count) VALUES (?, ?, ?)",
+                teamRows);
+
+        List<Object[]> memberRows = new ArrayList<>(BATCH_SIZE);
+        long memberId = 1;
+        for (int t = 0; t < sizes.length; t++) {
+            for (int m = 0; m < sizes[t]; m++, memberId++) {
+                memberRows.add(new Object[]{memberId, "member-" + memberId, (long) t + 1});
+                if (memberRows.size() == BATCH_SIZE) {
+                    batch(jdbcTemplate, "INSERT INTO member (member_id, username, team_id) VALUES (?, ?, ?)",
+                            memberRows);
+                    memberRows.clear();
+                }
+            }
+        }
+        batch(jdbcTemplate, "INSERT INTO member (member_id, username, team_id) VALUES (?, ?, ?)", memberRows);
+        restartIdentity(jdbcTemplate, "team", "team_id", settings.teams() + 1L);
+        restartIdentity(jdbcTemplate, "member", "member_id", settings.members() + 1L);
+    }
+
+    private static void insertHr(JdbcTemplate jdbcTemplate, LoadSettings settings, SplittableRandom random) {
+        List<Object[]> locationRows = new ArrayList<>();
+        for (int l = 1; l <= settings.locations(); l++) {
+            String city = CITIES[(l - 1) % CITIES.length];
+            locationRows.add(new Object[]{l, l + " Load Street", String.format("%05d", l), city, "XX"});
+        }
+        batch(jdbcTemplate, "INSERT INTO locations (location_id, street_address, postal_code, city, country_id) "
+                + "VALUES (?, ?, ?, ?, ?)", locationRows);
+
+        int[] headcounts = new ZipfSampler(settings.departments(), settings.skew()).split(settings.employees());
+        List<Object[]> departmentRows = new ArrayList<>();
+        List<Object[]> employeeRows = new ArrayList<>(BATCH_SIZE);
+        LocalDate firstHire = LocalDate.of(2000, 1, 1);
+        int employeeId = 1;
+        for (int d = 0; d < headcounts.length; d++) {
+            int departmentId = d + 1;
+            int head = employeeId;
+            departmentRows.add(new Object[]{departmentId, "department-" + departmentId, head,
+                    1 + random.nextInt(settings.locations())});
+            for (int i = 0; i < headcounts[d]; i++, employeeId++) {
+                Integer managerId = null;
+                if (i > 0) {
+                    managerId = head + (i - 1) / REPORTS_PER_MANAGER;
+                } else if (head != 1) {
+                    managerId = 1;
+                }
+                int depth = depth(i);
+                employeeRows.add(new Object[]{employeeId, "First" + employeeId, "Last" + employeeId,
+                        "E" + employeeId, Date.valueOf(firstHire.plusDays(random.nextInt(9000))),
+                        JOBS[random.nextInt(JOBS.length)], salary(random, depth),
+                        random.nextInt(5) == 0 ? new BigDecimal("0.1" + random.nextInt(10)) : null,
+                        managerId, departmentId});
+                if (employeeRows.size() == BATCH_SIZE) {
+                    insertEmployees(jdbcTemplate, employeeRows);
+                    employeeRows.clear();
+                }
+            }
+        }
+        insertEmployees(jdbcTemplate, employeeRows);
+        batch(jdbcTemplate, "INSERT INTO departments (department_id, department_name, manager_id, location_id) "
+                + "VALUES (?, ?, ?, ?)", departmentRows);
+    }
+
+    private static void insertEmployees(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        batch(jdbcTemplate, "INSERT INTO employees (employee_id, first_name, last_name, email, hire_date, job_id, "
+                + "salary, commission_pct, manager_id, department_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    /**
+     * 부서 안 i번째 직원의 트리 깊이 (부서장 0)
+     */
+    private static int depth(int index) {
+        int depth = 0;
+        while (index > 0) {
+            index = (index - 1) / REPORTS_PER_MANAGER;
+            depth++;
+        }
+        return depth;
+    }
+
+    /**
+     * 로그정규 분포 급여 (중앙값 약 4,000, 한 단계 위 직급마다 1.4배, DECIMAL(8,2) 범위로 제한)
+     */
+    private static BigDecimal salary(SplittableRandom random, int depth) {
+        double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble()))
+                * Math.cos(2 * Math.PI * random.nextDouble());
+        double amount = Math.exp(8.3 + 0.35 * gaussian) * Math.pow(1.4, Math.max(0, 4 - depth));
+        return BigDecimal.valueOf(Math.min(Math.round(amount * 100), 99_999_999L), 2);
+    }
+
+    private static void batch(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    private static void restartIdentity(JdbcTemplate jdbcTemplate, String table, String column, long next) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+    }
+
+    private static int[] shuffledIds(int n, SplittableRandom random) {
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+        return ids;
+    }
+}
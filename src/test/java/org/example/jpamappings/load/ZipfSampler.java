@@ -0,0 +1,59 @@
+package org.example.jpamappings.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 샘플러 (0 … n-1, 순위 k의 확률 ∝ 1 / (k+1)^s)
+ * - 누적 분포를 미리 계산해 두고 이진 탐색으로 뽑음 (n개 double, 샘플당 O(log n))
+ * - s = 0이면 균등 분포, 1 근처면 소수의 "큰 팀/부서", "자주 조회되는 키"가 생김
+ * - 순위 0이 가장 흔함 (키에 섞어 쓰려면 호출하는 쪽에서 순서를 섞음)
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+
+    int next(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    /**
+     * total을 분포 비율대로 n개로 나눔 (각 1 이상, 합은 정확히 total)
+     */
+    int[] split(int total) {
+        int n = cumulative.length;
+        if (total < n) {
+            throw new IllegalArgumentException("cannot split " + total + " into " + n + " non-empty parts");
+        }
+        int[] parts = new int[n];
+        int assigned = 0;
+        double previous = 0;
+        for (int k = 0; k < n; k++) {
+            parts[k] = 1 + (int) ((cumulative[k] - previous) * (total - n));
+            previous = cumulative[k];
+            assigned += parts[k];
+        }
+        parts[0] += total - assigned;
+        return parts;
+    }
+}
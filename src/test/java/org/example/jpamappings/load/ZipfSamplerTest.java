@@ -0,0 +1,65 @@
+package org.example.jpamappings.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Zipf 샘플러 테스트 클래스
+ * - split이 합계를 정확히 지키고 빈 몫을 만들지 않는지 검증
+ * - next가 범위를 벗어나지 않고 순위 0이 가장 흔한지 확인
+ */
+class ZipfSamplerTest {
+
+    @Test
+    @DisplayName("split - 몫의 합은 정확히 total, 각 몫은 1 이상")
+    void testSplitSumsToTotal() {
+        for (double exponent : new double[]{0, 0.5, 1.0, 1.2, 3.0}) {
+            for (int n : new int[]{1, 2, 7, 100, 1000}) {
+                for (int total : new int[]{n, n + 1, 3 * n + 1, 50_000, 1_000_003}) {
+                    int[] parts = new ZipfSampler(n, exponent).split(total);
+
+                    assertThat(parts).hasSize(n);
+                    assertThat(Arrays.stream(parts).asLongStream().sum()).isEqualTo(total);
+                    assertThat(Arrays.stream(parts).min().orElseThrow()).isGreaterThanOrEqualTo(1);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("split - 지수가 클수록 앞 순위에 몰리고, total이 n보다 작으면 예외")
+    void testSplitFollowsDistribution() {
+        // 부동소수 오차로 1씩 어긋난 몫은 첫 순위가 받아 합을 맞춤
+        int[] uniform = new ZipfSampler(4, 0).split(400);
+        assertThat(Arrays.stream(uniform).boxed().toList()).allSatisfy(part -> assertThat(part).isBetween(99, 103));
+
+        int[] skewed = new ZipfSampler(100, 1.2).split(100_000);
+        assertThat(skewed[0]).isGreaterThan(skewed[1]);
+        assertThat(skewed[1]).isGreaterThan(skewed[99]);
+
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(10, 1.0).split(9));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(0, 1.0));
+    }
+
+    @Test
+    @DisplayName("next - 항상 0 … n-1 범위, 순위 0이 가장 자주 나옴")
+    void testNextStaysInBounds() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int n : new int[]{1, 2, 10, 1000}) {
+            ZipfSampler sampler = new ZipfSampler(n, 1.1);
+            int[] counts = new int[n];
+            for (int i = 0; i < 100_000; i++) {
+                int rank = sampler.next(random);
+                assertThat(rank).isBetween(0, n - 1);
+                counts[rank]++;
+            }
+            assertThat(counts[0]).isEqualTo(Arrays.stream(counts).max().orElseThrow());
+        }
+    }
+}
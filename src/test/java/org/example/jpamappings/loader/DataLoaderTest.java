@@ -0,0 +1,180 @@
+package org.example.jpamappings.loader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * DataLoader 테스트 클래스
+ * - DB 없이 호출 기록용 배치 함수로 배치 합치기, 중복 제거, 캐시, 실패 처리를 검증
+ */
+class DataLoaderTest {
+
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Set<Integer>> batches = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean failing = new AtomicBoolean();
+
+    private final BatchLoadFunction<Integer, String> batchFunction = keys -> {
+        if (failing.get()) {
+            throw new IllegalStateException("database unavailable");
+        }
+        batches.add(keys);
+        Map<Integer, String> values = new HashMap<>();
+        keys.stream().filter(key -> key > 0).forEach(key -> values.put(key, "team-" + key));
+        return values;
+    };
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("DataLoader - 배치 창 안의 요청은 중복 제거되어 한 번에 조회")
+    void testCoalescing() {
+        DataLoader<Integer, String> loader = loader(Duration.ofMillis(50), 100);
+
+        List<CompletableFuture<String>> futures = List.of(loader.load(1), loader.load(2), loader.load(1), loader.load(3));
+
+        assertThat(futures.stream().map(CompletableFuture::join)).containsExactly("team-1", "team-2", "team-1", "team-3");
+        assertThat(batches).containsExactly(Set.of(1, 2, 3));
+        assertThat(loader.getStatistics().savedQueries()).isEqualTo(3);
+        assertThat(meterRegistry.get("dataloader.batch.size").tag("loader", "team").summary().max()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("DataLoader - 여러 스레드의 동시 요청도 합쳐짐")
+    void testConcurrentCallers() throws InterruptedException {
+        DataLoader<Integer, String> loader = loader(Duration.ofMillis(100), 1000);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<String>> futures = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int key = i % 20 + 1;
+            callers.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                futures.add(loader.load(key));
+            });
+        }
+        start.countDown();
+        callers.shutdown();
+        callers.awaitTermination(5, TimeUnit.SECONDS);
+
+        futures.forEach(CompletableFuture::join);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(20);
+        assertThat(loader.getStatistics().loads()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("DataLoader - 최대 배치 크기를 넘으면 나눠서 조회")
+    void testMaxBatchSize() {
+        DataLoader<Integer, String> loader = loader(Duration.ofMillis(50), 10);
+
+        Map<Integer, String> values = loader.loadMany(IntStream.rangeClosed(1, 25).boxed().toList()).join();
+
+        assertThat(values).hasSize(25);
+        assertThat(batches).extracting(Set::size).containsExactlyInAnyOrder(10, 10, 5);
+        assertThat(loader.getStatistics().largestBatch()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("DataLoader - 스코프 캐시, 없는 키는 null")
+    void testCacheAndMissingKeys() {
+        DataLoader<Integer, String> loader = loader(Duration.ofMillis(5), 100);
+
+        assertThat(loader.load(7).join()).isEqualTo("team-7");
+        assertThat(loader.load(7).join()).isEqualTo("team-7");
+        assertThat(loader.load(-1).join()).isNull();
+
+        assertThat(batches).containsExactly(Set.of(7), Set.of(-1));
+        assertThat(loader.getStatistics().cacheHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DataLoader - 실패한 배치는 캐시에 남지 않아 재시도 가능")
+    void testFailureIsNotCached() {
+        DataLoader<Integer, String> loader = loader(Duration.ofMillis(5), 100);
+        failing.set(true);
+
+        CompletableFuture<String> failed = loader.load(1);
+        assertThrows(CompletionException.class, failed::join);
+
+        failing.set(false);
+        assertThat(loader.load(1).join()).isEqualTo("team-1");
+    }
+
+    @Test
+    @DisplayName("DataLoader - dispatch()는 창을 기다리지 않고 바로 조회")
+    void testDispatch() {
+        DataLoader<Integer, String> loader = loader(Duration.ofHours(1), 100);
+
+        CompletableFuture<String> future = loader.load(4);
+        loader.dispatch();
+
+        assertThat(future).isCompletedWithValue("team-4");
+    }
+
+    @Test
+    @DisplayName("DataLoader - 블로킹 배치 조회가 다른 로더의 배치 창 타이머를 막지 않음")
+    void testBlockingBatchDoesNotStallTimers() throws InterruptedException {
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService batchExecutor = Executors.newFixedThreadPool(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        BatchLoadFunction<Integer, String> blocking = keys -> {
+            slowStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Map.of();
+        };
+        DataLoaderOptions options = new DataLoaderOptions(Duration.ofMillis(5), 100, true);
+        DataLoader<Integer, String> slow = new DataLoader<>("slow", blocking, options, timer, batchExecutor, meterRegistry);
+        DataLoader<Integer, String> fast =
+                new DataLoader<>("fast", batchFunction, options, timer, batchExecutor, meterRegistry);
+        try {
+            CompletableFuture<String> blocked = slow.load(1);
+            assertThat(slowStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(fast.load(2)).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("team-2");
+            assertThat(blocked).isNotDone();
+        } finally {
+            release.countDown();
+            timer.shutdownNow();
+            batchExecutor.shutdownNow();
+        }
+    }
+
+    private DataLoader<Integer, String> loader(Duration window, int maxBatchSize) {
+        return new DataLoader<>("team", batchFunction, new DataLoaderOptions(window, maxBatchSize, true),
+                executor, meterRegistry);
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.jpamappings.loader;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.jpamappings.hr.Department;
+import org.example.jpamappings.hr.Employees;
+import org.example.jpamappings.hr.Location;
+import org.example.jpamappings.idmapping.IdMappingMember;
+import org.example.jpamappings.idmapping.IdMappingTeam;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+/**
+ * 팀/부서/지역 조회 DataLoader 테스트 클래스
+ * - 멤버마다 팀을 조회해도 IN 쿼리 한 번으로 합쳐지는지 확인
+ * - 직원의 부서, 부서의 지역 조회가 각각 한 번의 배치로 합쳐지고 반환 엔티티가 준영속인지 확인
+ */
+class LookupLoadersTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private LookupLoaderFactory loaderFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("DataLoader - 멤버 30명의 팀 프록시 조회가 한 번의 IN 쿼리로")
+    void testUnidirectTeamsCoalesced() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<Long> memberIds = tx.execute(status -> {
+            List<Long> ids = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                UnidirectTeam team = new UnidirectTeam("loader-team-" + t);
+                em.persist(team);
+                for (int m = 0; m < 10; m++) {
+                    UnidirectMember member = new UnidirectMember("loader-member-" + t + "-" + m);
+                    member.setUnidirectTeam(team);
+                    em.persist(member);
+                    ids.add(member.getMemberId());
+                }
+            }
+            return ids;
+        });
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+        try (LookupLoaders loaders = loaderFactory.open()) {
+            List<UnidirectTeam> teams = tx.execute(status -> {
+                em.clear();
+                List<UnidirectMember> members = em.createQuery(
+                                "SELECT m FROM UnidirectMember m WHERE m.memberId IN :ids", UnidirectMember.class)
+                        .setParameter("ids", memberIds)
+                        .getResultList();
+                long statementsBefore = statistics.getPrepareStatementCount();
+                List<CompletableFuture<UnidirectTeam>> futures = members.stream().map(loaders::teamOf).toList();
+                List<UnidirectTeam> loaded = futures.stream().map(CompletableFuture::join).toList();
+
+                assertThat(statistics.getPrepareStatementCount() - statementsBefore).isEqualTo(1);
+                return loaded;
+            });
+
+            assertThat(teams).hasSize(30).doesNotContainNull();
+            assertThat(teams.stream().map(UnidirectTeam::getName).distinct()).hasSize(3);
+            DataLoaderStatistics loaderStatistics = loaders.getStatistics().get("unidirectTeam");
+            assertThat(loaderStatistics.batches()).isEqualTo(1);
+            assertThat(loaderStatistics.savedQueries()).isEqualTo(29);
+        }
+    }
+
+    @Test
+    @DisplayName("DataLoader - ID 매핑 멤버의 teamId 조회와 스코프 캐시")
+    void testIdMappingTeamsMemoized() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Long teamId = tx.execute(status -> {
+            IdMappingTeam team = new IdMappingTeam("loader-id-team");
+            em.persist(team);
+            return team.getTeamId();
+        });
+        IdMappingMember member = new IdMappingMember("loader-id-member", teamId);
+
+        try (LookupLoaders loaders = loaderFactory.open()) {
+            assertThat(loaders.teamOf(member).join().getName()).isEqualTo("loader-id-team");
+            assertThat(loaders.teamOf(member).join().getName()).isEqualTo("loader-id-team");
+            assertThat(loaders.getStatistics().get("idMappingTeam").batches()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("DataLoader - 직원의 부서와 부서의 지역 조회가 각각 한 번의 배치로, 반환 엔티티는 준영속")
+    void testDepartmentAndLocationLoaders() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            Location location = new Location();
+            location.setLocationId(9700);
+            location.setCity("Kraków");
+            location.setCountryId("PL");
+            em.persist(location);
+            em.persist(department(9701, "Loader Sales", 9700));
+            em.persist(department(9702, "Loader Support", 9700));
+            for (int i = 0; i < 6; i++) {
+                em.persist(employee(9710 + i, i % 2 == 0 ? 9701 : 9702));
+            }
+        });
+
+        try (LookupLoaders loaders = loaderFactory.open()) {
+            tx.executeWithoutResult(status -> {
+                List<Employees> employees = em.createQuery(
+                                "SELECT e FROM Employees e WHERE e.employeeId BETWEEN 9710 AND 9715 "
+                                        + "ORDER BY e.employeeId", Employees.class)
+                        .getResultList();
+                List<Department> departments = employees.stream().map(loaders::departmentOf).toList()
+                        .stream().map(CompletableFuture::join).toList();
+
+                assertThat(departments).extracting(Department::getDepartmentName).containsExactly(
+                        "Loader Sales", "Loader Support", "Loader Sales", "Loader Support", "Loader Sales",
+                        "Loader Support");
+                // 배치 스레드의 트랜잭션에서 읽어 호출자의 영속성 컨텍스트에는 없음
+                assertThat(departments).noneMatch(em::contains);
+
+                List<Location> locations = departments.stream().map(loaders::locationOf).toList()
+                        .stream().map(CompletableFuture::join).toList();
+
+                assertThat(locations).extracting(Location::getCity).containsOnly("Kraków");
+                assertThat(locations).noneMatch(em::contains);
+            });
+
+            assertThat(loaders.getStatistics().get("department"))
+                    .extracting(DataLoaderStatistics::batches, DataLoaderStatistics::keysLoaded)
+                    .containsExactly(1L, 2L);
+            assertThat(loaders.getStatistics().get("location"))
+                    .extracting(DataLoaderStatistics::batches, DataLoaderStatistics::keysLoaded)
+                    .containsExactly(1L, 1L);
+        }
+    }
+
+    private static Department department(int id, String name, int locationId) {
+        Department department = new Department();
+        department.setDepartmentId(id);
+        department.setDepartmentName(name);
+        department.setLocationId(locationId);
+        return department;
+    }
+
+    private static Employees employee(int id, int departmentId) {
+        Employees employee = new Employees();
+        employee.setEmployeeId(id);
+        employee.setLastName("Loader" + id);
+        employee.setEmail("LOADER" + id);
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        employee.setJobId("SA_REP");
+        employee.setDepartmentId(departmentId);
+        return employee;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.jpamappings.query;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.jpamappings.idmapping.IdMappingMember;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+/**
+ * 이름 있는 쿼리 워밍업 테스트 클래스
+ * - 부팅 시 모든 @NamedQuery가 워밍업되는지 확인
+ * - 워밍업 이후 첫 실행이 쿼리 플랜 캐시 적중(hit)으로 처리되는지 검증
+ */
+class NamedQueryWarmupTest {
+
+    @Autowired
+    private NamedQueryWarmup warmup;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("워밍업 - 부팅 시 모든 이름 있는 쿼리 처리")
+    void testAllNamedQueriesWarmed() {
+        assertThat(warmup.getWarmedQueries()).contains(
+                UnidirectMember.FIND_ALL,
+                UnidirectMember.FIND_ALL_WITH_TEAM,
+                UnidirectMember.FIND_BY_TEAM_ID,
+                IdMappingMember.FIND_ALL,
+                IdMappingMember.FIND_BY_TEAM_ID);
+    }
+
+    @Test
+    @DisplayName("워밍업 - 워밍업된 쿼리의 첫 실행은 플랜 캐시 적중")
+    void testFirstExecutionHitsPlanCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+        long hitsBefore = statistics.getQueryPlanCacheHitCount();
+        long missesBefore = statistics.getQueryPlanCacheMissCount();
+
+        long started = System.nanoTime();
+        em.createNamedQuery(UnidirectMember.FIND_BY_TEAM_ID, UnidirectMember.class)
+                .setParameter("teamId", 1L)
+                .getResultList();
+        long warmMicros = (System.nanoTime() - started) / 1_000;
+
+        assertThat(statistics.getQueryPlanCacheHitCount()).isGreaterThan(hitsBefore);
+        assertThat(statistics.getQueryPlanCacheMissCount()).isEqualTo(missesBefore);
+
+        // 비교용: 처음 보는 JPQL 문자열은 파싱 + 플랜 생성으로 미스
+        started = System.nanoTime();
+        em.createQuery("SELECT m FROM UnidirectMember m WHERE m.username = :username", UnidirectMember.class)
+                .setParameter("username", "cold")
+                .getResultList();
+        long coldMicros = (System.nanoTime() - started) / 1_000;
+
+        assertThat(statistics.getQueryPlanCacheMissCount()).isGreaterThan(missesBefore);
+        System.out.println("=== 첫 실행 지연: 워밍업된 쿼리 " + warmMicros + "us, 새 JPQL " + coldMicros + "us ===");
+    }
+
+    @Test
+    @DisplayName("워밍업 - 플랜 캐시 지표 노출")
+    void testPlanCacheMetricsExposed() {
+        assertThat(meterRegistry.find("hibernate.cache.query.plan").tag("result", "hit").functionCounter())
+                .isNotNull();
+    }
+}
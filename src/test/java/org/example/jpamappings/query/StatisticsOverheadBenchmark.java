@@ -0,0 +1,85 @@
+package org.example.jpamappings.query;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.JpamappingsApplication;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 통계(hibernate.generate_statistics) 비용 JMH 벤치마크
+ * - statistics=false/true로 같은 요청(읽기 전용 트랜잭션에서 팀 조회 + 이름 있는 쿼리로 멤버 10명 조회)을 비교
+ * - 통계를 켜면 세션 열기/닫기, 트랜잭션, 엔티티 로딩, 쿼리 실행마다 카운터와 쿼리별 통계 맵을 갱신함
+ * - 실행: mvn test-compile 후 main() 실행 (테스트 단계에서는 실행되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticsOverheadBenchmark {
+
+    @Param({"false", "true"})
+    private boolean statistics;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager em;
+    private TransactionTemplate readOnlyTx;
+    private Long teamId;
+
+    @Setup
+    public void setUp() {
+        // 기본 속성(properties())은 application*.properties보다 우선순위가 낮으므로 명령행 인자로 덮어씀
+        context = new SpringApplicationBuilder(JpamappingsApplication.class)
+                .profiles("test")
+                .run("--spring.jpa.show-sql=false", "--jpa.diagnostics.enabled=false",
+                        "--jpa.statistics.enabled=" + statistics, "--logging.level.root=WARN");
+        em = context.getBean(EntityManager.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        teamId = new TransactionTemplate(transactionManager).execute(status -> {
+            UnidirectTeam team = new UnidirectTeam("statistics-team");
+            em.persist(team);
+            for (int i = 0; i < 10; i++) {
+                UnidirectMember member = new UnidirectMember("statistics-member-" + i);
+                member.setUnidirectTeam(team);
+                em.persist(member);
+            }
+            return team.getTeamId();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int findTeamMembers() {
+        return readOnlyTx.execute(status -> {
+            em.find(UnidirectTeam.class, teamId);
+            return em.createNamedQuery(UnidirectMember.FIND_BY_TEAM_ID, UnidirectMember.class)
+                    .setParameter("teamId", teamId)
+                    .getResultList()
+                    .size();
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StatisticsOverheadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.jpamappings.reactive;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.JpamappingsApplication;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 블로킹 JPA 조회 vs R2DBC 조회 부하 비교
+ * - 같은 인메모리 H2 DB에서 "팀 소속 멤버 조회" 요청 N건을 동시성 C로 처리
+ * - 블로킹: 요청마다 스레드 하나가 트랜잭션 + UnidirectMember.FIND_BY_TEAM_ID 실행 (스레드 풀 크기 = C)
+ * - 리액티브: flatMap(…, C)으로 동시 구독 수만 제한, 스레드는 Reactor 스케줄러가 관리
+ * - 처리량(req/s)과 실행 중 최대 스레드 수를 출력
+ * - 실행: mvn test-compile 후 main() 실행 (인자: 요청 수, 동시성 / 테스트 단계에서는 실행되지 않음)
+ * - 주의: H2 R2DBC 드라이버는 내부가 블로킹이라 boundedElastic 스레드를 쓰므로 스레드 절감 효과는
+ *   PostgreSQL 드라이버(Netty 이벤트 루프)에서 측정해야 정확함
+ */
+public class MemberReadLoadComparison {
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JpamappingsApplication.class)
+                .profiles("test")
+                .properties("spring.jpa.show-sql=false", "jpa.diagnostics.enabled=false", "logging.level.root=WARN")
+                .run()) {
+            EntityManager em = context.getBean(EntityManager.class);
+            TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            MemberReadRepository repository = context.getBean(MemberReadRepository.class);
+            List<Long> teamIds = seed(em, tx, 100, 20);
+
+            // 워밍업
+            runBlocking(em, tx, teamIds, 2_000, concurrency);
+            runReactive(repository, teamIds, 2_000, concurrency);
+
+            print("blocking JPA", runBlocking(em, tx, teamIds, requests, concurrency), requests);
+            print("R2DBC", runReactive(repository, teamIds, requests, concurrency), requests);
+        }
+    }
+
+    private static List<Long> seed(EntityManager em, TransactionTemplate tx, int teams, int membersPerTeam) {
+        return tx.execute(status -> {
+            List<Long> ids = new ArrayList<>();
+            for (int t = 0; t < teams; t++) {
+                UnidirectTeam team = new UnidirectTeam("load-team-" + t);
+                em.persist(team);
+                for (int m = 0; m < membersPerTeam; m++) {
+                    UnidirectMember member = new UnidirectMember("load-member-" + t + "-" + m);
+                    member.setUnidirectTeam(team);
+                    em.persist(member);
+                }
+                ids.add(team.getTeamId());
+            }
+            return ids;
+        });
+    }
+
+    private static Result runBlocking(EntityManager em, TransactionTemplate tx, List<Long> teamIds,
+                                      int requests, int concurrency) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long started = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        List<Future<Integer>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            Long teamId = teamIds.get(i % teamIds.size());
+            futures.add(pool.submit(() -> tx.execute(status ->
+                    em.createNamedQuery(UnidirectMember.FIND_BY_TEAM_ID, UnidirectMember.class)
+                            .setParameter("teamId", teamId)
+                            .getResultList()
+                            .size())));
+        }
+        long rows = 0;
+        for (Future<Integer> future : futures) {
+            rows += future.get();
+        }
+        pool.shutdown();
+        return new Result(System.nanoTime() - started, threads.getPeakThreadCount(), rows);
+    }
+
+    private static Result runReactive(MemberReadRepository repository, List<Long> teamIds,
+                                      int requests, int concurrency) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long started = System.nanoTime();
+        Long rows = Flux.range(0, requests)
+                .flatMap(i -> repository.findByTeamId(teamIds.get(i % teamIds.size())).count(), concurrency)
+                .reduce(0L, Long::sum)
+                .block();
+        return new Result(System.nanoTime() - started, threads.getPeakThreadCount(), rows == null ? 0 : rows);
+    }
+
+    private static void print(String name, Result result, int requests) {
+        System.out.printf("%-14s %8.0f req/s  peak threads %4d  rows %d%n",
+                name, requests / (result.nanos() / 1e9), result.peakThreads(), result.rows());
+    }
+
+    private record Result(long nanos, int peakThreads, long rows) {
+    }
+}
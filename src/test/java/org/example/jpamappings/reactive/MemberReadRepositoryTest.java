@@ -0,0 +1,99 @@
+package org.example.jpamappings.reactive;
+
+import jakarta.persistence.EntityManager;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.example.jpamappings.unidirect.UnidirectTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.test.StepVerifier;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+/**
+ * R2DBC 읽기 경로 테스트 클래스
+ * - JPA로 쓴 데이터를 같은 DB에서 R2DBC로 읽는지 확인
+ * - 배압: 구독자가 요청한 만큼만 행이 내려오는지 확인
+ */
+class MemberReadRepositoryTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MemberReadRepository memberReadRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long teamId;
+
+    @BeforeEach
+    void setUp() {
+        teamId = new TransactionTemplate(transactionManager).execute(status -> {
+            UnidirectTeam team = new UnidirectTeam("reactive-team");
+            em.persist(team);
+            for (int i = 0; i < 50; i++) {
+                UnidirectMember member = new UnidirectMember("reactive-member-" + i);
+                member.setUnidirectTeam(team);
+                em.persist(member);
+            }
+            return team.getTeamId();
+        });
+    }
+
+    @Test
+    @DisplayName("R2DBC - JDBC DataSource는 그대로 유지")
+    void testJdbcDataSourceKept() {
+        assertThat(dataSource).isNotNull();
+    }
+
+    @Test
+    @DisplayName("R2DBC - 팀 소속 멤버 조회와 조인 조회")
+    void testFindByTeamId() {
+        StepVerifier.create(memberReadRepository.findByTeamId(teamId).map(MemberView::username))
+                .expectNext("reactive-member-0")
+                .expectNextCount(49)
+                .verifyComplete();
+
+        StepVerifier.create(memberReadRepository.findTeam(teamId))
+                .expectNext(new TeamView(teamId, "reactive-team"))
+                .verifyComplete();
+
+        StepVerifier.create(memberReadRepository.countByTeamId(teamId))
+                .expectNext(50L)
+                .verifyComplete();
+
+        StepVerifier.create(memberReadRepository.findAllWithTeam().filter(member -> teamId.equals(member.teamId())).take(1))
+                .assertNext(member -> assertThat(member.teamName()).isEqualTo("reactive-team"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("R2DBC - 배압: 요청한 만큼만 받고 취소하면 스트림 종료")
+    void testBackpressure() {
+        AtomicInteger emitted = new AtomicInteger();
+
+        StepVerifier.create(memberReadRepository.findByTeamId(teamId).doOnNext(member -> emitted.incrementAndGet()), 5)
+                .expectNextCount(5)
+                .thenRequest(5)
+                .expectNextCount(5)
+                .thenCancel()
+                .verify();
+
+        assertThat(emitted.get()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.jpamappings.reactive;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * R2DBC 읽기 실행기의 커넥션 수 제한 테스트 클래스
+ * - 동시에 많은 구독이 와도 열린 커넥션이 maxConnections를 넘지 않는지 확인
+ * - 허가를 기다리다 취소된 구독이 허가를 잃어버리지 않는지 확인
+ */
+class ReactiveReadClientTest {
+
+    @Test
+    @DisplayName("R2DBC - 동시 구독 20개도 커넥션은 최대 2개만 열고 모두 완료")
+    void testConcurrentQueriesAreBounded() {
+        CountingConnectionFactory connectionFactory = new CountingConnectionFactory(ConnectionFactories.get(
+                "r2dbc:h2:mem:///reactive-client-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1"));
+        ReactiveReadClient client = new ReactiveReadClient(connectionFactory, 16, 2);
+
+        List<Long> counts = Flux.range(0, 20)
+                .flatMap(i -> client.query("SELECT X FROM SYSTEM_RANGE(1, 500)",
+                        row -> row.get(0, Long.class)).count(), 20)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        assertThat(counts).hasSize(20).containsOnly(500L);
+        assertThat(connectionFactory.created.get()).isEqualTo(20);
+        assertThat(connectionFactory.peak.get()).isBetween(1, 2);
+        assertThat(client.availableConnections()).isEqualTo(2);
+        assertThat(client.waitingSubscribers()).isZero();
+    }
+
+    @Test
+    @DisplayName("R2DBC - 허가를 기다리다 취소된 구독은 대기열에서 빠지고 허가는 그대로")
+    void testCancelWhileWaiting() {
+        ConnectionPermits permits = new ConnectionPermits(1);
+        ConnectionPermits held = permits.acquire().block();
+        assertThat(permits.available()).isZero();
+
+        // 허가가 없으므로 대기 → 취소
+        AtomicInteger granted = new AtomicInteger();
+        Disposable waiting = permits.acquire().subscribe(permit -> granted.incrementAndGet());
+        assertThat(permits.waiting()).isEqualTo(1);
+        waiting.dispose();
+        assertThat(permits.waiting()).isZero();
+
+        // 다음 대기자는 반납된 허가를 넘겨받음
+        Mono<ConnectionPermits> next = permits.acquire();
+        Disposable nextWaiting = next.subscribe(permit -> granted.incrementAndGet());
+        held.release();
+        assertThat(granted.get()).isEqualTo(1);
+        assertThat(permits.available()).isZero();
+        nextWaiting.dispose();
+
+        permits.release();
+        assertThat(permits.available()).isEqualTo(1);
+    }
+
+    /**
+     * 만든 커넥션 수와 동시에 열려 있던 최대 커넥션 수를 세는 ConnectionFactory
+     */
+    private static class CountingConnectionFactory implements ConnectionFactory {
+
+        private final ConnectionFactory delegate;
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger open = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        CountingConnectionFactory(ConnectionFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Publisher<? extends Connection> create() {
+            return Mono.from(delegate.create()).map(connection -> {
+                created.incrementAndGet();
+                peak.accumulateAndGet(open.incrementAndGet(), Math::max);
+                return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                        new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                            if (method.getName().equals("close")) {
+                                open.decrementAndGet();
+                            }
+                            return method.invoke(connection, args);
+                        });
+            });
+        }
+
+        @Override
+        public ConnectionFactoryMetadata getMetadata() {
+            return delegate.getMetadata();
+        }
+    }
+}
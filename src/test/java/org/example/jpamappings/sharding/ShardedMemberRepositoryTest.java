@@ -0,0 +1,249 @@
+package org.example.jpamappings.sharding;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.jpamappings.idmapping.IdMappingMember;
+import org.example.jpamappings.idmapping.IdMappingTeam;
+import org.example.jpamappings.unidirect.UnidirectMember;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MEMBER/TEAM 샤딩 테스트 클래스
+ * - 인메모리 H2 데이터베이스 3개를 샤드로 사용 (각각 db/shard/schema.sql 적용)
+ * - 팀과 멤버가 같은 샤드에 저장되는지, 팀 단위 조회가 샤드 하나에서 끝나는지 확인
+ * - 사용자명 조회가 모든 샤드 결과를 정렬 순서대로 병합하여 limit을 지키는지 확인
+ */
+class ShardedMemberRepositoryTest {
+
+    private static final int SHARDS = 3;
+
+    private final String run = "shard-" + System.nanoTime() + "-";
+    private ShardRouter router;
+    private ScatterGather scatterGather;
+    private ShardedMemberRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            DriverManagerDataSource dataSource =
+                    new DriverManagerDataSource("jdbc:h2:mem:" + run + i + ";DB_CLOSE_DELAY=-1", "sa", "");
+            new ResourceDatabasePopulator(ShardingConfig.schema(dataSource)).execute(dataSource);
+            ShardingConfig.verifyUsernameCollation(dataSource);
+            shards.add(Shard.of(i, "shard-" + i, dataSource));
+        }
+        router = new ShardRouter(shards);
+        scatterGather = new ScatterGather(router, SHARDS, Duration.ofSeconds(5));
+        repository = new ShardedMemberRepository(router, scatterGather, new SnowflakeIdGenerator(7));
+    }
+
+    @AfterEach
+    void tearDown() {
+        scatterGather.close();
+        router.shards().forEach(shard -> shard.jdbcTemplate().execute("SHUTDOWN"));
+    }
+
+    @Test
+    @DisplayName("샤딩 - 팀과 멤버는 teamId로 고른 같은 샤드에 저장되고 팀 단위 조회는 그 샤드만 읽음")
+    void testColocatesTeamAndMembers() {
+        List<IdMappingTeam> teams = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            IdMappingTeam team = repository.saveTeam("팀" + i);
+            repository.saveMembers(team.getTeamId(), List.of("회원" + i + "a", "회원" + i + "b"));
+            teams.add(team);
+        }
+
+        // 팀이 샤드에 고르게 퍼짐 (샤드당 기대값 100, 표준편차 약 8.2 → ±40은 약 4.9σ)
+        for (Shard shard : router.shards()) {
+            assertThat(shard.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM team", Integer.class))
+                    .isBetween(60, 140);
+        }
+        // 멤버는 팀과 같은 샤드에만 있음
+        IdMappingTeam team = teams.get(0);
+        Shard home = router.shardFor(team.getTeamId());
+        for (Shard shard : router.shards()) {
+            int members = shard.jdbcTemplate().queryForObject(
+                    "SELECT COUNT(*) FROM member WHERE team_id = ?", Integer.class, team.getTeamId());
+            assertThat(members).isEqualTo(shard == home ? 2 : 0);
+        }
+
+        assertThat(repository.findTeam(team.getTeamId())).get().extracting(IdMappingTeam::getName).isEqualTo("팀0");
+        assertThat(repository.findMembersByTeam(team.getTeamId()))
+                .extracting(IdMappingMember::getUsername)
+                .containsExactly("회원0a", "회원0b");
+        List<UnidirectMember> withTeam = repository.findMembersWithTeam(team.getTeamId());
+        assertThat(withTeam).extracting(m -> m.getUnidirectTeam().getName()).containsExactly("팀0", "팀0");
+        assertThat(withTeam.get(0).getUnidirectTeam()).isSameAs(withTeam.get(1).getUnidirectTeam());
+
+        assertThat(repository.countMembers()).isEqualTo(600);
+        assertThat(repository.deleteTeam(team.getTeamId())).isEqualTo(2);
+        assertThat(repository.findTeam(team.getTeamId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("샤딩 - 사용자명 조회는 모든 샤드를 병렬로 읽어 정렬 순서대로 병합하고 limit을 지킴")
+    void testScatterGatherByUsername() {
+        List<IdMappingMember> kims = new ArrayList<>();
+        List<IdMappingMember> all = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            IdMappingTeam team = repository.saveTeam("팀" + i);
+            List<IdMappingMember> saved = repository.saveMembers(team.getTeamId(),
+                    List.of("kim", "kim_" + (char) ('a' + i % 26) + i, "lee" + i, "kim%" + i));
+            kims.add(saved.get(0));
+            all.addAll(saved);
+        }
+        Set<Integer> shardsWithKim = new HashSet<>();
+        kims.forEach(member -> shardsWithKim.add(router.shardFor(member.getTeamId()).index()));
+        assertThat(shardsWithKim).hasSize(SHARDS);
+
+        // 정확히 일치 - 멤버 ID 순 상위 10명
+        assertThat(repository.findByUsername("kim", 10))
+                .extracting(IdMappingMember::getMemberId)
+                .containsExactlyElementsOf(kims.stream().map(IdMappingMember::getMemberId).sorted().limit(10).toList());
+
+        // 접두사 - 사용자명, 멤버 ID 순 (LIKE 특수 문자는 문자 그대로)
+        List<IdMappingMember> expected = all.stream()
+                .filter(member -> member.getUsername().startsWith("kim_"))
+                .sorted(Comparator.comparing(IdMappingMember::getUsername).thenComparing(IdMappingMember::getMemberId))
+                .limit(12)
+                .toList();
+        assertThat(repository.findByUsernamePrefix("kim_", 12))
+                .extracting(IdMappingMember::getMemberId)
+                .containsExactlyElementsOf(expected.stream().map(IdMappingMember::getMemberId).toList());
+        assertThat(repository.findByUsernamePrefix("kim%", 100)).hasSize(30);
+
+        // 팀을 모르는 기본키 조회
+        IdMappingMember target = all.get(57);
+        assertThat(repository.findMember(target.getMemberId())).get()
+                .extracting(IdMappingMember::getUsername, IdMappingMember::getTeamId)
+                .containsExactly(target.getUsername(), target.getTeamId());
+    }
+
+    @Test
+    @DisplayName("샤딩 - 한 샤드가 timeout 안에 응답하지 않으면 부분 결과 없이 실패")
+    void testScatterGatherTimeout() {
+        try (ScatterGather slow = new ScatterGather(router, SHARDS, Duration.ofMillis(200))) {
+            assertThatThrownBy(() -> slow.forEachShard(shard -> {
+                if (shard.index() == 1) {
+                    try {
+                        Thread.sleep(2_000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return shard.index();
+            })).isInstanceOf(QueryTimeoutException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Snowflake ID - 여러 스레드에서 고유하고 노드/시각을 담으며, 시계가 크게 뒤로 가면 거부")
+    void testSnowflakeIds() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(513);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(executor.submit(() -> {
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.nextId());
+                }
+                return ids;
+            }));
+        }
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            List<Long> perThread = future.get();
+            assertThat(perThread).isSorted();
+            ids.addAll(perThread);
+        }
+        executor.shutdown();
+        assertThat(ids).hasSize(80_000);
+        long id = ids.iterator().next();
+        assertThat(SnowflakeIdGenerator.nodeOf(id)).isEqualTo(513);
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isBetween(
+                Instant.now().minusSeconds(60), Instant.now());
+
+        long[] now = {SnowflakeIdGenerator.EPOCH_MILLIS + 10_000};
+        SnowflakeIdGenerator manual = new SnowflakeIdGenerator(1, () -> now[0]);
+        long first = manual.nextId();
+        now[0] -= 1_000;
+        assertThatThrownBy(manual::nextId).isInstanceOf(IllegalStateException.class);
+        now[0] += 1_000;
+        assertThat(manual.nextId()).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("샤딩 - 점프 일관 해시는 샤드를 하나 늘릴 때 약 1/(N+1)의 팀만 옮김")
+    void testJumpHashMovesFewKeys() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0);
+        int moved = 0;
+        int keys = 10_000;
+        for (int i = 0; i < keys; i++) {
+            long teamId = generator.nextId();
+            int before = ShardRouter.bucket(teamId, 4);
+            int after = ShardRouter.bucket(teamId, 5);
+            if (before != after) {
+                assertThat(after).isEqualTo(4); // 옮겨지는 팀은 새 샤드로만 감
+                moved++;
+            }
+        }
+        assertThat(moved).isBetween(keys / 5 - 400, keys / 5 + 400);
+    }
+
+    @Test
+    @DisplayName("샤딩 설정 - sharding.enabled=true면 샤드 풀, 스키마, 저장소를 구성")
+    void testShardingConfig() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(ShardingConfig.class)
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues("sharding.enabled=true", "sharding.node-id=3",
+                        "sharding.shards[0].url=jdbc:h2:mem:" + run + "cfg0;DB_CLOSE_DELAY=-1",
+                        "sharding.shards[0].username=sa",
+                        "sharding.shards[1].url=jdbc:h2:mem:" + run + "cfg1;DB_CLOSE_DELAY=-1",
+                        "sharding.shards[1].username=sa")
+                .run(context -> {
+                    assertThat(context.getBean(ShardRouter.class).shards()).extracting(Shard::name)
+                            .containsExactly("shard-0", "shard-1");
+                    ShardedMemberRepository sharded = context.getBean(ShardedMemberRepository.class);
+                    IdMappingTeam team = sharded.saveTeam("설정팀");
+                    IdMappingMember member = sharded.saveMember("설정회원", team.getTeamId());
+                    assertThat(SnowflakeIdGenerator.nodeOf(member.getMemberId())).isEqualTo(3);
+                    assertThat(sharded.findByUsername("설정회원", 5)).hasSize(1);
+                });
+    }
+
+    @Test
+    @DisplayName("샤딩 설정 - sharding.node-id가 없으면 기동 실패")
+    void testShardingConfigRequiresNodeId() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(ShardingConfig.class)
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues("sharding.enabled=true",
+                        "sharding.shards[0].url=jdbc:h2:mem:" + run + "nonode;DB_CLOSE_DELAY=-1",
+                        "sharding.shards[0].username=sa")
+                .run(context -> assertThat(context).getFailure()
+                        .hasRootCauseMessage("sharding.enabled=true requires sharding.node-id (0~1023, unique per instance)"));
+    }
+}
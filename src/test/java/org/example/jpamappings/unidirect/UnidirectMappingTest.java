@@ -131,8 +131,7 @@ class UnidirectMappingTest {
         assertThat(foundUnidirectTeam.getName()).isEqualTo("디자인팀");
 
         // Team에서 Member 조회하려면 별도 JPQL 쿼리 필요
-        List<UnidirectMember> members = em.createQuery(
-                        "SELECT m FROM UnidirectMember m WHERE m.unidirectTeam.teamId = :teamId", UnidirectMember.class)
+        List<UnidirectMember> members = em.createNamedQuery(UnidirectMember.FIND_BY_TEAM_ID, UnidirectMember.class)
                 .setParameter("teamId", foundUnidirectTeam.getTeamId())
                 .getResultList();
 
@@ -208,7 +207,7 @@ class UnidirectMappingTest {
 
         // When - N+1 문제 발생 케이스
         System.out.println("=== N+1 문제 발생 케이스 ===");
-        List<UnidirectMember> members = em.createQuery("SELECT m FROM UnidirectMember m", UnidirectMember.class)
+        List<UnidirectMember> members = em.createNamedQuery(UnidirectMember.FIND_ALL, UnidirectMember.class)
                 .getResultList(); // 1번의 Member 조회 쿼리
 
         // 각 Member의 Team 정보 접근 시마다 추가 SELECT 쿼리 실행 (N번)
@@ -220,8 +219,7 @@ class UnidirectMappingTest {
 
         // Then - Fetch Join으로 N+1 문제 해결
         System.out.println("=== Fetch Join으로 해결 ===");
-        List<UnidirectMember> membersWithTeam = em.createQuery(
-                        "SELECT m FROM UnidirectMember m JOIN FETCH m.unidirectTeam", UnidirectMember.class)
+        List<UnidirectMember> membersWithTeam = em.createNamedQuery(UnidirectMember.FIND_ALL_WITH_TEAM, UnidirectMember.class)
                 .getResultList(); // Member와 Team을 한 번의 조인 쿼리로 조회
 
         // Team 정보 접근 시 추가 쿼리 없음 (이미 페치됨)